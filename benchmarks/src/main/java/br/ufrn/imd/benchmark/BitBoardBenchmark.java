@@ -0,0 +1,63 @@
+package br.ufrn.imd.benchmark;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.modelo.BitBoard;
+import br.ufrn.imd.modelo.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link BitBoard} operations, on the 10x10 board it supports.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitBoardBenchmark {
+
+    /**
+     * Number of ships of the fleet.
+     */
+    @Param({"1", "2", "3", "4"})
+    public int navios;
+
+    private BitBoard bits;
+    private int celula;
+
+    /**
+     * Places a new random fleet before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        GameEngine engine = new GameEngine();
+        Player player = engine.getGame().getPlayer1();
+        engine.placeFleet(player, Frotas.tamanhos(navios));
+        bits = BitBoard.from(player.getBoard());
+        celula = 0;
+    }
+
+    @Benchmark
+    public boolean hit() {
+        int c = proximaCelula();
+        return bits.hit(c / 10, c % 10);
+    }
+
+    @Benchmark
+    public int livingShips() {
+        return bits.livingShips();
+    }
+
+    @Benchmark
+    public boolean radar() {
+        int c = proximaCelula();
+        return bits.shipInRow(c / 10) || bits.shipInColumn(c % 10);
+    }
+
+    private int proximaCelula() {
+        celula = celula == 99 ? 0 : celula + 1;
+        return celula;
+    }
+}
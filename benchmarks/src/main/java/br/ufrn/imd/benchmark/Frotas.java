@@ -0,0 +1,24 @@
+package br.ufrn.imd.benchmark;
+
+/**
+ * Helpers shared by the benchmarks to build fleets of a given size.
+ */
+final class Frotas {
+
+    private Frotas() {
+    }
+
+    /**
+     * Returns the sizes of the first ships of the standard fleet (Corvette, Submarine, Frigate, Destroyer).
+     *
+     * @param navios How many ships the fleet has, from 1 to 4.
+     * @return The sizes of the ships.
+     */
+    static int[] tamanhos(int navios) {
+        int[] tamanhos = new int[navios];
+        for (int i = 0; i < navios; i++) {
+            tamanhos[i] = i + 2;
+        }
+        return tamanhos;
+    }
+}
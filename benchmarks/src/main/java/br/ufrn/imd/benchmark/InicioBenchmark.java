@@ -0,0 +1,122 @@
+package br.ufrn.imd.benchmark;
+
+import br.ufrn.imd.visao.Main;
+import javafx.application.Application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cold start benchmark of the game window: the time from the start of the JVM to the first frame
+ * and to the boards being ready.
+ * <p>
+ * A cold start cannot be measured inside a warmed-up JMH fork, so every run launches a new JVM
+ * with {@code -Dbatalhanaval.medeInicio=true}, which makes {@link Main} print both times and exit.
+ * The report gives the minimum, median and maximum of each time and compares the median of the
+ * first frame with the 300 ms target. A display is needed.
+ * </p>
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar br.ufrn.imd.benchmark.InicioBenchmark [execucoes] [cena] [renderer]
+ * </pre>
+ * The scene is {@code codigo} (the default) or {@code fxml}, and the renderer {@code grid} or {@code canvas}.
+ */
+public class InicioBenchmark {
+    private static final long META_MS = 300;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args number of runs, scene and renderer.
+     * @throws IOException If a run cannot be started.
+     * @throws InterruptedException If interrupted while waiting for a run.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int execucoes = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        String cena = args.length > 1 ? args[1] : "codigo";
+        String renderer = args.length > 2 ? args[2] : "grid";
+
+        long[] quadros = new long[execucoes];
+        long[] tabuleiros = new long[execucoes];
+        for (int i = 0; i < execucoes; i++) {
+            long[] tempos = executa(cena, renderer);
+            quadros[i] = tempos[0];
+            tabuleiros[i] = tempos[1];
+        }
+        System.out.printf("Cena %s, renderer %s, %d execuções%n", cena, renderer, execucoes);
+        imprime("Primeiro quadro", quadros);
+        imprime("Tabuleiros prontos", tabuleiros);
+        long mediana = mediana(quadros);
+        System.out.printf("Meta de %d ms para o primeiro quadro: %s%n", META_MS,
+                mediana <= META_MS ? "atingida" : "não atingida");
+    }
+
+    /**
+     * Launches the game in a new JVM and reads the times it prints.
+     */
+    private static long[] executa(String cena, String renderer) throws IOException, InterruptedException {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        List<String> comando = new ArrayList<>(List.of(java.toString(),
+                "-Dbatalhanaval.medeInicio=true",
+                "-Dbatalhanaval.cena=" + cena,
+                "-Dbatalhanaval.renderer=" + renderer,
+                "-cp", System.getProperty("java.class.path"),
+                Janela.class.getName()));
+        Process processo = new ProcessBuilder(comando).redirectErrorStream(true).start();
+        long[] tempos = {-1, -1};
+        List<String> saida = new ArrayList<>();
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(processo.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                saida.add(linha);
+                if (linha.startsWith("Primeiro quadro: ")) {
+                    tempos[0] = milissegundos(linha);
+                } else if (linha.startsWith("Tabuleiros prontos: ")) {
+                    tempos[1] = milissegundos(linha);
+                }
+            }
+        }
+        if (processo.waitFor() != 0 || tempos[0] < 0 || tempos[1] < 0) {
+            throw new IllegalStateException("A execução falhou:\n" + String.join("\n", saida));
+        }
+        return tempos;
+    }
+
+    private static long milissegundos(String linha) {
+        return Long.parseLong(linha.substring(linha.indexOf(':') + 1, linha.lastIndexOf(" ms")).trim());
+    }
+
+    private static void imprime(String nome, long[] tempos) {
+        long[] ordenados = tempos.clone();
+        Arrays.sort(ordenados);
+        System.out.printf("%-20s min=%d ms mediana=%d ms max=%d ms%n", nome, ordenados[0], mediana(tempos),
+                ordenados[ordenados.length - 1]);
+    }
+
+    private static long mediana(long[] tempos) {
+        long[] ordenados = tempos.clone();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2];
+    }
+
+    /**
+     * Starts the game from the class path. JavaFX refuses a main class extending
+     * {@link Application} outside of the module path, so the launch goes through this class.
+     */
+    public static class Janela {
+        /**
+         * Launches {@link Main}.
+         *
+         * @param args ignored.
+         */
+        public static void main(String[] args) {
+            Application.launch(Main.class, args);
+        }
+    }
+}
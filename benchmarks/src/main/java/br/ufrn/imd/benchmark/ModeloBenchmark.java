@@ -0,0 +1,170 @@
+package br.ufrn.imd.benchmark;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.modelo.AttackPattern;
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.CellButton;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.PlacementTable;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.Ship;
+import br.ufrn.imd.modelo.ShipType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the model operations used on every shot: hits, sunk detection, attack shapes and radar,
+ * and of the placement table checking a placement and listing the legal anchors.
+ * <p>
+ * {@link #hitCells()} and {@link #buscarCellNavio()} walk the board one cell per call, so every call
+ * hits a cell not hit before. Once every cell was hit the fleet is put back on a clean board at
+ * the same cells; that cost is spread over the {@code tamanho * tamanho} calls of the pass.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModeloBenchmark {
+
+    /**
+     * Number of ships of the fleet.
+     */
+    @Param({"1", "2", "3", "4"})
+    public int navios;
+
+    /**
+     * Number of rows and columns of the board.
+     */
+    @Param({"10", "100", "1000"})
+    public int tamanho;
+
+    private GameEngine engine;
+    private Player player;
+    private Board board;
+    private Ship ship;
+    private PlacementTable tabela;
+    private int celula;
+    private int tiro;
+    private ShipType[] tipos;
+    private int[] linhas;
+    private int[] colunas;
+    private boolean[] deitados;
+    private final int[] alvos = new int[AttackPattern.MAX_CELULAS];
+
+    /**
+     * Places a new random fleet before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        engine = new GameEngine(new Game(tamanho, tamanho));
+        player = engine.getGame().getPlayer1();
+        engine.placeFleet(player, Frotas.tamanhos(navios));
+        board = player.getBoard();
+        ship = board.getShips().get(navios - 1);
+        tabela = board.getTabela();
+        celula = 0;
+        tiro = 0;
+
+        List<Ship> frota = board.getShips();
+        tipos = new ShipType[frota.size()];
+        linhas = new int[frota.size()];
+        colunas = new int[frota.size()];
+        deitados = new boolean[frota.size()];
+        for (int i = 0; i < frota.size(); i++) {
+            List<CellButton> posicao = frota.get(i).getPosition();
+            tipos[i] = frota.get(i).getTipo();
+            linhas[i] = posicao.get(0).getRow();
+            colunas[i] = posicao.get(0).getCol();
+            deitados[i] = posicao.get(1).getRow() == linhas[i];
+        }
+    }
+
+    @Benchmark
+    public Ship hitCells() {
+        int c = proximoTiro();
+        return board.hitCells(c / tamanho, c % tamanho);
+    }
+
+    @Benchmark
+    public void buscarCellNavio() {
+        int c = proximoTiro();
+        board.buscarCellNavio(c % tamanho, c / tamanho);
+    }
+
+    @Benchmark
+    public boolean isAlive() {
+        return ship.isAlive();
+    }
+
+    @Benchmark
+    public List<CellButton> attack() {
+        int c = proximaCelula();
+        return ship.attack(c / tamanho, c % tamanho);
+    }
+
+    @Benchmark
+    public int attackPattern() {
+        int c = proximaCelula();
+        return ship.getAttackPattern().apply(c / tamanho, c % tamanho, tamanho, tamanho, alvos);
+    }
+
+    @Benchmark
+    public boolean radarBoard() {
+        int c = proximaCelula();
+        int row = c / tamanho;
+        int col = c % tamanho;
+        for (int i = 0; i < tamanho; i++) {
+            CellButton naLinha = board.getCell(row, i);
+            CellButton naColuna = board.getCell(i, col);
+            if ((naLinha.getState() == CellButton.State.SHIP && !naLinha.isHit())
+                    || (naColuna.getState() == CellButton.State.SHIP && !naColuna.isHit())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean radarContadores() {
+        int c = proximaCelula();
+        return board.shipInRow(c / tamanho) || board.shipInColumn(c % tamanho);
+    }
+
+    @Benchmark
+    public boolean isLivre() {
+        int c = proximaCelula();
+        return tabela.isLivre(5, (c & 1) == 0, c / tamanho, c % tamanho);
+    }
+
+    @Benchmark
+    public long[] ancoras() {
+        CellButton cell = ship.getPosition().get(0);
+        tabela.ocupa(cell.getRow(), cell.getCol());
+        return tabela.getAncoras(5, true);
+    }
+
+    /**
+     * Returns the next cell not hit yet, putting the fleet back on a clean board once every cell was hit.
+     */
+    private int proximoTiro() {
+        if (tiro == tamanho * tamanho) {
+            player.reset();
+            for (int i = 0; i < tipos.length; i++) {
+                engine.posiciona(player, player.novoNavio(tipos[i]), linhas[i], colunas[i], deitados[i]);
+            }
+            ship = board.getShips().get(navios - 1);
+            tiro = 0;
+        }
+        return tiro++;
+    }
+
+    private int proximaCelula() {
+        celula = celula == tamanho * tamanho - 1 ? 0 : celula + 1;
+        return celula;
+    }
+}
@@ -0,0 +1,228 @@
+package br.ufrn.imd.benchmark;
+
+import br.ufrn.imd.controle.CelulaInvalidaException;
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.controle.PlacementGenerator;
+import br.ufrn.imd.controle.RadarReading;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.ia.HuntTargetStrategy;
+import br.ufrn.imd.ia.ProbabilityStrategy;
+import br.ufrn.imd.ia.ShotStrategy;
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.Ship;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of whole game steps run through the {@link GameEngine}: fleet placement (on a board
+ * and as a bare layout), aiming the whole fleet again, a full turn (what the Shoot button
+ * triggers), a move of each computer strategy and a complete match between two computer players,
+ * played on a new engine or on the engine of the setup reset in place.
+ * <p>
+ * The state read by the benchmarks is built once per iteration. The strategies are first played
+ * into the middle of a match, so their moves are measured in hunt and target mode rather than on
+ * an empty board. A turn and a match use up the engine they run on, so they run over a batch of
+ * {@link Prontas#LOTE} engines prepared outside of the measurement. JMH then reports the time per
+ * engine, and its per-invocation overhead is shared by the whole batch.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnoBenchmark {
+    private static final int MAX_TURNOS = 1000;
+
+    /**
+     * Number of ships of each fleet.
+     */
+    @Param({"1", "2", "3", "4"})
+    public int navios;
+
+    /**
+     * Number of rows and columns of the boards. Matches stop after {@link #MAX_TURNOS} turns, so
+     * on the larger boards the match benchmark measures that limit rather than a finished match.
+     */
+    @Param({"10", "100"})
+    public int tamanho;
+
+    private GameEngine engine;
+    private int[] tamanhos;
+    private ShotStrategy estrategia1;
+    private ShotStrategy estrategia2;
+    private ShotStrategy cacador;
+    private PlacementGenerator gerador;
+    private GameRandom random;
+    private int colunaMira;
+
+    /**
+     * Engines with both fleets placed and every ship of the player aimed, rebuilt before each
+     * invocation and used up by it.
+     */
+    @State(Scope.Thread)
+    public static class Prontas {
+        /**
+         * Engines used by one invocation.
+         */
+        static final int LOTE = 32;
+
+        private final GameEngine[] engines = new GameEngine[LOTE];
+
+        /**
+         * Prepares the engines of the next invocation.
+         *
+         * @param turno The benchmark, with the fleet and board size.
+         * @throws CelulaInvalidaException never, all ships aim at distinct cells of a new board.
+         */
+        @Setup(Level.Invocation)
+        public void prepara(TurnoBenchmark turno) throws CelulaInvalidaException {
+            for (int i = 0; i < LOTE; i++) {
+                engines[i] = turno.novaPartida();
+            }
+        }
+    }
+
+    /**
+     * Builds the state shared by the benchmarks, with the strategies played into the middle of a match.
+     *
+     * @throws CelulaInvalidaException never, all ships aim at distinct cells of a new board.
+     */
+    @Setup(Level.Iteration)
+    public void setup() throws CelulaInvalidaException {
+        tamanhos = Frotas.tamanhos(navios);
+        random = new GameRandom(3);
+        engine = novaPartida();
+        estrategia1 = new ProbabilityStrategy(new SplittableRandom(1));
+        estrategia2 = new ProbabilityStrategy(new SplittableRandom(2));
+        cacador = new HuntTargetStrategy(new SplittableRandom(4));
+        Board alvo = engine.getGame().getPlayer2().getBoard();
+        Ship atirador = engine.getGame().getPlayer1().getBoard().getShips().get(0);
+        avanca(estrategia1, alvo, atirador);
+        avanca(cacador, alvo, atirador);
+        gerador = new PlacementGenerator(tamanho, tamanho);
+        colunaMira = 1;
+    }
+
+    /**
+     * Starts a new match with both fleets placed and every ship of the player aimed.
+     */
+    GameEngine novaPartida() throws CelulaInvalidaException {
+        GameEngine nova = new GameEngine(new Game(tamanho, tamanho, random.split()));
+        nova.placeFleet(nova.getGame().getPlayer1(), tamanhos);
+        nova.placeFleet(nova.getGame().getPlayer2(), tamanhos);
+        int alvo = 0;
+        for (Ship ship : nova.getGame().getPlayer1().getBoard().getShips()) {
+            nova.aim(ship, 2 * alvo + 1, 1);
+            alvo++;
+        }
+        return nova;
+    }
+
+    /**
+     * Plays a strategy against a board, one cell per shot, until a quarter of the cells are shot
+     * or half of the ship cells are hit, without sinking anything.
+     */
+    private void avanca(ShotStrategy estrategia, Board alvo, Ship atirador) {
+        estrategia.reset(tamanho, tamanho, tamanhos);
+        int celulasNavio = 0;
+        for (int tamanhoNavio : tamanhos) {
+            celulasNavio += tamanhoNavio;
+        }
+        boolean[] atiradas = new boolean[tamanho * tamanho];
+        int acertos = 0;
+        for (int tiro = 0; tiro < tamanho * tamanho / 4 && 2 * acertos < celulasNavio; tiro++) {
+            int celula = estrategia.nextShot(atirador);
+            if (celula < 0 || atiradas[celula]) {
+                break;
+            }
+            atiradas[celula] = true;
+            boolean acerto = alvo.getShipAt(celula / tamanho, celula % tamanho) != null;
+            estrategia.onShot(celula / tamanho, celula % tamanho, acerto);
+            if (acerto) {
+                acertos++;
+            }
+        }
+    }
+
+    @Benchmark
+    public Player placeFleet() {
+        Player player = new Player(tamanho, tamanho);
+        engine.placeFleet(player, tamanhos);
+        return player;
+    }
+
+    @Benchmark
+    public int[] sorteiaFrota() {
+        return gerador.sorteia(tamanhos, random);
+    }
+
+    /**
+     * Aims every ship again, alternating between two columns so no ship aims at a cell still aimed.
+     */
+    @Benchmark
+    public boolean mirarFrota() throws CelulaInvalidaException {
+        colunaMira = 6 - colunaMira;
+        int alvo = 0;
+        for (Ship ship : engine.getGame().getPlayer1().getBoard().getShips()) {
+            engine.aim(ship, 2 * alvo + 1, colunaMira);
+            alvo++;
+        }
+        return engine.allAimed();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Prontas.LOTE)
+    public int resolveTurn(Prontas prontas) {
+        int leituras = 0;
+        for (GameEngine pronta : prontas.engines) {
+            List<RadarReading> radar = pronta.resolveTurn();
+            leituras += radar.size();
+        }
+        return leituras;
+    }
+
+    @Benchmark
+    public int nextShot() {
+        Ship atirador = engine.getGame().getPlayer2().getBoard().getShips().get(0);
+        return estrategia1.nextShot(atirador);
+    }
+
+    @Benchmark
+    public int nextShotCacador() {
+        Ship atirador = engine.getGame().getPlayer2().getBoard().getShips().get(0);
+        return cacador.nextShot(atirador);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Prontas.LOTE)
+    public int partida(Prontas prontas) {
+        int turnos = 0;
+        for (GameEngine pronta : prontas.engines) {
+            turnos += pronta.playMatch(estrategia1, estrategia2, MAX_TURNOS);
+        }
+        return turnos;
+    }
+
+    @Benchmark
+    public int partidaNova() {
+        GameEngine nova = new GameEngine(new Game(tamanho, tamanho, random.split()));
+        nova.placeFleet(nova.getGame().getPlayer1(), tamanhos);
+        nova.placeFleet(nova.getGame().getPlayer2(), tamanhos);
+        return nova.playMatch(estrategia1, estrategia2, MAX_TURNOS);
+    }
+
+    @Benchmark
+    public int partidaReiniciada() {
+        engine.reset(random.split());
+        engine.placeFleet(engine.getGame().getPlayer1(), tamanhos);
+        engine.placeFleet(engine.getGame().getPlayer2(), tamanhos);
+        return engine.playMatch(estrategia1, estrategia2, MAX_TURNOS);
+    }
+}
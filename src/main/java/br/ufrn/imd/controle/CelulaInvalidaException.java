@@ -4,6 +4,7 @@ package br.ufrn.imd.controle;
  * Exception lançada quando ocorre uma tentativa inválida de posicionar um navio em uma célula já ocupada.
  */
 public class CelulaInvalidaException extends Exception {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Construtor que recebe uma mensagem de erro específica.
@@ -1,25 +1,46 @@
 package br.ufrn.imd.controle;
 
+import br.ufrn.imd.metricas.Metricas;
 import br.ufrn.imd.modelo.*;
+import br.ufrn.imd.registro.MatchLogWriter;
+import br.ufrn.imd.visao.BoardRenderer;
+import br.ufrn.imd.visao.CanvasBoardRenderer;
+import br.ufrn.imd.visao.GridPaneRenderer;
+import br.ufrn.imd.visao.NodeRegistry;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Label;
-import javafx.scene.input.MouseEvent;
 import javafx.scene.control.Button;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
-import java.util.Random;
-import org.apache.commons.math3.random.RandomDataGenerator;
 
 /**
  * Controller class for managing the game interface and interactions.
  * Handles initialization, grid creation, and game event handling.
+ * The game rules themselves live in the {@link GameEngine}, and the clicks and buttons are turned
+ * into engine calls by a {@link TurnStateMachine}, which reports back to this controller.
+ * <p>
+ * The boards are drawn as a grid of styled rectangles by default. Starting the game with
+ * {@code -Dbatalhanaval.renderer=canvas} draws each board on a single canvas instead. Either way the
+ * boards are only built once the first frame is on screen, so the window shows up without waiting
+ * for their nodes. {@code -Dbatalhanaval.semente=<n>} fixes the seed of the match so it can be reproduced.
+ * {@code -Dbatalhanaval.registro=<arquivo>} appends the events of the match to a binary log that
+ * can be read by {@link br.ufrn.imd.registro.MatchReplayer}, and {@code -Dbatalhanaval.metricas=<arquivo>}
+ * publishes the {@link Metricas} through JMX and dumps them to a text file every ten seconds.
+ * </p>
  */
-public class Controller {
+public final class Controller implements TurnListener {
 
     @FXML
     private AnchorPane gamePane;
@@ -34,56 +55,145 @@ public class Controller {
     @FXML
     private Label labelRadar;
 
+    private GameEngine engine;
     private Game game;
-    private String estado;
-    private boolean deitado;
-    private List<CellButton> radar;
-    private String vencedor;
-
-    // Variables for targeting player's ships
-    private List<CellButton> alvosMiradosCorveta;
-    private List<CellButton> alvosMiradosSubmarino;
-    private List<CellButton> alvosMiradosFragata;
-    private List<CellButton> alvosMiradosDestroyer;
+    private TurnStateMachine maquina;
+    private BoardRenderer rendererJogador;
+    private BoardRenderer rendererPc;
+    private MatchLogWriter registro;
 
     /**
      * Constructor for the Controller class.
      * Initializes game state and other attributes.
      */
     public Controller() {
-        game = new Game();
-        estado = "clique";
-        deitado = true;
-        radar = new ArrayList<>();
-        alvosMiradosCorveta = new ArrayList<>();
-        alvosMiradosSubmarino = new ArrayList<>();
-        alvosMiradosFragata = new ArrayList<>();
-        alvosMiradosDestroyer = new ArrayList<>();
-        vencedor = "ninguem";
+        engine = new GameEngine(new Game(10, 10, gerador(System.getProperty("batalhanaval.semente"))));
+        game = engine.getGame();
+        maquina = new TurnStateMachine(engine, this);
+        String arquivo = System.getProperty("batalhanaval.registro");
+        if (arquivo != null) {
+            try {
+                registro = new MatchLogWriter(Path.of(arquivo));
+                engine.setRegistro(registro);
+            } catch (IOException e) {
+                System.err.println("Não foi possível abrir o registro " + arquivo + ": " + e.getMessage());
+                registro = null;
+            }
+        }
+        String metricas = System.getProperty("batalhanaval.metricas");
+        if (metricas != null) {
+            Metricas.registraJmx();
+            Metricas.iniciaRelatorio(Path.of(metricas), Duration.ofSeconds(10));
+        }
+    }
+
+    /**
+     * Returns the generator of the match: seeded with the given seed, or with an arbitrary one if
+     * there is none or it is not a number, which is reported on the standard error.
+     */
+    private static GameRandom gerador(String semente) {
+        if (semente == null) {
+            return new GameRandom();
+        }
+        try {
+            return new GameRandom(Long.parseLong(semente.trim()));
+        } catch (NumberFormatException e) {
+            System.err.println("Semente inválida: " + semente + "; usando uma semente aleatória");
+            return new GameRandom();
+        }
+    }
+
+    /**
+     * Connects the controller to a scene built in code instead of loaded from FXML, then
+     * initializes it.
+     *
+     * @param gamePane The root pane.
+     * @param playerGrid The grid receiving the player's board.
+     * @param computerGrid The grid receiving the computer's board.
+     * @param startGameButton The button starting the battle.
+     * @param label The label with the messages for the player.
+     * @param labelRadar The label with the radar readings.
+     */
+    public void conecta(AnchorPane gamePane, GridPane playerGrid, GridPane computerGrid, Button startGameButton,
+                        Label label, Label labelRadar) {
+        this.gamePane = gamePane;
+        this.playerGrid = playerGrid;
+        this.computerGrid = computerGrid;
+        this.startGameButton = startGameButton;
+        this.label = label;
+        this.labelRadar = labelRadar;
+        initialize();
     }
 
     /**
      * Initializes the game interface.
-     * Sets styles, creates grids, and defines event handlers.
+     * Sets styles and event handlers, and schedules the creation of the grids after the first frame.
      */
     @FXML
     public void initialize() {
         gamePane.setStyle("-fx-background-color: #B9D9EB;");
-        createGrid(playerGrid,"jogador");
-        createGrid(computerGrid, "computador");
-
-        startGameButton.setOnAction(event -> {
-            try {
-                handleStartGame();
-            } catch (CelulaInvalidaException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        startGameButton.setOnAction(event -> maquina.inicia());
 
         // Handles right-click event on the gamePane
         gamePane.setOnMousePressed(event -> {
             if (event.isSecondaryButtonDown()) {
-                alternarOrientacaoNavio();
+                maquina.alternaOrientacao();
+            }
+        });
+
+        if (gamePane.getScene() != null) {
+            aguardaPrimeiroQuadro(gamePane.getScene());
+        } else {
+            gamePane.sceneProperty().addListener(new ChangeListener<Scene>() {
+                @Override
+                public void changed(ObservableValue<? extends Scene> valor, Scene antiga, Scene nova) {
+                    if (nova != null) {
+                        gamePane.sceneProperty().removeListener(this);
+                        aguardaPrimeiroQuadro(nova);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the grids of both boards and draws them. Does nothing if they were already created.
+     */
+    public void criaTabuleiros() {
+        if (rendererJogador != null) {
+            return;
+        }
+        if ("canvas".equals(System.getProperty("batalhanaval.renderer"))) {
+            rendererJogador = createCanvas(playerGrid, "jogador");
+            rendererPc = createCanvas(computerGrid, "computador");
+        } else {
+            rendererJogador = new GridPaneRenderer(createGrid(playerGrid, "jogador"), true);
+            rendererPc = new GridPaneRenderer(createGrid(computerGrid, "computador"), false);
+        }
+        updateBoard(game.getPlayer1().getBoard());
+        updateBoard(game.getPlayer2().getBoard());
+    }
+
+    /**
+     * Creates the grids once the scene laid out its first frame. The listener is removed outside of
+     * the pulse that calls it.
+     *
+     * @param scene The scene of the game.
+     */
+    private void aguardaPrimeiroQuadro(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean agendado;
+
+            @Override
+            public void run() {
+                if (agendado) {
+                    return;
+                }
+                agendado = true;
+                Platform.runLater(() -> {
+                    scene.removePostLayoutPulseListener(this);
+                    criaTabuleiros();
+                });
             }
         });
     }
@@ -94,786 +204,154 @@ public class Controller {
      *
      * @param grid The GridPane to be created.
      * @param gridType The type of grid (player or computer).
+     * @return The registry of the cells' nodes.
      */
-    private void createGrid(GridPane grid, String gridType) {
+    private NodeRegistry createGrid(GridPane grid, String gridType) {
         Board board1;
         if (gridType.equals("jogador")){
             board1 = game.getPlayer1().getBoard();
         } else {
             board1 = game.getPlayer2().getBoard();
         }
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
+        NodeRegistry nodes = new NodeRegistry(board1.getLinhas(), board1.getColunas());
+        for (int row = 0; row < board1.getLinhas(); row++) {
+            for (int col = 0; col < board1.getColunas(); col++) {
                 Rectangle cell = new Rectangle (30,30);
                 cell.getStyleClass().add("cell");
                 grid.add(cell, col, row);
-
-                CellButton cellButton = board1.getCell(row, col);
-                cellButton.setNode(cell);
+                nodes.register(row, col, cell);
 
                 cell.setOnMouseClicked(event -> {
-                    try {
-                        handleCellClick(event, gridType);
-                    } catch (CelulaInvalidaException e) {
-                        updateLabel(e.getMessage());
-                        System.out.println(e.getMessage());
+                    Node clickedNode = event.getPickResult().getIntersectedNode();
+                    if (clickedNode != null) {
+                        handleCellClick(GridPane.getRowIndex(clickedNode), GridPane.getColumnIndex(clickedNode), gridType);
                     }
                 });
             }
         }
+        return nodes;
     }
 
     /**
-     * Handles cell click events during various game states.
+     * Creates a canvas that draws a whole board and places it in the grid.
+     * Sets up the event handler for cell clicks.
      *
-     * @param event The mouse click event.
+     * @param grid The GridPane that will hold the canvas.
      * @param gridType The type of grid (player or computer).
-     * @throws CelulaInvalidaException If an invalid cell is clicked.
+     * @return The renderer drawing the board on the canvas.
      */
-    private void handleCellClick(MouseEvent event, String gridType) throws CelulaInvalidaException {
-        Node clickedNode = event.getPickResult().getIntersectedNode();
-        if (clickedNode != null) {
-            int coluna = GridPane.getColumnIndex(clickedNode);
-            int fileira = GridPane.getRowIndex(clickedNode);
-
-            boolean sucessoPosicao;
-            CellButton celIni;
-            Board board1;
-            if (gridType.equals("jogador")){
-                celIni = game.getPlayer1().getBoard().getCell(fileira, coluna);
-                board1 = game.getPlayer1().getBoard();
-            } else {
-                celIni = game.getPlayer2().getBoard().getCell(fileira, coluna);
-                board1 = game.getPlayer2().getBoard();
+    private BoardRenderer createCanvas(GridPane grid, String gridType) {
+        CanvasBoardRenderer renderer = new CanvasBoardRenderer(new Canvas(), 30, gridType.equals("jogador"));
+        grid.add(renderer.getCanvas(), 0, 0);
+        renderer.getCanvas().setOnMouseClicked(event -> {
+            int fileira = renderer.getRow(event.getY());
+            int coluna = renderer.getCol(event.getX());
+            if (fileira >= 0 && coluna >= 0) {
+                handleCellClick(fileira, coluna, gridType);
             }
-
-            List<CellButton> posicoesNavio = new ArrayList<>();
-
-            switch (estado) {
-                case "clique":
-                    System.out.println("Célula clicada em: [" + fileira + ", " + coluna + "] no grid: " + gridType);
-                    updateLabel("Célula clicada em: [" + fileira + ", " + coluna + "] no grid: " + gridType);
-                    break;
-                case "posicionarCorveta":
-                    if (gridType.equals("jogador")){
-                        updateLabel("Posicione sua Corveta");
-                        posicoesNavio.add(celIni);
-                        sucessoPosicao = adicionarPosicoesNavio(celIni, posicoesNavio, 2);
-                        Ship corveta = new Corvette();
-                        try {
-                            if (sucessoPosicao){
-                                corveta.setPosition(posicoesNavio);
-                                game.getPlayer1().placeShip(corveta, celIni);
-                                updateBoard(board1);
-                            }
-                        } catch (CelulaInvalidaException e){
-                            desfazerNavio1(corveta);
-                            updateBoard(board1);
-                            updateLabel(e.getMessage());
-                            System.out.println(e.getMessage());
-                        }
-                    }
-                    estado = "clique";
-                    break;
-                case "posicionarSubmarino":
-                    if (gridType.equals("jogador")){
-                        updateLabel("Posicione seu Submarino");
-                        posicoesNavio.add(celIni);
-                        sucessoPosicao = adicionarPosicoesNavio(celIni, posicoesNavio, 3);
-                        Ship submarino = new Submarine();
-                        try {
-                            if (sucessoPosicao){
-                                submarino.setPosition(posicoesNavio);
-                                game.getPlayer1().placeShip(submarino, celIni);
-                                updateBoard(board1);
-                            }
-                        } catch (CelulaInvalidaException e){
-                            desfazerNavio1(submarino);
-                            updateBoard(board1);
-                            updateLabel(e.getMessage());
-                            System.out.println(e.getMessage());
-                        }
-                    }
-                    estado = "clique";
-                    break;
-                case "posicionarFragata":
-                    if (gridType.equals("jogador")){
-                        updateLabel("Posicione sua Fragata");
-                        posicoesNavio.add(celIni);
-                        sucessoPosicao = adicionarPosicoesNavio(celIni, posicoesNavio, 4);
-                        Ship fragata = new Frigate();
-                        try {
-                            if (sucessoPosicao){
-                                fragata.setPosition(posicoesNavio);
-                                game.getPlayer1().placeShip(fragata, celIni);
-                                updateBoard(board1);
-                            }
-                        } catch (CelulaInvalidaException e){
-                            desfazerNavio1(fragata);
-                            updateBoard(board1);
-                            updateLabel(e.getMessage());
-                            System.out.println(e.getMessage());
-                        }
-                    }
-                    estado = "clique";
-                    break;
-                case "posicionarDestroyer":
-                    if (gridType.equals("jogador")){
-                        updateLabel("Posicione seu Destroyer");
-                        posicoesNavio.add(celIni);
-                        sucessoPosicao = adicionarPosicoesNavio(celIni, posicoesNavio, 5);
-                        Ship destroyer = new Destroyer();
-                        try {
-                            if (sucessoPosicao){
-                                destroyer.setPosition(posicoesNavio);
-                                game.getPlayer1().placeShip(destroyer, celIni);
-                                updateBoard(board1);
-                            }
-                        } catch (CelulaInvalidaException e){
-                            desfazerNavio1(destroyer);
-                            updateBoard(board1);
-                            updateLabel(e.getMessage());
-                            System.out.println(e.getMessage());
-                        }
-                    }
-                    estado = "clique";
-                    break;
-                case "selecionarAlvosCorveta":
-                    if (gridType.equals("computador")){
-                        selecionarAlvos("Corveta", alvosMiradosCorveta, fileira, coluna);
-                        radar.add(game.getPlayer2().getBoard().getCell(fileira,coluna));
-                        estado = "selecionarAlvos";
-                    }
-                    break;
-                case "selecionarAlvosSubmarino":
-                    if (gridType.equals("computador")){
-                        selecionarAlvos("Submarino", alvosMiradosSubmarino, fileira, coluna);
-                        radar.add(game.getPlayer2().getBoard().getCell(fileira,coluna));
-                        estado = "selecionarAlvos";
-                    }
-                    break;
-                case "selecionarAlvosFragata":
-                    if (gridType.equals("computador")){
-                        selecionarAlvos("Fragata", alvosMiradosFragata, fileira, coluna);
-                        radar.add(game.getPlayer2().getBoard().getCell(fileira,coluna));
-                        estado = "selecionarAlvos";
-                    }
-                    break;
-                case "selecionarAlvosDestroyer":
-                    if (gridType.equals("computador")){
-                        selecionarAlvos("Destroyer", alvosMiradosDestroyer, fileira, coluna);
-                        radar.add(game.getPlayer2().getBoard().getCell(fileira,coluna));
-                        estado = "selecionarAlvos";
-                    }
-                    break;
-            }
-        }
+        });
+        return renderer;
     }
+
     /**
-     * Handles the usage of the Corvette button for positioning and attacking with it.
+     * Handles cell click events by forwarding them to the state machine.
      *
-     * @throws InterruptedException if the thread is interrupted while sleeping
+     * @param fileira The row of the clicked cell.
+     * @param coluna The column of the clicked cell.
+     * @param gridType The type of grid (player or computer).
      */
-    public void handleCorveta() throws InterruptedException {
-        boolean isAlive = true;
-        boolean excluido = true;
-        List<Ship> ships = game.getPlayer1().getBoard().getShips();
-        for (Ship ship : ships) {
-            if (ship instanceof Corvette) {
-                isAlive = ship.isAlive();
-                excluido = false;
-            }
-        }
-        if (excluido){isAlive = false;}
-
-        if (estado.equals("clique")){
-            boolean posicionado = false;
-            for (Ship c : game.getPlayer1().getBoard().getShips()){
-                if (c instanceof Corvette){
-                    posicionado = true;
-                }
-            }
-
-            if (!posicionado){
-                updateLabel("Posicione sua Corveta");
-                estado = "posicionarCorveta";
-            } else {
-                updateLabel("Você já posicionou sua Corveta");
-            }
+    private void handleCellClick(int fileira, int coluna, String gridType) {
+        if (gridType.equals("jogador")) {
+            maquina.cliqueJogador(fileira, coluna);
+        } else {
+            maquina.cliqueComputador(fileira, coluna);
         }
+    }
 
-        if (estado.equals("selecionarAlvos")) {
-            if (isAlive) {
-                if (alvosMiradosCorveta.isEmpty()){
-                    updateLabel("Selecione os alvos da sua Corveta");
-                    estado = "selecionarAlvosCorveta";
-                } else {
-                    updateLabel("Você já mirou com o seu Corveta");
-                }
-            } else {
-                updateLabel("Sua Corveta esta afundada!!!");
-            }
-        }
+    /**
+     * Handles the usage of the Corvette button for positioning and attacking with it.
+     */
+    public void handleCorveta() {
+        maquina.escolheNavio(ShipType.CORVETA);
     }
 
     /**
      * Handles the usage of the Submarine button for positioning and attacking with it.
      */
     public void handleSubmarino(){
-        boolean isAlive = true;
-        boolean excluido = true;
-        List<Ship> ships = game.getPlayer1().getBoard().getShips();
-        for (Ship ship : ships) {
-            if (ship instanceof Submarine) {
-                isAlive = ship.isAlive();
-                excluido = false;
-            }
-        }
-        if (excluido){isAlive = false;}
-
-        if (estado.equals("clique")) {
-            boolean posicionado = false;
-            for (Ship c : game.getPlayer1().getBoard().getShips()) {
-                if (c instanceof Submarine) {
-                    posicionado = true;
-                }
-            }
-
-            if (!posicionado) {
-                updateLabel("Posicione seu Submarino");
-                estado = "posicionarSubmarino";
-            } else {
-                updateLabel("Você já posicionou seu Submarino");
-            }
-        }
-
-        if (estado.equals("selecionarAlvos")) {
-            if (isAlive) {
-                if (alvosMiradosSubmarino.isEmpty()) {
-                    updateLabel("Selecione os alvos do seu Submarino");
-                    estado = "selecionarAlvosSubmarino";
-                } else {
-                    updateLabel("Você já mirou com o seu Submarino");
-                }
-            } else {
-                updateLabel("Seu Submarino esta afundado!!!");
-            }
-        }
+        maquina.escolheNavio(ShipType.SUBMARINO);
     }
 
     /**
      * Handles the usage of the Frigate button for positioning and attacking with it.
      */
     public void handleFragata(){
-        boolean isAlive = true;
-        boolean excluido = true;
-        List<Ship> ships = game.getPlayer1().getBoard().getShips();
-        for (Ship ship : ships) {
-            if (ship instanceof Frigate) {
-                isAlive = ship.isAlive();
-                excluido = false;
-            }
-        }
-        if (excluido){isAlive = false;}
-
-        if (estado.equals("clique")) {
-            boolean posicionado = false;
-            for (Ship c : game.getPlayer1().getBoard().getShips()) {
-                if (c instanceof Frigate) {
-                    posicionado = true;
-                }
-            }
-
-            if (!posicionado) {
-                updateLabel("Posicione sua Fragata");
-                estado = "posicionarFragata";
-            } else {
-                updateLabel("Você já posicionou sua Fragata");
-            }
-        }
-
-        if (estado.equals("selecionarAlvos")) {
-            if (isAlive) {
-                if (alvosMiradosFragata.isEmpty()) {
-                    updateLabel("Selecione os alvos da sua Fragata");
-                    estado = "selecionarAlvosFragata";
-                } else {
-                    updateLabel("Você já mirou com o seu Fragata");
-                }
-            } else {
-                updateLabel("Sua Fragata esta afundada!!!");
-            }
-        }
+        maquina.escolheNavio(ShipType.FRAGATA);
     }
 
     /**
      * Handles the usage of the Destroyer button for positioning and attacking with it.
      */
     public void handleDestroyer(){
-        boolean isAlive = true;
-        boolean excluido = true;
-        List<Ship> ships = game.getPlayer1().getBoard().getShips();
-        for (Ship ship : ships) {
-            if (ship instanceof Destroyer) {
-                isAlive = ship.isAlive();
-                excluido = false;
-            }
-        }
-        if (excluido){isAlive = false;}
-
-        if (estado.equals("clique")) {
-            updateLabel("Posicione seu Destroyer");
-            boolean posicionado = false;
-            for (Ship c : game.getPlayer1().getBoard().getShips()) {
-                if (c instanceof Destroyer) {
-                    posicionado = true;
-                }
-            }
-
-            if (!posicionado) {
-                updateLabel("Posicione seu Destroyer");
-                estado = "posicionarDestroyer";
-            } else {
-                updateLabel("Você já posicionou seu Destroyer");
-            }
-        }
-
-        if (estado.equals("selecionarAlvos") ) {
-            if (isAlive) {
-                if (alvosMiradosDestroyer.isEmpty()) {
-                    updateLabel("Selecione os alvos do seu Destroyer");
-                    estado = "selecionarAlvosDestroyer";
-                } else {
-                    updateLabel("Você já mirou com o seu Destroyer");
-                }
-            } else {
-                updateLabel("Seu Destroyer esta afundado!!!");
-            }
-        }
+        maquina.escolheNavio(ShipType.DESTROYER);
     }
 
     /**
      * Handles the usage of the Shoot button for firing at the enemy.
-     *
-     * @throws InterruptedException if the thread is interrupted while sleeping
      */
-    public void handleAtirar() throws InterruptedException {
-        if (estado.equals("selecionarAlvos")){
-            int naviosVivos = game.getPlayer1().getBoard().getShips().size();
-            int naviosMirados = 0;
-            Board boardComputer = game.getPlayer2().getBoard();
-
-            if (!alvosMiradosCorveta.isEmpty()){naviosMirados++;}
-            if (!alvosMiradosSubmarino.isEmpty()){naviosMirados++;}
-            if (!alvosMiradosFragata.isEmpty()){naviosMirados++;}
-            if (!alvosMiradosDestroyer.isEmpty()){naviosMirados++;}
-
-            if (naviosVivos == naviosMirados){ // Verifica se todos navios vivos miraram
-                List<Ship> playerShips = game.getPlayer1().getBoard().getShips();
-
-                atiraMirados(boardComputer);
-                updateBoard(boardComputer);
-
-                verificaRadar();
-
-                updateLabel("Você atirou no campo inimigo");
-
-                alvosMiradosCorveta.clear();
-                alvosMiradosSubmarino.clear();
-                alvosMiradosFragata.clear();
-                alvosMiradosDestroyer.clear();
-
-                // lógica para o COMPUTADOR ATIRAR
-                boardComputer.attListaNavios();
-                ataquePc();
-
-            } else {
-                updateLabel("Você ainda não mirou com algum navio");
-            }
-
-            Board boardPlayer = game.getPlayer1().getBoard();
-            Board boardPc = game.getPlayer2().getBoard();
-            Player jogador = game.getPlayer1();
-            Player computador = game.getPlayer2();
-
-            boardPlayer.attListaNavios();
-            boardPc.attListaNavios();
-
-            updateLabel ("SEUS navios vivos: " + boardPlayer.getShips().size() + "    Navios do PC vivos: " + boardPc.getShips().size());
-
-            if (boardPc.getShips().size() == 0){
-                updateLabel("PC PERDEU");
-                System.out.println("PC PERDEU");
-                estado = "endGame";
-            } else if (boardPlayer.getShips().size() == 0){
-                updateLabel("PLAYER PERDEU");
-                System.out.println("PLAYER PERDEU");
-                estado = "endGame";
-            }
+    public void handleAtirar() {
+        if (maquina.atira() && registro != null) {
+            registro.flush();
         }
     }
 
-    /**
-     * Verifica o radar para detectar navios inimigos em volta das células selecionadas.
-     * Atualiza o radar com informações sobre a presença de navios nas linhas ou colunas de ataque.
-     *
-     * @throws InterruptedException se a operação for interrompida.
-     */
-    private void verificaRadar() throws InterruptedException {
-        int ataque = 1;
-        int pegaNgm = 0;
-        Board board = game.getPlayer2().getBoard();
-        for (CellButton cell : radar) {
-            for (int i = cell.getCol(); i < 10; i++) {
-                if (board.getCell(cell.getRow(), i).getState() == CellButton.State.SHIP && !board.getCell(cell.getRow(), i).isHit()) {
-                    updateLabelRadar("Existe um navio na linha de ataque do seu ataque numero " + ataque);
-                    pegaNgm++;
-                    break;
-                }
-            }
-            for (int i = cell.getCol(); i >= 0; i--) {
-                if (board.getCell(cell.getRow(), i).getState() == CellButton.State.SHIP && !board.getCell(cell.getRow(), i).isHit()) {
-                    updateLabelRadar("Existe um navio na linha de ataque do seu ataque numero " + ataque);
-                    pegaNgm++;
-                    break;
-                }
-            }
-            for (int i = cell.getRow(); i < 10; i++) {
-                if (board.getCell(i, cell.getCol()).getState() == CellButton.State.SHIP && !board.getCell(i, cell.getCol()).isHit()) {
-                    updateLabelRadar("Existe um navio na Coluna de ataque do seu ataque numero " + ataque);
-                    pegaNgm++;
-                    break;
-                }
-            }
-            for (int i = cell.getRow(); i >= 0; i--) {
-                if (board.getCell(i, cell.getCol()).getState() == CellButton.State.SHIP && !board.getCell(i, cell.getCol()).isHit()) {
-                    updateLabelRadar("Existe um navio na coluna de ataque do seu ataque numero " + ataque);
-                    pegaNgm++;
-                    break;
-                }
-            }
-            ataque++;
-        }
-        if (pegaNgm == 0) {
-            updateLabelRadar("Nenhum Navio detectado pelo Radar...");
-        }
-        radar.clear();
+    @Override
+    public void mensagem(String texto) {
+        updateLabel(texto);
     }
 
-    /**
-     * Executa um ataque do computador, selecionando alvos aleatórios para atacar.
-     * Atualiza o estado do tabuleiro e verifica se todos os navios do jogador foram destruídos.
-     */
-    private void ataquePc() {
-        Board board = game.getPlayer1().getBoard();
-        int quantosNavios = game.getPlayer2().getBoard().getShips().size();
-        List<CellButton> cellsAttk;
-
-        for (int i = 0; i < quantosNavios; i++) {
-            RandomDataGenerator randomData = new RandomDataGenerator();
-            int fileira = randomData.nextInt(0, 9);
-            int coluna = randomData.nextInt(0, 9);
-
-            cellsAttk = game.getPlayer2().getBoard().getShips().get(i).attack(fileira, coluna);
-            for (CellButton c : cellsAttk) {
-                if (c.getRow() < 10 && c.getCol() < 10 && c.getRow() >= 0 && c.getCol() >= 0) {
-                    board.hitCells(c.getRow(), c.getCol());
-                    board.buscarCellNavio(c.getRow(), c.getCol());
-                }
-            }
-            board.attListaNavios();
-            updateBoard(board);
-            if (board.getShips().size() == 0) {
-                updateLabel("PLAYER PERDEU");
-                System.out.println("PLAYER PERDEU");
-                estado = "endGame";
-            }
-        }
+    @Override
+    public void tabuleiroAlterado(Board board) {
+        updateBoard(board);
     }
 
-    /**
-     * Gerencia o botão "Começar Jogo", verificando se o jogador posicionou todos os navios.
-     * Se todos os navios estiverem posicionados, posiciona os navios do computador e muda o estado do jogo.
-     *
-     * @throws CelulaInvalidaException se houver uma tentativa de posicionamento inválido de navios.
-     */
-    private void handleStartGame() throws CelulaInvalidaException {
-        if (game.getPlayer1().getBoard().getShips().size() == 4 && !estado.equals("endGame")) {
-            if (game.getPlayer2().getBoard().getShips().size() < 4) {
-                posicionaComputador();
-            }
-            estado = "selecionarAlvos";
-            label.setText("É o seu turno, faça seu(s) ataque(s)");
-        } else if (estado.equals("endGame")) {
-            // Nada a fazer se o jogo já terminou
-        } else {
-            label.setText("Voce ainda nao posicionou todos os navios!!!");
+    @Override
+    public void ancoras(Board board, long[] ancoras) {
+        if (rendererJogador == null) {
+            return;
         }
-    }
-
-    /**
-     * Posiciona os navios do computador no tabuleiro.
-     *
-     * @throws CelulaInvalidaException se houver uma tentativa de posicionamento inválido de navios.
-     */
-    private void posicionaComputador() throws CelulaInvalidaException {
-        for (int i = 2; i < 6; i++) {
-            posicionaNaviosPc(i);
-        }
-    }
-
-    /**
-     * Posiciona um navio específico do computador no tabuleiro.
-     *
-     * @param tamanho o tamanho do navio a ser posicionado.
-     * @throws CelulaInvalidaException se houver uma tentativa de posicionamento inválido de navios.
-     */
-    private void posicionaNaviosPc(int tamanho) throws CelulaInvalidaException {
-        RandomDataGenerator randomData = new RandomDataGenerator();
-        int virado = randomData.nextInt(0, 1);
-
-        boolean sucessoPosicao;
-        List<CellButton> posicoesNavio = new ArrayList<>();
-        sucessoPosicao = adicionarPosicoesNavioPc(posicoesNavio, tamanho, virado);
-        try {
-            if (sucessoPosicao) {
-                switch (tamanho) {
-                    case 2:
-                        Ship ship1 = new Corvette(posicoesNavio);
-                        game.getPlayer2().getBoard().placeShip(ship1, posicoesNavio.get(0));
-                        game.getPlayer2().getShips().add(ship1);
-                        updateBoard(game.getPlayer2().getBoard());
-                        break;
-                    case 3:
-                        Ship ship2 = new Submarine(posicoesNavio);
-                        game.getPlayer2().getBoard().placeShip(ship2, posicoesNavio.get(0));
-                        game.getPlayer2().getShips().add(ship2);
-                        updateBoard(game.getPlayer2().getBoard());
-                        break;
-                    case 4:
-                        Ship ship3 = new Frigate(posicoesNavio);
-                        game.getPlayer2().getBoard().placeShip(ship3, posicoesNavio.get(0));
-                        game.getPlayer2().getShips().add(ship3);
-                        updateBoard(game.getPlayer2().getBoard());
-                        break;
-                    case 5:
-                        Ship ship4 = new Destroyer(posicoesNavio);
-                        game.getPlayer2().getBoard().placeShip(ship4, posicoesNavio.get(0));
-                        game.getPlayer2().getShips().add(ship4);
-                        updateBoard(game.getPlayer2().getBoard());
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Tamanho de navio inválido: " + tamanho);
-                }
-            }
-        } catch (CelulaInvalidaException e) {
-            updateLabel(e.getMessage());
-            System.out.println(e.getMessage());
-        }
-    }
-
-    /**
-     * Seleciona e demarca no mapa os alvos mirados de um navio específico, procedimento necessário antes de atirar.
-     *
-     * @param tipoNavio o tipo de navio.
-     * @param alvosTemp a lista de alvos temporários.
-     * @param fileira a fileira inicial para selecionar os alvos.
-     * @param coluna a coluna inicial para selecionar os alvos.
-     * @throws CelulaInvalidaException se houver uma tentativa de selecionar uma célula inválida.
-     * @throws ArrayIndexOutOfBoundsException se houver uma tentativa de acessar uma célula fora do tabuleiro.
-     */
-    private void selecionarAlvos(String tipoNavio, List<CellButton> alvosTemp, int fileira, int coluna) throws CelulaInvalidaException, ArrayIndexOutOfBoundsException {
-        Board boardComputer = game.getPlayer2().getBoard();
-        CellButton cell = game.getPlayer2().getBoard().getCell(fileira, coluna);
-        Ship navio;
-        List<CellButton> listAlvos;
-
-        switch (tipoNavio) {
-            case "Corveta":
-                navio = new Corvette();
-                break;
-            case "Submarino":
-                navio = new Submarine();
-                break;
-            case "Fragata":
-                navio = new Frigate();
-                break;
-            case "Destroyer":
-                navio = new Destroyer();
-                break;
-            default:
-                throw new IllegalArgumentException("Tipo de navio inválido: " + tipoNavio);
-        }
-
-        listAlvos = navio.attack(fileira, coluna);
-
-        if (alvosMiradosCorveta.contains(cell) || alvosMiradosSubmarino.contains(cell) ||
-                alvosMiradosFragata.contains(cell) || alvosMiradosDestroyer.contains(cell) ||
-                boardComputer.getCell(fileira, coluna).isHit()) {
-            throw new CelulaInvalidaException("Você está mirando numa célula inválida");
+        if (board == game.getPlayer1().getBoard()) {
+            rendererJogador.destacaAncoras(board, ancoras);
         } else {
-            if (!alvosTemp.isEmpty()) {
-                alvosTemp.clear();
-            }
-            alvosTemp.addAll(listAlvos);
-
-            for (CellButton celula : listAlvos) {
-                if (celula.getCol() < 10 && celula.getCol() >= 0 && celula.getRow() < 10 && celula.getRow() >= 0) {
-                    boardComputer.getCell(celula.getRow(), celula.getCol()).setAimed(true);
-                }
-            }
-            updateBoard(boardComputer);
+            rendererPc.destacaAncoras(board, ancoras);
         }
     }
 
-    /**
-     * Adiciona posições de navio para o computador, verificando a validade das posições.
-     *
-     * @param posicoesNavio a lista de posições do navio.
-     * @param tamanho o tamanho do navio a ser posicionado.
-     * @param virado a orientação do navio (0 para horizontal, 1 para vertical).
-     * @return true se as posições forem válidas e o navio puder ser posicionado, false caso contrário.
-     */
-    private boolean adicionarPosicoesNavioPc(List<CellButton> posicoesNavio, int tamanho, int virado) {
-        Random random = new Random();
-
-        while (true) {
-            int fileira = random.nextInt(10);
-            int coluna = random.nextInt(10);
-
-            boolean posicaoValida = true;
-            posicoesNavio.clear();
-
-            if (virado == 0) {
-                for (int i = 1; i <= tamanho; i++) {
-                    if ((coluna + i) >= 10 || game.getPlayer2().getBoard().getCell(fileira, coluna + i).getState() == CellButton.State.SHIP) {
-                        posicaoValida = false;
-                        break;
-                    } else {
-                        CellButton celulaAdjacente = game.getPlayer2().getBoard().getCell(fileira, coluna + i);
-                        posicoesNavio.add(celulaAdjacente);
-                    }
-                }
-            } else {
-                for (int i = 1; i <= tamanho; i++) {
-                    if ((fileira + i) >= 10 || game.getPlayer2().getBoard().getCell(fileira + i, coluna).getState() == CellButton.State.SHIP) {
-                        posicaoValida = false;
-                        break;
-                    } else {
-                        CellButton celulaAdjacente = game.getPlayer2().getBoard().getCell(fileira + i, coluna);
-                        posicoesNavio.add(celulaAdjacente);
-                    }
-                }
-            }
-
-            if (posicaoValida) {
-                return true;
-            }
-        }
+    @Override
+    public void radar(List<RadarReading> leituras) {
+        mostraRadar(leituras);
     }
 
     /**
-     * Adiciona coordenadas de células necessárias para definir (inicializar) um navio específico.
+     * Mostra na label de radar as leituras do último turno.
      *
-     * @param celIni a célula inicial do navio
-     * @param posicoesNavio a lista de células que compõem o navio
-     * @param tamanho o tamanho do navio
-     * @return true se as posições do navio foram adicionadas com sucesso, caso contrário false
+     * @param leituras as leituras do radar, uma por ataque do jogador.
      */
-    private boolean adicionarPosicoesNavio(CellButton celIni, List<CellButton> posicoesNavio, int tamanho) {
-        int fileira = celIni.getRow();
-        int coluna = celIni.getCol();
-
-        try {
-            if (deitado) {
-                for (int i = 1; i < tamanho; i++) {
-                    if ((coluna + i) > 10) {
-                        throw new NavioForaDoMapaException("O navio ficou em parte fora do mapa, posicione-o de novo");
-                    }
-                    CellButton celulaAdjacente = game.getPlayer1().getBoard().getCell(fileira, coluna + i);
-                    posicoesNavio.add(celulaAdjacente);
-                }
-            } else {
-                for (int i = 1; i < tamanho; i++) {
-                    if ((fileira + i) > 10) {
-                        throw new NavioForaDoMapaException("O navio ficou em parte fora do mapa, posicione-o de novo");
-                    }
-                    CellButton celulaAdjacente = game.getPlayer1().getBoard().getCell(fileira + i, coluna);
-                    posicoesNavio.add(celulaAdjacente);
-                }
+    private void mostraRadar(List<RadarReading> leituras) {
+        boolean detectou = false;
+        for (RadarReading leitura : leituras) {
+            if (leitura.isNaLinha()) {
+                updateLabelRadar("Existe um navio na linha de ataque do seu ataque numero " + leitura.getAtaque());
+                detectou = true;
             }
-        } catch (NavioForaDoMapaException e) {
-            desfazerNavio(posicoesNavio);
-            desfazerPintura(posicoesNavio);
-            updateLabel(e.getMessage());
-            System.out.println(e.getMessage());
-            return false;
-        } catch (ArrayIndexOutOfBoundsException e){
-            desfazerNavio(posicoesNavio);
-            desfazerPintura(posicoesNavio);
-            updateLabel(e.getMessage());
-            System.out.println(e.getMessage());
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Corrige erros no posicionamento indevido de células num mapa e remove a pintura das células.
-     *
-     * @param posicoesNavio a lista de células a serem corrigidas e desfeitas
-     */
-    private void desfazerPintura(List<CellButton> posicoesNavio) {
-        for (CellButton cell : posicoesNavio) {
-            Node cellNode = cell.getNode();
-            cellNode.getStyleClass().remove("cell-ship");
-        }
-    }
-
-    /**
-     * Reseta as células que foram posicionadas corretamente após um erro no posicionamento de um navio.
-     *
-     * @param posicoesNavio a lista de células do navio a serem resetadas
-     */
-    private void desfazerNavio(List<CellButton> posicoesNavio) {
-        for (CellButton cell : posicoesNavio) {
-            cell.reset();
-        }
-    }
-
-    /**
-     * Reseta as células de um navio.
-     *
-     * @param navio o navio cujas células serão resetadas
-     */
-    private void desfazerNavio1(Ship navio) {
-        for (CellButton cell : navio.getPosition()) {
-            cell.reset();
-        }
-    }
-
-    /**
-     * Percorre todas as células do tabuleiro e executa um tiro nas células miradas.
-     *
-     * @param b o tabuleiro em que os tiros serão executados
-     */
-    private void atiraMirados(Board b){
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                CellButton cell = b.getCell(row, col);
-                if (cell.getAimed()){
-                    cell.setAimed(false);
-                    cell.hit();
-                }
+            if (leitura.isNaColuna()) {
+                updateLabelRadar("Existe um navio na coluna de ataque do seu ataque numero " + leitura.getAtaque());
+                detectou = true;
             }
         }
-
-        for (Ship ship : b.getShips()) {
-            if (!ship.isAlive()) {
-                b.setNumShips(b.getNumShips() -1);
-            }
+        if (!detectou) {
+            updateLabelRadar("Nenhum Navio detectado pelo Radar...");
         }
-
     }
 
     /**
@@ -882,32 +360,17 @@ public class Controller {
      * @param b o tabuleiro a ser atualizado
      */
     private void updateBoard(Board b) {
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                CellButton cell = b.getCell(row, col);
-                Node cellNode = cell.getNode();
-
-                if (cellNode != null) {
-                    cellNode.getStyleClass().removeAll("cell-ship", "cell-hit", "cell-aimed", "cell-ship-hit");
-
-                    if (cell.getAimed()){
-                        cellNode.getStyleClass().add("cell-aimed");
-                    } else {
-                        if (cell.getState() == CellButton.State.SHIP && b == game.getPlayer1().getBoard()){
-                            cellNode.getStyleClass().add("cell-ship");
-                        }
-                    }
-
-                    if (cell.isHit()){
-                        if (cell.getState() == CellButton.State.SHIP){
-                            cellNode.getStyleClass().add("cell-ship-hit");
-                        } else if (cell.getState() == CellButton.State.WATER) {
-                            cellNode.getStyleClass().add("cell-hit");
-                        }
-                    }
-
-                }
-            }
+        if (rendererJogador == null) {
+            return;
+        }
+        long inicio = Metricas.MEDE_TEMPOS ? System.nanoTime() : 0;
+        if (b == game.getPlayer1().getBoard()) {
+            rendererJogador.render(b);
+        } else {
+            rendererPc.render(b);
+        }
+        if (Metricas.MEDE_TEMPOS) {
+            Metricas.DESENHO.registraDesde(inicio);
         }
     }
 
@@ -928,21 +391,4 @@ public class Controller {
     public void updateLabelRadar(String s){
         labelRadar.setText(s);
     }
-
-    /**
-     * Alterna a orientação do navio entre horizontal e vertical.
-     */
-    private void alternarOrientacaoNavio() {
-        deitado = !deitado;
-        if (!estado.equals("clique") && !estado.equals("atacar")) {
-            if (deitado) {
-                updateLabel("Posicionar navio horizontalmente.");
-            } else {
-                updateLabel("Posicionar navio verticalmente.");
-            }
-        }
-    }
-
-
-
 }
@@ -0,0 +1,17 @@
+package br.ufrn.imd.controle;
+
+/**
+ * Exception lançada quando não é possível posicionar uma frota inteira no tabuleiro.
+ */
+public class FrotaInviavelException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construtor que recebe uma mensagem de erro específica.
+     *
+     * @param message a mensagem de erro detalhando a exceção.
+     */
+    public FrotaInviavelException(String message) {
+        super(message);
+    }
+}
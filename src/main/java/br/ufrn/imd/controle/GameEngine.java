@@ -0,0 +1,558 @@
+package br.ufrn.imd.controle;
+
+import br.ufrn.imd.ia.ProbabilityStrategy;
+import br.ufrn.imd.ia.ShotStrategy;
+import br.ufrn.imd.metricas.Metricas;
+import br.ufrn.imd.modelo.*;
+import br.ufrn.imd.registro.MatchLogWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless engine holding the turn logic of a match between the player and the computer.
+ * <p>
+ * The engine only works on the model ({@link Game}, {@link Player} and {@link Board}) and never
+ * touches JavaFX, so a whole match can be played without a scene graph. The {@link Controller}
+ * just forwards the clicks to it and repaints the boards.
+ * </p>
+ */
+public class GameEngine {
+    static final String FORA_DO_MAPA = "O navio ficou em parte fora do mapa, posicione-o de novo";
+    static final String SOBREPOSTO = "Já existe um navio nessa posição, posicione-o de novo";
+
+    private Game game;
+    private ShotStrategy estrategiaPc;
+    private final AimSet mirados;
+    private final Map<Ship, Integer> slots;
+    private Player vencedor;
+    private final int[] celulasAtaque = new int[AttackPattern.MAX_CELULAS];
+    private final VolleyResult resultado = new VolleyResult();
+    private int[] alvosVolley = new int[16];
+    private int[] centrosVolley = new int[4];
+    private final int[] tiros = new int[2];
+    private final int[][] acertosPorTipo = new int[2][ShipType.values().length];
+    private MatchLogWriter registro;
+    private PlacementGenerator gerador;
+
+    /**
+     * Constructs an engine for a new game.
+     */
+    public GameEngine() {
+        this(new Game());
+    }
+
+    /**
+     * Constructs an engine for the given game.
+     *
+     * @param game The game whose turns will be resolved by this engine.
+     */
+    public GameEngine(Game game) {
+        this.game = game;
+        this.estrategiaPc = new ProbabilityStrategy(game.getRandom().split());
+        this.mirados = new AimSet(game.getPlayer2().getBoard());
+        this.slots = new IdentityHashMap<>();
+        this.vencedor = null;
+    }
+
+    /**
+     * Resets the engine and its game in place for a new match, so a worker can play back-to-back
+     * matches without building a new engine, game, boards or ships. The aims, winner and
+     * statistics are cleared; the computer's strategy and the match log are kept, the strategy
+     * drawing from a generator split from the new one, as a new engine's does, and being reset
+     * when the battle starts, and the log opening a new match with the new seed.
+     *
+     * @param random The random generator of the new match.
+     */
+    public void reset(GameRandom random) {
+        mirados.limpa();
+        slots.clear();
+        game.reset(random);
+        estrategiaPc.setRandom(random.split());
+        vencedor = null;
+        Arrays.fill(tiros, 0);
+        for (int[] acertos : acertosPorTipo) {
+            Arrays.fill(acertos, 0);
+        }
+        if (registro != null) {
+            iniciaRegistro();
+        }
+    }
+
+    /**
+     * Creates a ship of the given size.
+     *
+     * @param tamanho The size of the ship (2 to 5).
+     * @return A new, not placed, ship of that size.
+     * @throws IllegalArgumentException if there is no ship with that size.
+     */
+    public static Ship criarNavio(int tamanho) {
+        return ShipType.doTamanho(tamanho).criar();
+    }
+
+    /**
+     * Places a ship on the board of a player, starting at the given cell.
+     * The board is only changed if the whole ship fits and does not overlap another ship.
+     *
+     * @param player The owner of the ship.
+     * @param ship The ship to place.
+     * @param row The row of the first cell of the ship.
+     * @param col The column of the first cell of the ship.
+     * @param deitado True to place the ship horizontally, false to place it vertically.
+     * @throws NavioForaDoMapaException If part of the ship would be outside the board.
+     * @throws CelulaInvalidaException If the ship overlaps another ship.
+     */
+    public void place(Player player, Ship ship, int row, int col, boolean deitado)
+            throws NavioForaDoMapaException, CelulaInvalidaException {
+        PlacementTable tabela = player.getBoard().getTabela();
+        if (!tabela.cabe(ship.getSize(), deitado, row, col)) {
+            throw new NavioForaDoMapaException(FORA_DO_MAPA);
+        }
+        if (!tabela.isLivre(ship.getSize(), deitado, row, col)) {
+            throw new CelulaInvalidaException(SOBREPOSTO);
+        }
+        coloca(player, ship, row, col, deitado);
+    }
+
+    /**
+     * Places a ship on the board of a player if the placement is legal, checking it in constant
+     * time on the board's {@link PlacementTable} instead of failing halfway through.
+     *
+     * @param player The owner of the ship.
+     * @param ship The ship to place.
+     * @param row The row of the first cell of the ship.
+     * @param col The column of the first cell of the ship.
+     * @param deitado True to place the ship horizontally, false to place it vertically.
+     * @return True if the ship was placed, false if it would leave the board or overlap another ship.
+     */
+    public boolean posiciona(Player player, Ship ship, int row, int col, boolean deitado) {
+        if (!player.getBoard().getTabela().isLivre(ship.getSize(), deitado, row, col)) {
+            return false;
+        }
+        coloca(player, ship, row, col, deitado);
+        return true;
+    }
+
+    /**
+     * Places the whole fleet (Corvette, Submarine, Frigate and Destroyer) of a player at random positions.
+     *
+     * @param player The player whose fleet will be placed.
+     */
+    public void placeFleet(Player player) {
+        placeFleet(player, 2, 3, 4, 5);
+    }
+
+    /**
+     * Places ships of the given sizes on the board of a player, at random positions drawn from the
+     * game's {@link GameRandom}. Ships already on the board are kept, and the layout is found in
+     * bounded time by a {@link PlacementGenerator}.
+     *
+     * @param player The player whose fleet will be placed.
+     * @param tamanhos The sizes of the ships to place (2 to 5).
+     * @throws FrotaInviavelException if the ships do not fit on the free cells of the board.
+     */
+    public void placeFleet(Player player, int... tamanhos) {
+        long inicio = Metricas.MEDE_TEMPOS ? System.nanoTime() : 0;
+        Board board = player.getBoard();
+        if (gerador == null || gerador.getLinhas() != board.getLinhas() || gerador.getColunas() != board.getColunas()) {
+            gerador = new PlacementGenerator(board.getLinhas(), board.getColunas());
+        }
+        gerador.limpa();
+        for (Ship ship : board.getShips()) {
+            for (CellButton cell : ship.getPosition()) {
+                gerador.ocupa(cell.getRow(), cell.getCol());
+            }
+        }
+        int[] posicoes = gerador.sorteia(tamanhos, game.getRandom());
+        for (int i = 0; i < tamanhos.length; i++) {
+            int posicao = posicoes[i];
+            coloca(player, player.novoNavio(ShipType.doTamanho(tamanhos[i])), gerador.getRow(posicao), gerador.getCol(posicao),
+                    gerador.isDeitado(posicao));
+        }
+        if (Metricas.MEDE_TEMPOS) {
+            Metricas.POSICIONAMENTO.registraDesde(inicio);
+        }
+    }
+
+    /**
+     * Aims one of the player's ships at a cell of the computer's board.
+     * A ship that already aimed has its previous targets replaced.
+     *
+     * @param navio The player's ship that is aiming.
+     * @param row The row of the aimed cell.
+     * @param col The column of the aimed cell.
+     * @throws CelulaInvalidaException If the cell was already aimed by another ship or was already hit.
+     * @throws ArrayIndexOutOfBoundsException If the cell is outside the board.
+     */
+    public void aim(Ship navio, int row, int col) throws CelulaInvalidaException {
+        Board board = game.getPlayer2().getBoard();
+        int colunas = board.getColunas();
+        CellButton cell = board.getCell(row, col);
+        if (mirados.isMirada(row * colunas + col) || cell.isHit()) {
+            throw new CelulaInvalidaException("Você está mirando numa célula inválida");
+        }
+
+        Integer slot = slots.get(navio);
+        if (slot == null) {
+            slot = slots.size();
+            slots.put(navio, slot);
+        }
+        int n = navio.getAttackPattern().apply(row, col, board.getLinhas(), colunas, celulasAtaque);
+        mirados.mira(slot, row * colunas + col, celulasAtaque, n);
+        if (registro != null) {
+            registro.mira(1, navio.getSize(), row, col);
+        }
+    }
+
+    /**
+     * Checks if a ship of the player already aimed in the current turn.
+     *
+     * @param navio The ship to check.
+     * @return True if the ship has targets, otherwise false.
+     */
+    public boolean hasAimed(Ship navio) {
+        Integer slot = slots.get(navio);
+        return slot != null && mirados.hasMirado(slot);
+    }
+
+    /**
+     * Checks if every living ship of the player already aimed in the current turn.
+     *
+     * @return True if the player can fire, otherwise false.
+     */
+    public boolean allAimed() {
+        return game.getPlayer1().getBoard().getShips().size() == mirados.getMirados();
+    }
+
+    /**
+     * Fires a single shot at a cell of a player's board.
+     *
+     * @param defensor The player being attacked.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the shot hit a ship, otherwise false.
+     */
+    public boolean fire(Player defensor, int row, int col) {
+        Board board = defensor.getBoard();
+        boolean novo = !board.getCell(row, col).isHit();
+        Ship afundado = board.hitCells(row, col);
+        if (registro != null) {
+            registro.tiro(indice(defensor), row, col);
+        }
+        boolean acerto = board.getShipAt(row, col) != null;
+        Metricas.TIROS.incrementa();
+        if (acerto && novo) {
+            Metricas.ACERTOS.incrementa();
+        }
+        if (afundado != null) {
+            Metricas.AFUNDADOS.incrementa();
+        }
+        return acerto;
+    }
+
+    /**
+     * Resolves a whole turn: the player's aimed shots are fired as a single volley, the radar is
+     * checked, and then the computer answers with one attack per living ship.
+     *
+     * @return The radar readings of the player's shots, in the order they were aimed.
+     */
+    public List<RadarReading> resolveTurn() {
+        long inicio = Metricas.MEDE_TEMPOS ? System.nanoTime() : 0;
+        Player jogador = game.getPlayer1();
+        Player computador = game.getPlayer2();
+        Board boardComputer = computador.getBoard();
+
+        int numAlvos = 0;
+        for (int alvo = mirados.proxima(0); alvo >= 0; alvo = mirados.proxima(alvo + 1)) {
+            if (numAlvos == alvosVolley.length) {
+                alvosVolley = Arrays.copyOf(alvosVolley, 2 * numAlvos);
+            }
+            alvosVolley[numAlvos++] = alvo;
+        }
+        int numCentros = mirados.getMirados();
+        if (centrosVolley.length < numCentros) {
+            centrosVolley = new int[Math.max(numCentros, 2 * centrosVolley.length)];
+        }
+        for (int i = 0; i < numCentros; i++) {
+            centrosVolley[i] = mirados.getCentro(i);
+        }
+        mirados.limpa();
+
+        boardComputer.resolveVolley(alvosVolley, numAlvos, centrosVolley, numCentros, resultado);
+        registraVolley(computador, alvosVolley);
+        List<RadarReading> leituras = new ArrayList<>(numCentros);
+        for (int i = 0; i < numCentros; i++) {
+            leituras.add(new RadarReading(i + 1, resultado.isNaLinha(i), resultado.isNaColuna(i)));
+        }
+
+        computerVolley(computador, jogador);
+        atualizaVencedor();
+        registraTurno();
+        if (Metricas.MEDE_TEMPOS) {
+            Metricas.TURNO.registraDesde(inicio);
+        }
+        return leituras;
+    }
+
+    /**
+     * Starts the battle: places the computer's fleet, if it was not placed yet, and prepares the
+     * computer's strategy against the player's fleet.
+     */
+    public void startBattle() {
+        if (game.getPlayer2().getBoard().getShips().isEmpty()) {
+            placeFleet(game.getPlayer2());
+        }
+        estrategiaPc.reset(boardJogador().getLinhas(), boardJogador().getColunas(), tamanhos(game.getPlayer1()));
+    }
+
+    /**
+     * Plays a whole match between two computer players, placing the fleets that were not placed yet.
+     * The first player attacks first in every turn.
+     *
+     * @param estrategia1 The strategy of the first player.
+     * @param estrategia2 The strategy of the second player.
+     * @param maxTurnos The maximum number of turns before the match is called a draw.
+     * @return The number of turns played.
+     */
+    public int playMatch(ShotStrategy estrategia1, ShotStrategy estrategia2, int maxTurnos) {
+        Player jogador1 = game.getPlayer1();
+        Player jogador2 = game.getPlayer2();
+        if (jogador1.getBoard().getShips().isEmpty()) {
+            placeFleet(jogador1);
+        }
+        if (jogador2.getBoard().getShips().isEmpty()) {
+            placeFleet(jogador2);
+        }
+        estrategia1.reset(jogador2.getBoard().getLinhas(), jogador2.getBoard().getColunas(), tamanhos(jogador2));
+        estrategia2.reset(jogador1.getBoard().getLinhas(), jogador1.getBoard().getColunas(), tamanhos(jogador1));
+
+        int turnos = 0;
+        while (vencedor == null && turnos < maxTurnos) {
+            long inicio = Metricas.MEDE_TEMPOS ? System.nanoTime() : 0;
+            computerVolley(jogador1, jogador2, estrategia1);
+            if (jogador2.getBoard().getShips().isEmpty()) {
+                vencedor = jogador1;
+            } else {
+                computerVolley(jogador2, jogador1, estrategia2);
+                atualizaVencedor();
+            }
+            turnos++;
+            registraTurno();
+            if (Metricas.MEDE_TEMPOS) {
+                Metricas.TURNO.registraDesde(inicio);
+            }
+        }
+        if (registro != null && vencedor == null) {
+            registro.fim(-1);
+        }
+        return turnos;
+    }
+
+    /**
+     * Makes one attack with each living ship of the attacker, chosen by the computer's strategy.
+     *
+     * @param atacante The player that attacks.
+     * @param defensor The player being attacked.
+     */
+    public void computerVolley(Player atacante, Player defensor) {
+        computerVolley(atacante, defensor, estrategiaPc);
+    }
+
+    /**
+     * Makes one attack with each living ship of the attacker, chosen by the given strategy.
+     * The strategy is told the result of every shot and every ship it sinks.
+     *
+     * @param atacante The player that attacks.
+     * @param defensor The player being attacked.
+     * @param estrategia The strategy choosing the attacks.
+     */
+    public void computerVolley(Player atacante, Player defensor, ShotStrategy estrategia) {
+        Board board = defensor.getBoard();
+        int linhas = board.getLinhas();
+        int colunas = board.getColunas();
+        long escolha = 0;
+        for (Ship navio : atacante.getBoard().getShips()) {
+            long inicio = Metricas.MEDE_TEMPOS ? System.nanoTime() : 0;
+            int alvo = estrategia.nextShot(navio);
+            if (Metricas.MEDE_TEMPOS) {
+                escolha += System.nanoTime() - inicio;
+            }
+            int n = navio.getAttackPattern().apply(alvo / colunas, alvo % colunas, linhas, colunas, celulasAtaque);
+            board.resolveVolley(celulasAtaque, n, null, 0, resultado);
+            acertosPorTipo[indice(atacante)][navio.getTipo().ordinal()] += resultado.getAcertosNovos();
+            registraVolley(defensor, celulasAtaque);
+            for (int i = 0; i < n; i++) {
+                estrategia.onShot(celulasAtaque[i] / colunas, celulasAtaque[i] % colunas, resultado.isAcerto(i));
+            }
+            for (int i = 0; i < resultado.getNumAfundados(); i++) {
+                estrategia.onSunk(resultado.getAfundado(i));
+            }
+        }
+        if (Metricas.MEDE_TEMPOS) {
+            Metricas.JOGADA_IA.registra(escolha);
+        }
+    }
+
+    /**
+     * Sets the strategy used by the computer to choose its attacks.
+     *
+     * @param estrategiaPc The computer's strategy.
+     */
+    public void setEstrategiaPc(ShotStrategy estrategiaPc) {
+        this.estrategiaPc = estrategiaPc;
+    }
+
+    /**
+     * Starts recording the match in a log. The dimensions and seed of the game and the ships
+     * already placed are written right away, and every later placement, aim, shot and turn is
+     * appended as it happens. Every {@link #reset(GameRandom)} opens a new match in the same log.
+     *
+     * @param registro The log receiving the events, or null to stop recording.
+     */
+    public void setRegistro(MatchLogWriter registro) {
+        this.registro = registro;
+        if (registro != null) {
+            iniciaRegistro();
+        }
+    }
+
+    /**
+     * Opens a new match in the log with the dimensions and seed of the game, followed by the ships
+     * already placed.
+     */
+    private void iniciaRegistro() {
+        Board board = boardJogador();
+        registro.inicio(board.getLinhas(), board.getColunas(), game.getRandom().getSemente());
+        for (Player player : new Player[]{game.getPlayer1(), game.getPlayer2()}) {
+            for (Ship ship : player.getBoard().getShips()) {
+                CellButton primeira = ship.getPosition().get(0);
+                boolean deitado = ship.getSize() > 1 && ship.getPosition().get(1).getRow() == primeira.getRow();
+                registro.posiciona(indice(player), ship.getSize(), primeira.getRow(), primeira.getCol(), deitado);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of shots a player fired in this match, counting every cell of every attack.
+     *
+     * @param player The player that attacked.
+     * @return The number of shots.
+     */
+    public int getTiros(Player player) {
+        return tiros[indice(player)];
+    }
+
+    /**
+     * Returns the number of shots of a kind of ship that landed on an enemy ship cell not hit before
+     * in this match, so a player never has more hits than the enemy fleet has cells.
+     * Only the attacks chosen by a {@link ShotStrategy} are counted, since the player's volley is
+     * fired by the whole fleet at once.
+     *
+     * @param player The player that attacked.
+     * @param tipo The kind of the attacking ship.
+     * @return The number of hits.
+     */
+    public int getAcertos(Player player, ShipType tipo) {
+        return acertosPorTipo[indice(player)][tipo.ordinal()];
+    }
+
+    /**
+     * Returns the winner of the match.
+     *
+     * @return The winning player, or null while the match is not over.
+     */
+    public Player getVencedor() {
+        return vencedor;
+    }
+
+    /**
+     * Checks if the match is over.
+     *
+     * @return True if one of the players lost all ships.
+     */
+    public boolean isFimDeJogo() {
+        return vencedor != null;
+    }
+
+    /**
+     * Returns the game managed by this engine.
+     *
+     * @return The game.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    private static int[] tamanhos(Player player) {
+        List<Ship> frota = player.getBoard().getShips();
+        int[] tamanhos = new int[frota.size()];
+        for (int i = 0; i < tamanhos.length; i++) {
+            tamanhos[i] = frota.get(i).getSize();
+        }
+        return tamanhos;
+    }
+
+    /**
+     * Puts a ship on a placement already known to be legal.
+     */
+    private void coloca(Player player, Ship ship, int row, int col, boolean deitado) {
+        Board board = player.getBoard();
+        List<CellButton> posicoes = new ArrayList<>(ship.getSize());
+        for (int i = 0; i < ship.getSize(); i++) {
+            posicoes.add(deitado ? board.getCell(row, col + i) : board.getCell(row + i, col));
+        }
+        try {
+            ship.setPosition(posicoes);
+        } catch (CelulaInvalidaException e) {
+            throw new IllegalStateException("Posição validada inválida", e);
+        }
+        player.placeShip(ship, posicoes.get(0));
+        if (registro != null) {
+            registro.posiciona(indice(player), ship.getSize(), row, col, deitado);
+        }
+    }
+
+    private void registraVolley(Player defensor, int[] alvos) {
+        if (registro != null) {
+            int colunas = defensor.getBoard().getColunas();
+            for (int i = 0; i < resultado.getTiros(); i++) {
+                registro.tiro(indice(defensor), alvos[i] / colunas, alvos[i] % colunas);
+            }
+        }
+        tiros[1 - indice(defensor)] += resultado.getTiros();
+        Metricas.TIROS.soma(resultado.getTiros());
+        Metricas.ACERTOS.soma(resultado.getAcertosNovos());
+        Metricas.AFUNDADOS.soma(resultado.getNumAfundados());
+    }
+
+    private void atualizaVencedor() {
+        if (game.getPlayer2().getBoard().getShips().isEmpty()) {
+            vencedor = game.getPlayer1();
+        } else if (game.getPlayer1().getBoard().getShips().isEmpty()) {
+            vencedor = game.getPlayer2();
+        }
+    }
+
+    private void registraTurno() {
+        if (vencedor != null) {
+            Metricas.PARTIDAS.incrementa();
+        }
+        if (registro != null) {
+            registro.turno();
+            if (vencedor != null) {
+                registro.fim(indice(vencedor));
+            }
+        }
+    }
+
+    private int indice(Player player) {
+        return player == game.getPlayer1() ? 0 : 1;
+    }
+
+    private Board boardJogador() {
+        return game.getPlayer1().getBoard();
+    }
+}
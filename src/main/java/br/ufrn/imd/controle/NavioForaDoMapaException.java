@@ -4,6 +4,7 @@ package br.ufrn.imd.controle;
  * Exception lançada quando ocorre uma tentativa de posicionar um navio fora dos limites do tabuleiro.
  */
 public class NavioForaDoMapaException extends Exception {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Construtor que recebe uma mensagem de erro específica.
@@ -0,0 +1,285 @@
+package br.ufrn.imd.controle;
+
+import br.ufrn.imd.modelo.GameRandom;
+
+import java.util.Arrays;
+
+/**
+ * Generates random legal layouts for a fleet, in bounded time.
+ * <p>
+ * The occupied cells are kept in a bitset, one bit per cell. Ships are placed from the largest to
+ * the smallest: each one first tries a few random placements and, if they are all taken, counts
+ * the legal placements left and draws one of them, so a ship is never retried forever. When a
+ * layout gets stuck the generator starts over a few times and finally runs an exhaustive search
+ * with a bounded number of steps, which also tells when the fleet cannot fit at all.
+ * </p>
+ * <p>
+ * A placement is encoded as {@code orientation * celulas + row * colunas + col}, where the
+ * orientation is 0 for a horizontal ship and 1 for a vertical one.
+ * </p>
+ */
+public class PlacementGenerator {
+    /**
+     * Random placements tried for a ship before the legal ones are counted.
+     */
+    private static final int SORTEIOS = 16;
+
+    /**
+     * Random layouts tried before the exhaustive search.
+     */
+    private static final int TENTATIVAS = 32;
+
+    /**
+     * Placements the exhaustive search may visit before giving up.
+     */
+    private static final int ORCAMENTO = 1_000_000;
+
+    private final int linhas;
+    private final int colunas;
+    private final int celulas;
+    private final long[] fixas;
+    private final long[] ocupadas;
+    private int passos;
+
+    /**
+     * Constructs a generator for boards of the given dimensions, with every cell free.
+     *
+     * @param linhas The number of rows of the board.
+     * @param colunas The number of columns of the board.
+     */
+    public PlacementGenerator(int linhas, int colunas) {
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.celulas = linhas * colunas;
+        this.fixas = new long[(celulas + 63) >>> 6];
+        this.ocupadas = new long[fixas.length];
+    }
+
+    /**
+     * Marks a cell as taken by a ship that is already on the board.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    public void ocupa(int row, int col) {
+        int celula = row * colunas + col;
+        fixas[celula >>> 6] |= 1L << celula;
+    }
+
+    /**
+     * Frees every cell marked with {@link #ocupa(int, int)}.
+     */
+    public void limpa() {
+        Arrays.fill(fixas, 0);
+    }
+
+    /**
+     * Draws a random layout for a fleet, without overlapping the cells already taken.
+     *
+     * @param tamanhos The sizes of the ships.
+     * @param random The generator used for the draws.
+     * @return The placement of each ship, in the same order as the sizes.
+     * @throws FrotaInviavelException if the fleet does not fit on the board, or if no layout was
+     *                                found within the search limit.
+     */
+    public int[] sorteia(int[] tamanhos, GameRandom random) {
+        int[] ordem = ordemDecrescente(tamanhos);
+        int total = 0;
+        for (int tamanho : tamanhos) {
+            if (tamanho < 1 || tamanho > Math.max(linhas, colunas)) {
+                throw new FrotaInviavelException("Um navio de tamanho " + tamanho + " não cabe no tabuleiro");
+            }
+            total += tamanho;
+        }
+        for (long palavra : fixas) {
+            total += Long.bitCount(palavra);
+        }
+        if (total > celulas) {
+            throw new FrotaInviavelException("A frota não cabe no tabuleiro");
+        }
+
+        int[] posicoes = new int[tamanhos.length];
+        for (int tentativa = 0; tentativa < TENTATIVAS; tentativa++) {
+            System.arraycopy(fixas, 0, ocupadas, 0, fixas.length);
+            boolean completa = true;
+            for (int navio : ordem) {
+                int posicao = escolhe(tamanhos[navio], random);
+                if (posicao < 0) {
+                    completa = false;
+                    break;
+                }
+                marca(posicao, tamanhos[navio], true);
+                posicoes[navio] = posicao;
+            }
+            if (completa) {
+                return posicoes;
+            }
+        }
+
+        System.arraycopy(fixas, 0, ocupadas, 0, fixas.length);
+        passos = 0;
+        if (busca(tamanhos, ordem, 0, posicoes)) {
+            return posicoes;
+        }
+        if (passos > ORCAMENTO) {
+            throw new FrotaInviavelException("Não foi possível encontrar uma posição para a frota");
+        }
+        throw new FrotaInviavelException("A frota não cabe no tabuleiro");
+    }
+
+    /**
+     * Returns the number of rows of the boards this generator lays out.
+     *
+     * @return The number of rows.
+     */
+    public int getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Returns the number of columns of the boards this generator lays out.
+     *
+     * @return The number of columns.
+     */
+    public int getColunas() {
+        return colunas;
+    }
+
+    /**
+     * Returns the row of the first cell of a placement.
+     *
+     * @param posicao The placement.
+     * @return The row.
+     */
+    public int getRow(int posicao) {
+        return (posicao % celulas) / colunas;
+    }
+
+    /**
+     * Returns the column of the first cell of a placement.
+     *
+     * @param posicao The placement.
+     * @return The column.
+     */
+    public int getCol(int posicao) {
+        return (posicao % celulas) % colunas;
+    }
+
+    /**
+     * Checks if a placement is horizontal.
+     *
+     * @param posicao The placement.
+     * @return True for a horizontal ship, false for a vertical one.
+     */
+    public boolean isDeitado(int posicao) {
+        return posicao < celulas;
+    }
+
+    /**
+     * Chooses a free placement for a ship: a few random tries, then a draw among all legal placements.
+     *
+     * @return The placement, or -1 if no placement is free.
+     */
+    private int escolhe(int tamanho, GameRandom random) {
+        boolean cabeDeitado = tamanho <= colunas;
+        boolean cabeEmPe = tamanho <= linhas;
+        for (int i = 0; i < SORTEIOS; i++) {
+            boolean deitado = cabeDeitado && (!cabeEmPe || random.nextBoolean());
+            int row = random.nextInt(deitado ? linhas : linhas - tamanho + 1);
+            int col = random.nextInt(deitado ? colunas - tamanho + 1 : colunas);
+            int posicao = (deitado ? 0 : celulas) + row * colunas + col;
+            if (livre(posicao, tamanho)) {
+                return posicao;
+            }
+        }
+
+        int legais = 0;
+        for (int posicao = 0; posicao < 2 * celulas; posicao++) {
+            if (cabe(posicao, tamanho) && livre(posicao, tamanho)) {
+                legais++;
+            }
+        }
+        if (legais == 0) {
+            return -1;
+        }
+        int escolhida = random.nextInt(legais);
+        for (int posicao = 0; posicao < 2 * celulas; posicao++) {
+            if (cabe(posicao, tamanho) && livre(posicao, tamanho) && escolhida-- == 0) {
+                return posicao;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Depth-first search over every placement of the remaining ships, limited to {@link #ORCAMENTO} steps.
+     */
+    private boolean busca(int[] tamanhos, int[] ordem, int indice, int[] posicoes) {
+        if (indice == ordem.length) {
+            return true;
+        }
+        int navio = ordem[indice];
+        int tamanho = tamanhos[navio];
+        for (int posicao = 0; posicao < 2 * celulas; posicao++) {
+            if (++passos > ORCAMENTO) {
+                return false;
+            }
+            if (cabe(posicao, tamanho) && livre(posicao, tamanho)) {
+                marca(posicao, tamanho, true);
+                posicoes[navio] = posicao;
+                if (busca(tamanhos, ordem, indice + 1, posicoes)) {
+                    return true;
+                }
+                marca(posicao, tamanho, false);
+            }
+        }
+        return false;
+    }
+
+    private boolean cabe(int posicao, int tamanho) {
+        int inicio = posicao % celulas;
+        if (posicao < celulas) {
+            return inicio % colunas + tamanho <= colunas;
+        }
+        return inicio / colunas + tamanho <= linhas;
+    }
+
+    private boolean livre(int posicao, int tamanho) {
+        int passo = posicao < celulas ? 1 : colunas;
+        int celula = posicao % celulas;
+        for (int j = 0; j < tamanho; j++, celula += passo) {
+            if ((ocupadas[celula >>> 6] & (1L << celula)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void marca(int posicao, int tamanho, boolean ocupada) {
+        int passo = posicao < celulas ? 1 : colunas;
+        int celula = posicao % celulas;
+        for (int j = 0; j < tamanho; j++, celula += passo) {
+            if (ocupada) {
+                ocupadas[celula >>> 6] |= 1L << celula;
+            } else {
+                ocupadas[celula >>> 6] &= ~(1L << celula);
+            }
+        }
+    }
+
+    /**
+     * Returns the indices of the ships sorted from the largest to the smallest.
+     */
+    private static int[] ordemDecrescente(int[] tamanhos) {
+        int[] ordem = new int[tamanhos.length];
+        for (int i = 0; i < ordem.length; i++) {
+            int j = i;
+            while (j > 0 && tamanhos[ordem[j - 1]] < tamanhos[i]) {
+                ordem[j] = ordem[j - 1];
+                j--;
+            }
+            ordem[j] = i;
+        }
+        return ordem;
+    }
+}
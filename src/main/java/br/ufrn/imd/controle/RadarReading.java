@@ -0,0 +1,51 @@
+package br.ufrn.imd.controle;
+
+/**
+ * Result of the radar check for one of the player's shots.
+ * Tells whether an enemy ship that was not hit yet lies on the row or on the column of the shot.
+ */
+public class RadarReading {
+    private int ataque;
+    private boolean naLinha;
+    private boolean naColuna;
+
+    /**
+     * Constructs a radar reading.
+     *
+     * @param ataque The number of the attack (starting at 1) in the order it was aimed.
+     * @param naLinha True if there is a ship on the row of the attack.
+     * @param naColuna True if there is a ship on the column of the attack.
+     */
+    public RadarReading(int ataque, boolean naLinha, boolean naColuna) {
+        this.ataque = ataque;
+        this.naLinha = naLinha;
+        this.naColuna = naColuna;
+    }
+
+    /**
+     * Returns the number of the attack this reading refers to.
+     *
+     * @return The number of the attack, starting at 1.
+     */
+    public int getAtaque() {
+        return ataque;
+    }
+
+    /**
+     * Checks if there is a ship on the row of the attack.
+     *
+     * @return True if a ship was detected on the row, otherwise false.
+     */
+    public boolean isNaLinha() {
+        return naLinha;
+    }
+
+    /**
+     * Checks if there is a ship on the column of the attack.
+     *
+     * @return True if a ship was detected on the column, otherwise false.
+     */
+    public boolean isNaColuna() {
+        return naColuna;
+    }
+}
@@ -0,0 +1,31 @@
+package br.ufrn.imd.controle;
+
+/**
+ * Inputs accepted by the {@link TurnStateMachine}.
+ */
+public enum TurnEvent {
+    /**
+     * A ship was chosen, to be placed or to aim.
+     */
+    NAVIO,
+
+    /**
+     * A cell of the player's board was clicked.
+     */
+    CLIQUE_JOGADOR,
+
+    /**
+     * A cell of the computer's board was clicked.
+     */
+    CLIQUE_COMPUTADOR,
+
+    /**
+     * The player asked to start the battle.
+     */
+    INICIAR,
+
+    /**
+     * The player asked to fire the aimed shots.
+     */
+    ATIRAR
+}
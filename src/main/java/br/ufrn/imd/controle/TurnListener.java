@@ -0,0 +1,47 @@
+package br.ufrn.imd.controle;
+
+import br.ufrn.imd.modelo.Board;
+
+import java.util.List;
+
+/**
+ * Receives what a {@link TurnStateMachine} has to show to the player.
+ * Every method does nothing by default, so a headless client only overrides what it needs.
+ */
+public interface TurnListener {
+
+    /**
+     * Called with a message for the player.
+     *
+     * @param texto The message.
+     */
+    default void mensagem(String texto) {
+    }
+
+    /**
+     * Called when a board changed and must be drawn again.
+     *
+     * @param board The board that changed.
+     */
+    default void tabuleiroAlterado(Board board) {
+    }
+
+    /**
+     * Called when the legal anchors of the ship being placed change, to preview them on the board.
+     *
+     * @param board The board the ship is placed on.
+     * @param ancoras The legal anchors as a bitset over {@code row * colunas + col}, owned by the
+     *                board's {@link br.ufrn.imd.modelo.PlacementTable}, or null when no ship is
+     *                being placed anymore.
+     */
+    default void ancoras(Board board, long[] ancoras) {
+    }
+
+    /**
+     * Called with the radar readings of a resolved turn.
+     *
+     * @param leituras The readings, one per attack of the player.
+     */
+    default void radar(List<RadarReading> leituras) {
+    }
+}
@@ -0,0 +1,31 @@
+package br.ufrn.imd.controle;
+
+/**
+ * States of the {@link TurnStateMachine} driving a match against the computer.
+ */
+public enum TurnState {
+    /**
+     * Before the battle, waiting for a ship to be chosen for placement.
+     */
+    POSICIONAMENTO,
+
+    /**
+     * A ship was chosen and waits for a click on the player's board.
+     */
+    POSICIONANDO,
+
+    /**
+     * During the battle, waiting for a ship to aim or for the shots to be fired.
+     */
+    BATALHA,
+
+    /**
+     * A ship was chosen and waits for a click on the computer's board.
+     */
+    MIRANDO,
+
+    /**
+     * The match is over.
+     */
+    FIM
+}
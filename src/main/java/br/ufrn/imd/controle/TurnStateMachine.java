@@ -0,0 +1,313 @@
+package br.ufrn.imd.controle;
+
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.PlacementTable;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.Ship;
+import br.ufrn.imd.modelo.ShipType;
+
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * State machine turning the player's inputs into calls to a {@link GameEngine}.
+ * <p>
+ * The transitions are kept in a table keyed by {@link TurnState} and {@link TurnEvent}, so each
+ * input is dispatched by two {@link EnumMap} lookups, and an input with no transition in the
+ * current state is ignored. The ship chosen by the player is a {@link ShipType} kept beside the
+ * state, so the same transitions serve every kind of ship. What the player must see is reported
+ * to a {@link TurnListener}; nothing here depends on JavaFX.
+ * </p>
+ */
+public class TurnStateMachine {
+
+    /**
+     * Action of a transition, returning the next state.
+     */
+    @FunctionalInterface
+    private interface Transicao {
+        TurnState executa() throws CelulaInvalidaException;
+    }
+
+    private final GameEngine engine;
+    private final Game game;
+    private final TurnListener ouvinte;
+    private final EnumMap<TurnState, EnumMap<TurnEvent, Transicao>> transicoes;
+    private TurnState estado;
+    private ShipType escolhido;
+    private boolean deitado;
+
+    private ShipType tipoEvento;
+    private int row;
+    private int col;
+
+    /**
+     * Constructs a state machine for the match of an engine, waiting for the player's fleet.
+     *
+     * @param engine The engine resolving the match.
+     * @param ouvinte The listener receiving messages and changed boards.
+     */
+    public TurnStateMachine(GameEngine engine, TurnListener ouvinte) {
+        this.engine = engine;
+        this.game = engine.getGame();
+        this.ouvinte = ouvinte;
+        this.estado = TurnState.POSICIONAMENTO;
+        this.deitado = true;
+
+        this.transicoes = new EnumMap<>(TurnState.class);
+        for (TurnState s : TurnState.values()) {
+            transicoes.put(s, new EnumMap<>(TurnEvent.class));
+        }
+        liga(TurnState.POSICIONAMENTO, TurnEvent.CLIQUE_JOGADOR, () -> mostraClique("jogador"));
+        liga(TurnState.POSICIONAMENTO, TurnEvent.CLIQUE_COMPUTADOR, () -> mostraClique("computador"));
+        liga(TurnState.POSICIONAMENTO, TurnEvent.NAVIO, this::escolheParaPosicionar);
+        liga(TurnState.POSICIONAMENTO, TurnEvent.INICIAR, this::iniciaBatalha);
+        liga(TurnState.POSICIONANDO, TurnEvent.CLIQUE_JOGADOR, this::posiciona);
+        liga(TurnState.POSICIONANDO, TurnEvent.CLIQUE_COMPUTADOR, this::cancelaPosicionamento);
+        liga(TurnState.POSICIONANDO, TurnEvent.NAVIO, this::escolheParaPosicionar);
+        liga(TurnState.POSICIONANDO, TurnEvent.INICIAR, this::iniciaBatalha);
+        liga(TurnState.BATALHA, TurnEvent.NAVIO, this::escolheParaMirar);
+        liga(TurnState.BATALHA, TurnEvent.ATIRAR, this::resolveTurno);
+        liga(TurnState.MIRANDO, TurnEvent.CLIQUE_COMPUTADOR, this::mira);
+    }
+
+    /**
+     * Chooses a ship of the player, to be placed before the battle or to aim during it.
+     *
+     * @param tipo The kind of the chosen ship.
+     * @return True if the input was accepted in the current state.
+     */
+    public boolean escolheNavio(ShipType tipo) {
+        tipoEvento = tipo;
+        return dispara(TurnEvent.NAVIO);
+    }
+
+    /**
+     * Handles a click on a cell of the player's board.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the input was accepted in the current state.
+     */
+    public boolean cliqueJogador(int row, int col) {
+        this.row = row;
+        this.col = col;
+        return dispara(TurnEvent.CLIQUE_JOGADOR);
+    }
+
+    /**
+     * Handles a click on a cell of the computer's board.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the input was accepted in the current state.
+     */
+    public boolean cliqueComputador(int row, int col) {
+        this.row = row;
+        this.col = col;
+        return dispara(TurnEvent.CLIQUE_COMPUTADOR);
+    }
+
+    /**
+     * Starts the battle, if the whole fleet of the player was placed.
+     *
+     * @return True if the input was accepted in the current state.
+     */
+    public boolean inicia() {
+        return dispara(TurnEvent.INICIAR);
+    }
+
+    /**
+     * Fires the aimed shots, if every living ship of the player aimed.
+     *
+     * @return True if the input was accepted in the current state.
+     */
+    public boolean atira() {
+        return dispara(TurnEvent.ATIRAR);
+    }
+
+    /**
+     * Switches the orientation of the next ship placed between horizontal and vertical.
+     */
+    public void alternaOrientacao() {
+        deitado = !deitado;
+        if (estado == TurnState.POSICIONANDO) {
+            ouvinte.mensagem(deitado ? "Posicionar navio horizontalmente." : "Posicionar navio verticalmente.");
+            mostraAncoras();
+        }
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return The state.
+     */
+    public TurnState getEstado() {
+        return estado;
+    }
+
+    /**
+     * Returns the last ship chosen by the player.
+     *
+     * @return The kind of the ship, or null if none was chosen yet.
+     */
+    public ShipType getEscolhido() {
+        return escolhido;
+    }
+
+    /**
+     * Tells the orientation of the next ship placed.
+     *
+     * @return True for horizontal, false for vertical.
+     */
+    public boolean isDeitado() {
+        return deitado;
+    }
+
+    private void liga(TurnState origem, TurnEvent evento, Transicao transicao) {
+        transicoes.get(origem).put(evento, transicao);
+    }
+
+    private boolean dispara(TurnEvent evento) {
+        Transicao transicao = transicoes.get(estado).get(evento);
+        if (transicao == null) {
+            return false;
+        }
+        try {
+            estado = transicao.executa();
+        } catch (CelulaInvalidaException e) {
+            ouvinte.mensagem(e.getMessage());
+        }
+        return true;
+    }
+
+    private TurnState mostraClique(String gridType) {
+        ouvinte.mensagem("Célula clicada em: [" + row + ", " + col + "] no grid: " + gridType);
+        return estado;
+    }
+
+    private TurnState escolheParaPosicionar() {
+        if (buscaNavio(tipoEvento) != null) {
+            ouvinte.mensagem("Você já posicionou " + possessivo(tipoEvento, false));
+            return estado;
+        }
+        escolhido = tipoEvento;
+        ouvinte.mensagem("Posicione " + possessivo(tipoEvento, false));
+        mostraAncoras();
+        return TurnState.POSICIONANDO;
+    }
+
+    /**
+     * Places the chosen ship at the clicked cell. An illegal cell is reported and the player keeps
+     * placing the same ship, with the legal anchors still shown. The cell is checked before a ship
+     * is taken from the player's pool, so a refused click does not lose one.
+     */
+    private TurnState posiciona() {
+        Player jogador = game.getPlayer1();
+        PlacementTable tabela = jogador.getBoard().getTabela();
+        if (!tabela.cabe(escolhido.getTamanho(), deitado, row, col)) {
+            ouvinte.mensagem(GameEngine.FORA_DO_MAPA);
+            return estado;
+        }
+        if (!tabela.isLivre(escolhido.getTamanho(), deitado, row, col)) {
+            ouvinte.mensagem(GameEngine.SOBREPOSTO);
+            return estado;
+        }
+        engine.posiciona(jogador, jogador.novoNavio(escolhido), row, col, deitado);
+        ouvinte.ancoras(jogador.getBoard(), null);
+        ouvinte.tabuleiroAlterado(jogador.getBoard());
+        return TurnState.POSICIONAMENTO;
+    }
+
+    private TurnState cancelaPosicionamento() {
+        ouvinte.ancoras(game.getPlayer1().getBoard(), null);
+        return TurnState.POSICIONAMENTO;
+    }
+
+    private void mostraAncoras() {
+        Board board = game.getPlayer1().getBoard();
+        ouvinte.ancoras(board, board.getTabela().getAncoras(escolhido.getTamanho(), deitado));
+    }
+
+    private TurnState iniciaBatalha() {
+        if (game.getPlayer1().getBoard().getShips().size() != ShipType.values().length) {
+            ouvinte.mensagem("Voce ainda nao posicionou todos os navios!!!");
+            return estado;
+        }
+        ouvinte.ancoras(game.getPlayer1().getBoard(), null);
+        engine.startBattle();
+        ouvinte.tabuleiroAlterado(game.getPlayer2().getBoard());
+        ouvinte.mensagem("É o seu turno, faça seu(s) ataque(s)");
+        return TurnState.BATALHA;
+    }
+
+    private TurnState escolheParaMirar() {
+        Ship navio = buscaNavio(tipoEvento);
+        if (navio == null || !navio.isAlive()) {
+            String nome = possessivo(tipoEvento, false);
+            ouvinte.mensagem(Character.toUpperCase(nome.charAt(0)) + nome.substring(1) + " esta "
+                    + (tipoEvento.isFeminino() ? "afundada" : "afundado") + "!!!");
+            return estado;
+        }
+        if (engine.hasAimed(navio)) {
+            ouvinte.mensagem("Você já mirou com " + possessivo(tipoEvento, true));
+            return estado;
+        }
+        escolhido = tipoEvento;
+        ouvinte.mensagem("Selecione os alvos " + (tipoEvento.isFeminino() ? "da " : "do ") + possessivo(tipoEvento, false));
+        return TurnState.MIRANDO;
+    }
+
+    private TurnState mira() throws CelulaInvalidaException {
+        engine.aim(buscaNavio(escolhido), row, col);
+        ouvinte.tabuleiroAlterado(game.getPlayer2().getBoard());
+        return TurnState.BATALHA;
+    }
+
+    private TurnState resolveTurno() {
+        Board boardPlayer = game.getPlayer1().getBoard();
+        Board boardPc = game.getPlayer2().getBoard();
+
+        if (engine.allAimed()) {
+            List<RadarReading> leituras = engine.resolveTurn();
+            ouvinte.tabuleiroAlterado(boardPc);
+            ouvinte.tabuleiroAlterado(boardPlayer);
+            ouvinte.radar(leituras);
+        } else {
+            ouvinte.mensagem("Você ainda não mirou com algum navio");
+        }
+        ouvinte.mensagem("SEUS navios vivos: " + boardPlayer.getShips().size() + "    Navios do PC vivos: " + boardPc.getShips().size());
+
+        if (engine.getVencedor() == game.getPlayer1()) {
+            ouvinte.mensagem("PC PERDEU");
+            return TurnState.FIM;
+        } else if (engine.getVencedor() == game.getPlayer2()) {
+            ouvinte.mensagem("PLAYER PERDEU");
+            return TurnState.FIM;
+        }
+        return estado;
+    }
+
+    /**
+     * Looks for a living ship of the player of the given kind.
+     *
+     * @param tipo The kind of the ship.
+     * @return The ship, or null if it was not placed or was already sunk.
+     */
+    private Ship buscaNavio(ShipType tipo) {
+        for (Ship ship : game.getPlayer1().getBoard().getShips()) {
+            if (ship.getTipo() == tipo) {
+                return ship;
+            }
+        }
+        return null;
+    }
+
+    private static String possessivo(ShipType tipo, boolean comArtigo) {
+        if (tipo.isFeminino()) {
+            return (comArtigo ? "a sua " : "sua ") + tipo.getNome();
+        }
+        return (comArtigo ? "o seu " : "seu ") + tipo.getNome();
+    }
+}
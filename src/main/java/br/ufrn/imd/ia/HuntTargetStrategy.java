@@ -0,0 +1,263 @@
+package br.ufrn.imd.ia;
+
+import br.ufrn.imd.modelo.AttackPattern;
+import br.ufrn.imd.modelo.CellButton;
+import br.ufrn.imd.modelo.Ship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Classic hunt/target strategy, a cheap baseline for the other strategies.
+ * <p>
+ * While no ship is wounded, the strategy hunts: it fires at random unknown cells of a checkerboard
+ * whose period is the size of the smallest ship afloat, since every ship must cover one of those
+ * cells, and it skips cells where no ship afloat fits between the known water. After a hit it
+ * targets: the unknown neighbors of the hits wait in a deque, cells extending a line of hits in
+ * front, and each attack is centered so the ship's {@link AttackPattern} covers the next candidate
+ * and as many other unknown cells as possible. When a ship sinks, the candidates are rebuilt
+ * from the hits that do not belong to it.
+ * </p>
+ * <p>
+ * A move looks at a handful of cells, except late in a hunt when random probes keep missing and
+ * the board is scanned once.
+ * </p>
+ */
+public final class HuntTargetStrategy implements ShotStrategy {
+    private static final byte DESCONHECIDA = 0;
+    private static final byte AGUA = 1;
+    private static final byte ACERTO = 2;
+    private static final byte AFUNDADA = 3;
+
+    private static final int SONDAGENS = 64;
+
+    private RandomGenerator random;
+    private int linhas;
+    private int colunas;
+    private int celulas;
+    private byte[] estado;
+    private int[] vivosPorTamanho;
+    private int paridade;
+    private int[] acertos;
+    private int numAcertos;
+    private final IntDeque fronteira;
+
+    /**
+     * Constructs a hunt/target strategy. {@link #reset(int, int, int[])} must be called before the first shot.
+     *
+     * @param random The random generator used to choose the cells of a hunt.
+     */
+    public HuntTargetStrategy(RandomGenerator random) {
+        this.random = random;
+        this.fronteira = new IntDeque(64);
+        reset(10, 10, new int[0]);
+    }
+
+    @Override
+    public void reset(int linhas, int colunas, int[] tamanhos) {
+        if (estado == null || this.linhas != linhas || this.colunas != colunas) {
+            this.linhas = linhas;
+            this.colunas = colunas;
+            this.celulas = linhas * colunas;
+            this.estado = new byte[celulas];
+            this.acertos = new int[celulas];
+        }
+        Arrays.fill(estado, DESCONHECIDA);
+        int maior = 0;
+        for (int tamanho : tamanhos) {
+            maior = Math.max(maior, tamanho);
+        }
+        vivosPorTamanho = new int[maior + 1];
+        for (int tamanho : tamanhos) {
+            vivosPorTamanho[tamanho]++;
+        }
+        paridade = random.nextInt(Math.max(maior, 1));
+        numAcertos = 0;
+        fronteira.clear();
+    }
+
+    @Override
+    public int nextShot(Ship atirador) {
+        while (!fronteira.isEmpty()) {
+            int candidata = fronteira.peekFirst();
+            if (estado[candidata] == DESCONHECIDA) {
+                return centraliza(candidata, atirador.getAttackPattern());
+            }
+            fronteira.pollFirst();
+        }
+        return caca();
+    }
+
+    @Override
+    public void onShot(int row, int col, boolean acerto) {
+        int celula = row * colunas + col;
+        if (estado[celula] != DESCONHECIDA) {
+            return;
+        }
+        if (!acerto) {
+            estado[celula] = AGUA;
+            return;
+        }
+        estado[celula] = ACERTO;
+        acertos[numAcertos++] = celula;
+        adicionaVizinhas(celula);
+    }
+
+    @Override
+    public void onSunk(Ship navio) {
+        if (navio.getSize() < vivosPorTamanho.length && vivosPorTamanho[navio.getSize()] > 0) {
+            vivosPorTamanho[navio.getSize()]--;
+        }
+        for (CellButton cell : navio.getPosition()) {
+            estado[cell.getRow() * colunas + cell.getCol()] = AFUNDADA;
+        }
+        int restantes = 0;
+        for (int i = 0; i < numAcertos; i++) {
+            if (estado[acertos[i]] == ACERTO) {
+                acertos[restantes++] = acertos[i];
+            }
+        }
+        numAcertos = restantes;
+        fronteira.clear();
+        for (int i = 0; i < numAcertos; i++) {
+            adicionaVizinhas(acertos[i]);
+        }
+    }
+
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Queues the unknown neighbors of a hit. A neighbor continuing a line of hits goes to the
+     * front, since the ship most likely lies along that line.
+     */
+    private void adicionaVizinhas(int celula) {
+        int row = celula / colunas;
+        int col = celula % colunas;
+        adicionaVizinha(row, col, 0, 1);
+        adicionaVizinha(row, col, 0, -1);
+        adicionaVizinha(row, col, 1, 0);
+        adicionaVizinha(row, col, -1, 0);
+    }
+
+    private void adicionaVizinha(int row, int col, int dr, int dc) {
+        int r = row + dr;
+        int c = col + dc;
+        if (r < 0 || c < 0 || r >= linhas || c >= colunas || estado[r * colunas + c] != DESCONHECIDA) {
+            return;
+        }
+        int ra = row - dr;
+        int ca = col - dc;
+        boolean emLinha = ra >= 0 && ca >= 0 && ra < linhas && ca < colunas && estado[ra * colunas + ca] == ACERTO;
+        if (emLinha) {
+            fronteira.addFirst(r * colunas + c);
+        } else {
+            fronteira.addLast(r * colunas + c);
+        }
+    }
+
+    /**
+     * Chooses the center of an attack covering the candidate cell and the most unknown cells.
+     */
+    private int centraliza(int candidata, AttackPattern forma) {
+        int row = candidata / colunas;
+        int col = candidata % colunas;
+        int melhor = candidata;
+        int melhorPontos = -1;
+        for (int i = 0; i < forma.size(); i++) {
+            int r = row - forma.getRowOffset(i);
+            int c = col - forma.getColOffset(i);
+            if (r < 0 || c < 0 || r >= linhas || c >= colunas) {
+                continue;
+            }
+            int pontos = 0;
+            for (int j = 0; j < forma.size(); j++) {
+                int rj = r + forma.getRowOffset(j);
+                int cj = c + forma.getColOffset(j);
+                if (rj >= 0 && cj >= 0 && rj < linhas && cj < colunas && estado[rj * colunas + cj] == DESCONHECIDA) {
+                    pontos++;
+                }
+            }
+            if (pontos > melhorPontos) {
+                melhor = r * colunas + c;
+                melhorPontos = pontos;
+            }
+        }
+        return melhor;
+    }
+
+    /**
+     * Chooses a cell to hunt: random probes first, then a scan from a random cell.
+     */
+    private int caca() {
+        int menor = menorVivo();
+        for (int i = 0; i < SONDAGENS; i++) {
+            int celula = random.nextInt(celulas);
+            if (promissora(celula, menor)) {
+                return celula;
+            }
+        }
+        int inicio = random.nextInt(celulas);
+        int desconhecida = -1;
+        for (int i = 0; i < celulas; i++) {
+            int celula = (inicio + i) % celulas;
+            if (estado[celula] != DESCONHECIDA) {
+                continue;
+            }
+            if (promissora(celula, menor)) {
+                return celula;
+            }
+            if (desconhecida < 0) {
+                desconhecida = celula;
+            }
+        }
+        return Math.max(desconhecida, 0);
+    }
+
+    /**
+     * Checks if an unknown cell lies on the hunting checkerboard and a ship afloat fits through it.
+     */
+    private boolean promissora(int celula, int menor) {
+        if (estado[celula] != DESCONHECIDA) {
+            return false;
+        }
+        int row = celula / colunas;
+        int col = celula % colunas;
+        if ((row + col) % menor != paridade % menor) {
+            return false;
+        }
+        return trecho(row, col, 0, 1, menor) + trecho(row, col, 0, -1, menor) + 1 >= menor
+                || trecho(row, col, 1, 0, menor) + trecho(row, col, -1, 0, menor) + 1 >= menor;
+    }
+
+    /**
+     * Counts the cells that may still hold a ship going from a cell in one direction, up to the
+     * size of the smallest ship afloat.
+     */
+    private int trecho(int row, int col, int dr, int dc, int menor) {
+        int n = 0;
+        int r = row + dr;
+        int c = col + dc;
+        while (n < menor && r >= 0 && c >= 0 && r < linhas && c < colunas) {
+            byte e = estado[r * colunas + c];
+            if (e == AGUA || e == AFUNDADA) {
+                break;
+            }
+            n++;
+            r += dr;
+            c += dc;
+        }
+        return n;
+    }
+
+    private int menorVivo() {
+        for (int tamanho = 1; tamanho < vivosPorTamanho.length; tamanho++) {
+            if (vivosPorTamanho[tamanho] > 0) {
+                return tamanho;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,77 @@
+package br.ufrn.imd.ia;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Double-ended queue of primitive ints kept in a circular array.
+ * <p>
+ * The array doubles when it fills up and is never shrunk, so once a strategy has reached its
+ * working size, pushing and popping allocate nothing and box nothing.
+ * </p>
+ */
+final class IntDeque {
+    private int[] elementos;
+    private int inicio;
+    private int tamanho;
+
+    /**
+     * Constructs an empty deque.
+     *
+     * @param capacidade The initial capacity; rounded up to a power of two.
+     */
+    IntDeque(int capacidade) {
+        this.elementos = new int[Integer.highestOneBit(Math.max(capacidade - 1, 1)) << 1];
+    }
+
+    void addFirst(int valor) {
+        garante();
+        inicio = (inicio - 1) & (elementos.length - 1);
+        elementos[inicio] = valor;
+        tamanho++;
+    }
+
+    void addLast(int valor) {
+        garante();
+        elementos[(inicio + tamanho) & (elementos.length - 1)] = valor;
+        tamanho++;
+    }
+
+    int peekFirst() {
+        if (tamanho == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementos[inicio];
+    }
+
+    int pollFirst() {
+        int valor = peekFirst();
+        inicio = (inicio + 1) & (elementos.length - 1);
+        tamanho--;
+        return valor;
+    }
+
+    boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    int size() {
+        return tamanho;
+    }
+
+    void clear() {
+        inicio = 0;
+        tamanho = 0;
+    }
+
+    private void garante() {
+        if (tamanho < elementos.length) {
+            return;
+        }
+        int[] maior = new int[elementos.length * 2];
+        int primeiros = elementos.length - inicio;
+        System.arraycopy(elementos, inicio, maior, 0, primeiros);
+        System.arraycopy(elementos, 0, maior, primeiros, inicio);
+        elementos = maior;
+        inicio = 0;
+    }
+}
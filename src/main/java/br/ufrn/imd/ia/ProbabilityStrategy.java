@@ -0,0 +1,293 @@
+package br.ufrn.imd.ia;
+
+import br.ufrn.imd.modelo.AttackPattern;
+import br.ufrn.imd.modelo.CellButton;
+import br.ufrn.imd.modelo.Ship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy that keeps a probability heatmap of the enemy board.
+ * <p>
+ * For every enemy ship still afloat, the strategy tracks which placements (anchor cell and
+ * orientation) are still possible, and each cell counts how many of those placements cover it.
+ * A miss or a sunk ship only invalidates the few placements crossing those cells, so the heatmap is
+ * updated incrementally instead of being rebuilt after every shot. While there are hits on ships
+ * not yet sunk, placements through those hits are favored so the strategy finishes the ship.
+ * </p>
+ * <p>
+ * Choosing a move visits every cell once, so its cost grows with the area of the enemy board.
+ * </p>
+ */
+public final class ProbabilityStrategy implements ShotStrategy {
+    private static final byte DESCONHECIDA = 0;
+    private static final byte AGUA = 1;
+    private static final byte ACERTO = 2;
+    private static final byte AFUNDADA = 3;
+
+    /**
+     * Weight of a placement through a known hit compared with a placement over unknown cells only.
+     */
+    private static final int PESO_ALVO = 1000;
+
+    private RandomGenerator random;
+    private int linhas;
+    private int colunas;
+    private int celulas;
+    private byte[] estado;
+    private int[] densidade;
+    private int[] alvo;
+    private int[] tamanhos;
+    private boolean[] vivos;
+    private boolean[][] validas;
+    private int[] acertos;
+    private int numAcertos;
+
+    /**
+     * Constructs a probability strategy. {@link #reset(int, int, int[])} must be called before the first shot.
+     *
+     * @param random The random generator used to break ties between cells.
+     */
+    public ProbabilityStrategy(RandomGenerator random) {
+        this.random = random;
+        reset(10, 10, new int[0]);
+    }
+
+    @Override
+    public void reset(int linhas, int colunas, int[] tamanhos) {
+        if (estado == null || this.linhas != linhas || this.colunas != colunas) {
+            this.linhas = linhas;
+            this.colunas = colunas;
+            this.celulas = linhas * colunas;
+            this.estado = new byte[celulas];
+            this.densidade = new int[celulas];
+            this.alvo = new int[celulas];
+            this.acertos = new int[celulas];
+        }
+        if (validas == null || validas.length != tamanhos.length || (validas.length > 0 && validas[0].length != 2 * celulas)) {
+            this.tamanhos = new int[tamanhos.length];
+            this.vivos = new boolean[tamanhos.length];
+            this.validas = new boolean[tamanhos.length][2 * celulas];
+        } else {
+            for (boolean[] posicoes : validas) {
+                Arrays.fill(posicoes, false);
+            }
+        }
+        System.arraycopy(tamanhos, 0, this.tamanhos, 0, tamanhos.length);
+        Arrays.fill(estado, DESCONHECIDA);
+        Arrays.fill(densidade, 0);
+        numAcertos = 0;
+
+        for (int navio = 0; navio < tamanhos.length; navio++) {
+            vivos[navio] = true;
+            for (int posicao = 0; posicao < 2 * celulas; posicao++) {
+                if (cabe(posicao, tamanhos[navio])) {
+                    validas[navio][posicao] = true;
+                    somaPosicao(posicao, tamanhos[navio], 1);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int nextShot(Ship atirador) {
+        AttackPattern forma = atirador.getAttackPattern();
+        pontuaAlvos();
+
+        int melhor = -1;
+        long melhorPontos = 0;
+        int empates = 0;
+        for (int celula = 0; celula < celulas; celula++) {
+            int row = celula / colunas;
+            int col = celula % colunas;
+            long pontos = 0;
+            for (int i = 0; i < forma.size(); i++) {
+                int r = row + forma.getRowOffset(i);
+                int c = col + forma.getColOffset(i);
+                if (r >= 0 && c >= 0 && r < linhas && c < colunas) {
+                    pontos += pontos(r * colunas + c);
+                }
+            }
+            if (pontos > melhorPontos) {
+                melhor = celula;
+                melhorPontos = pontos;
+                empates = 1;
+            } else if (pontos == melhorPontos && pontos > 0 && random.nextInt(++empates) == 0) {
+                melhor = celula;
+            }
+        }
+        if (melhor >= 0) {
+            return melhor;
+        }
+        return celulaDesconhecida();
+    }
+
+    @Override
+    public void onShot(int row, int col, boolean acerto) {
+        int celula = row * colunas + col;
+        if (estado[celula] != DESCONHECIDA) {
+            return;
+        }
+        if (acerto) {
+            estado[celula] = ACERTO;
+            acertos[numAcertos++] = celula;
+        } else {
+            estado[celula] = AGUA;
+            bloqueia(celula);
+        }
+    }
+
+    @Override
+    public void onSunk(Ship navio) {
+        for (int i = 0; i < tamanhos.length; i++) {
+            if (vivos[i] && tamanhos[i] == navio.getSize()) {
+                vivos[i] = false;
+                for (int posicao = 0; posicao < 2 * celulas; posicao++) {
+                    if (validas[i][posicao]) {
+                        validas[i][posicao] = false;
+                        somaPosicao(posicao, tamanhos[i], -1);
+                    }
+                }
+                break;
+            }
+        }
+        for (CellButton cell : navio.getPosition()) {
+            int celula = cell.getRow() * colunas + cell.getCol();
+            if (estado[celula] == ACERTO) {
+                removeAcerto(celula);
+            }
+            if (estado[celula] != AFUNDADA) {
+                estado[celula] = AFUNDADA;
+                bloqueia(celula);
+            }
+        }
+    }
+
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Returns the current heatmap value of a cell, that is, how many possible placements of the
+     * ships still afloat cover it.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The number of placements covering the cell.
+     */
+    public int getDensidade(int row, int col) {
+        return densidade[row * colunas + col];
+    }
+
+    private long pontos(int celula) {
+        if (estado[celula] != DESCONHECIDA) {
+            return 0;
+        }
+        return (long) alvo[celula] * PESO_ALVO + densidade[celula];
+    }
+
+    /**
+     * Counts, for every unknown cell, the possible placements that go through a hit not yet sunk.
+     */
+    private void pontuaAlvos() {
+        Arrays.fill(alvo, 0);
+        for (int a = 0; a < numAcertos; a++) {
+            int celula = acertos[a];
+            for (int navio = 0; navio < tamanhos.length; navio++) {
+                if (!vivos[navio]) {
+                    continue;
+                }
+                int tamanho = tamanhos[navio];
+                for (int deitado = 0; deitado < 2; deitado++) {
+                    for (int i = 0; i < tamanho; i++) {
+                        int posicao = posicaoCom(celula, i, deitado == 0);
+                        if (posicao >= 0 && validas[navio][posicao]) {
+                            int passo = deitado == 0 ? 1 : colunas;
+                            int inicio = posicao % celulas;
+                            for (int j = 0; j < tamanho; j++) {
+                                alvo[inicio + j * passo]++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates every placement crossing a cell that can no longer hold a ship afloat.
+     *
+     * @param celula The blocked cell.
+     */
+    private void bloqueia(int celula) {
+        for (int navio = 0; navio < tamanhos.length; navio++) {
+            if (!vivos[navio]) {
+                continue;
+            }
+            for (int deitado = 0; deitado < 2; deitado++) {
+                for (int i = 0; i < tamanhos[navio]; i++) {
+                    int posicao = posicaoCom(celula, i, deitado == 0);
+                    if (posicao >= 0 && validas[navio][posicao]) {
+                        validas[navio][posicao] = false;
+                        somaPosicao(posicao, tamanhos[navio], -1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the placement whose i-th cell is the given cell.
+     *
+     * @param celula The cell covered by the placement.
+     * @param i The index of the cell inside the ship.
+     * @param deitado True for a horizontal placement.
+     * @return The placement index, or -1 if the anchor would be outside the board.
+     */
+    private int posicaoCom(int celula, int i, boolean deitado) {
+        int row = celula / colunas;
+        int col = celula % colunas;
+        if (deitado) {
+            return col - i >= 0 ? celula - i : -1;
+        }
+        return row - i >= 0 ? celulas + celula - i * colunas : -1;
+    }
+
+    private boolean cabe(int posicao, int tamanho) {
+        int inicio = posicao % celulas;
+        if (posicao < celulas) {
+            return inicio % colunas + tamanho <= colunas;
+        }
+        return inicio / colunas + tamanho <= linhas;
+    }
+
+    private void somaPosicao(int posicao, int tamanho, int valor) {
+        int passo = posicao < celulas ? 1 : colunas;
+        int inicio = posicao % celulas;
+        for (int j = 0; j < tamanho; j++) {
+            densidade[inicio + j * passo] += valor;
+        }
+    }
+
+    private void removeAcerto(int celula) {
+        for (int a = 0; a < numAcertos; a++) {
+            if (acertos[a] == celula) {
+                acertos[a] = acertos[--numAcertos];
+                return;
+            }
+        }
+    }
+
+    private int celulaDesconhecida() {
+        int escolhida = random.nextInt(celulas);
+        for (int i = 0; i < celulas; i++) {
+            int celula = (escolhida + i) % celulas;
+            if (estado[celula] == DESCONHECIDA) {
+                return celula;
+            }
+        }
+        return escolhida;
+    }
+}
@@ -0,0 +1,47 @@
+package br.ufrn.imd.ia;
+
+import br.ufrn.imd.modelo.Ship;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy that attacks uniformly random cells and ignores the results of its shots.
+ * It is the original behavior of the computer and is kept as a baseline for the other strategies.
+ */
+public class RandomStrategy implements ShotStrategy {
+    private RandomGenerator random;
+    private int celulas;
+
+    /**
+     * Constructs a random strategy.
+     *
+     * @param random The random generator used to choose the cells.
+     */
+    public RandomStrategy(RandomGenerator random) {
+        this.random = random;
+        this.celulas = 100;
+    }
+
+    @Override
+    public void reset(int linhas, int colunas, int[] tamanhos) {
+        celulas = linhas * colunas;
+    }
+
+    @Override
+    public int nextShot(Ship atirador) {
+        return random.nextInt(celulas);
+    }
+
+    @Override
+    public void onShot(int row, int col, boolean acerto) {
+    }
+
+    @Override
+    public void onSunk(Ship navio) {
+    }
+
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+}
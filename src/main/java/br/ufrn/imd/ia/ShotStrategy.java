@@ -0,0 +1,57 @@
+package br.ufrn.imd.ia;
+
+import java.util.random.RandomGenerator;
+
+import br.ufrn.imd.modelo.Ship;
+
+/**
+ * Strategy used by a computer player to choose where each of its ships attacks.
+ * <p>
+ * The strategy only learns about the enemy board through the results of its own shots, the same
+ * information a human player has.
+ * </p>
+ */
+public interface ShotStrategy {
+
+    /**
+     * Starts a new match against an enemy board and fleet.
+     *
+     * @param linhas The number of rows of the enemy board.
+     * @param colunas The number of columns of the enemy board.
+     * @param tamanhos The sizes of the enemy ships.
+     */
+    void reset(int linhas, int colunas, int[] tamanhos);
+
+    /**
+     * Chooses the cell a ship will attack. The ship's attack shape is applied around that cell.
+     *
+     * @param atirador The ship that is attacking.
+     * @return The chosen cell, encoded as {@code row * colunas + col}.
+     */
+    int nextShot(Ship atirador);
+
+    /**
+     * Informs the result of a shot on a cell.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @param acerto True if the shot hit a ship.
+     */
+    void onShot(int row, int col, boolean acerto);
+
+    /**
+     * Informs that an enemy ship was sunk.
+     *
+     * @param navio The sunk ship.
+     */
+    void onSunk(Ship navio);
+
+    /**
+     * Replaces the generator used for the strategy's random choices, so that a new match can be
+     * reproduced from its own seed. Strategies that make no random choices ignore it.
+     *
+     * @param random The new generator.
+     */
+    default void setRandom(RandomGenerator random) {
+    }
+}
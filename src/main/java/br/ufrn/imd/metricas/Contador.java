@@ -0,0 +1,51 @@
+package br.ufrn.imd.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter that many threads can increment without contending on a single variable.
+ */
+public class Contador implements ContadorMXBean {
+    private final String nome;
+    private final LongAdder valor;
+
+    /**
+     * Constructs a counter starting at zero.
+     *
+     * @param nome The name of the counter.
+     */
+    public Contador(String nome) {
+        this.nome = nome;
+        this.valor = new LongAdder();
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void incrementa() {
+        valor.increment();
+    }
+
+    /**
+     * Adds a value to the counter.
+     *
+     * @param n The value to add.
+     */
+    public void soma(long n) {
+        valor.add(n);
+    }
+
+    @Override
+    public long getValor() {
+        return valor.sum();
+    }
+
+    /**
+     * Returns the name of the counter.
+     *
+     * @return The name.
+     */
+    public String getNome() {
+        return nome;
+    }
+}
@@ -0,0 +1,14 @@
+package br.ufrn.imd.metricas;
+
+/**
+ * Management interface of a {@link Contador}, as seen through JMX.
+ */
+public interface ContadorMXBean {
+
+    /**
+     * Returns the current value of the counter.
+     *
+     * @return The sum of every increment so far.
+     */
+    long getValor();
+}
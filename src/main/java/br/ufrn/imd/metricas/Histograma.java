@@ -0,0 +1,143 @@
+package br.ufrn.imd.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in nanoseconds with a fixed relative error, in the style of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BALDES} fall in a bucket of their own; above that, every power of two
+ * is split in {@value #SUB_BALDES} buckets of equal width, so a percentile is off by at most about
+ * 3%. The buckets are a fixed array of counters, found with a few shifts, so recording a value
+ * takes constant time, allocates nothing and never takes a lock. Values above about 18 minutes
+ * are counted in the last bucket.
+ * </p>
+ */
+public class Histograma implements HistogramaMXBean {
+    private static final int BITS_SUB = 5;
+    private static final int SUB_BALDES = 1 << BITS_SUB;
+    private static final int MAIOR_EXPOENTE = 40;
+    private static final int BALDES = (MAIOR_EXPOENTE - BITS_SUB + 2) * SUB_BALDES;
+
+    private final String nome;
+    private final AtomicLongArray baldes;
+    private final LongAdder contagem;
+    private final LongAdder soma;
+    private final AtomicLong maximo;
+
+    /**
+     * Constructs an empty histogram.
+     *
+     * @param nome The name of the histogram.
+     */
+    public Histograma(String nome) {
+        this.nome = nome;
+        this.baldes = new AtomicLongArray(BALDES);
+        this.contagem = new LongAdder();
+        this.soma = new LongAdder();
+        this.maximo = new AtomicLong();
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds; negative values count as zero.
+     */
+    public void registra(long nanos) {
+        long valor = Math.max(nanos, 0);
+        baldes.incrementAndGet(balde(valor));
+        contagem.increment();
+        soma.add(valor);
+        if (valor > maximo.get()) {
+            maximo.accumulateAndGet(valor, Math::max);
+        }
+    }
+
+    /**
+     * Records the time elapsed since a reading of {@link System#nanoTime()}.
+     *
+     * @param inicio The reading taken when the measured work started.
+     */
+    public void registraDesde(long inicio) {
+        registra(System.nanoTime() - inicio);
+    }
+
+    /**
+     * Returns a percentile of the values recorded.
+     *
+     * @param percentil The percentile, from 0 to 100.
+     * @return The upper bound of the bucket holding the percentile, in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentil(double percentil) {
+        long total = contagem.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(total * percentil / 100));
+        long acumulado = 0;
+        for (int i = 0; i < BALDES; i++) {
+            acumulado += baldes.get(i);
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    @Override
+    public long getContagem() {
+        return contagem.sum();
+    }
+
+    @Override
+    public double getMediaMicros() {
+        long total = contagem.sum();
+        return total == 0 ? 0 : soma.sum() / 1e3 / total;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return getPercentil(50) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return getPercentil(99) / 1e3;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return maximo.get() / 1e3;
+    }
+
+    /**
+     * Returns the name of the histogram.
+     *
+     * @return The name.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    private static int balde(long valor) {
+        if (valor < SUB_BALDES) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        if (expoente > MAIOR_EXPOENTE) {
+            return BALDES - 1;
+        }
+        int deslocamento = expoente - BITS_SUB;
+        return (deslocamento + 1) * SUB_BALDES + (int) ((valor >>> deslocamento) & (SUB_BALDES - 1));
+    }
+
+    private static long limiteSuperior(int balde) {
+        if (balde < SUB_BALDES) {
+            return balde;
+        }
+        int deslocamento = balde / SUB_BALDES - 1;
+        long base = (long) (SUB_BALDES + balde % SUB_BALDES) << deslocamento;
+        return base + (1L << deslocamento) - 1;
+    }
+}
@@ -0,0 +1,42 @@
+package br.ufrn.imd.metricas;
+
+/**
+ * Management interface of a {@link Histograma}, as seen through JMX. Times are in microseconds.
+ */
+public interface HistogramaMXBean {
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return The number of values.
+     */
+    long getContagem();
+
+    /**
+     * Returns the mean of the values recorded.
+     *
+     * @return The mean, in microseconds.
+     */
+    double getMediaMicros();
+
+    /**
+     * Returns the median of the values recorded.
+     *
+     * @return The median, in microseconds.
+     */
+    double getP50Micros();
+
+    /**
+     * Returns the 99th percentile of the values recorded.
+     *
+     * @return The 99th percentile, in microseconds.
+     */
+    double getP99Micros();
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return The largest value, in microseconds.
+     */
+    double getMaxMicros();
+}
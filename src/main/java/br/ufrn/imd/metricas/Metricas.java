@@ -0,0 +1,197 @@
+package br.ufrn.imd.metricas;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The metrics of the game, shared by every match of the process.
+ * <p>
+ * The metrics measured on the hot paths are constants, so recording one is a field read and an
+ * update of a {@link Contador} or {@link Histograma}, with no lookup by name. Other metrics can be
+ * created by name with {@link #contador(String)} and {@link #histograma(String)}. Every metric can
+ * be published as an MXBean under {@code br.ufrn.imd.metricas} with {@link #registraJmx()}, and
+ * {@link #iniciaRelatorio(Path, Duration)} rewrites a text report at a fixed period.
+ * </p>
+ * <p>
+ * Starting the game with {@code -Dbatalhanaval.metricas=<arquivo>} publishes the metrics through
+ * JMX and writes the report to that file every ten seconds. Only then does the engine time its
+ * turns, attacks and placements (see {@link #MEDE_TEMPOS}); the counters are always kept.
+ * </p>
+ */
+public final class Metricas {
+    private static final Map<String, Contador> CONTADORES = new ConcurrentSkipListMap<>();
+    private static final Map<String, Histograma> HISTOGRAMAS = new ConcurrentSkipListMap<>();
+
+    /**
+     * Tells if the engine measures the durations of its hot paths, which is only the case when the
+     * process was started with {@code -Dbatalhanaval.metricas}. Timing every turn and every attack
+     * reads the clock several times per turn and records into histograms shared by all threads, a
+     * cost every worker of a tournament or batch simulation would pay for nothing.
+     */
+    public static final boolean MEDE_TEMPOS = System.getProperty("batalhanaval.metricas") != null;
+
+    /**
+     * Time to resolve a turn of both players.
+     */
+    public static final Histograma TURNO = histograma("turno");
+
+    /**
+     * Time taken by a computer strategy to choose the attacks of a volley.
+     */
+    public static final Histograma JOGADA_IA = histograma("jogadaIa");
+
+    /**
+     * Time to place a whole fleet at random.
+     */
+    public static final Histograma POSICIONAMENTO = histograma("posicionamento");
+
+    /**
+     * Time to redraw a board on screen.
+     */
+    public static final Histograma DESENHO = histograma("desenho");
+
+    /**
+     * Shots fired at any board.
+     */
+    public static final Contador TIROS = contador("tiros");
+
+    /**
+     * Shots that hit a ship cell not hit before.
+     */
+    public static final Contador ACERTOS = contador("acertos");
+
+    /**
+     * Ships sunk.
+     */
+    public static final Contador AFUNDADOS = contador("afundados");
+
+    /**
+     * Matches that ended with a winner.
+     */
+    public static final Contador PARTIDAS = contador("partidas");
+
+    private static ScheduledExecutorService relatorio;
+
+    private Metricas() {
+    }
+
+    /**
+     * Returns the counter with the given name, creating it on first use.
+     *
+     * @param nome The name of the counter.
+     * @return The counter.
+     */
+    public static Contador contador(String nome) {
+        return CONTADORES.computeIfAbsent(nome, Contador::new);
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it on first use.
+     *
+     * @param nome The name of the histogram.
+     * @return The histogram.
+     */
+    public static Histograma histograma(String nome) {
+        return HISTOGRAMAS.computeIfAbsent(nome, Histograma::new);
+    }
+
+    /**
+     * Publishes every metric created so far in the platform MBean server. Metrics already published are skipped.
+     *
+     * @throws IllegalStateException If the MBean server refuses a metric.
+     */
+    public static synchronized void registraJmx() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Contador contador : CONTADORES.values()) {
+                ObjectName nome = new ObjectName("br.ufrn.imd.metricas:type=Contador,name=" + contador.getNome());
+                if (!servidor.isRegistered(nome)) {
+                    servidor.registerMBean(contador, nome);
+                }
+            }
+            for (Histograma histograma : HISTOGRAMAS.values()) {
+                ObjectName nome = new ObjectName("br.ufrn.imd.metricas:type=Histograma,name=" + histograma.getNome());
+                if (!servidor.isRegistered(nome)) {
+                    servidor.registerMBean(histograma, nome);
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível publicar as métricas", e);
+        }
+    }
+
+    /**
+     * Starts rewriting a text report of every metric at a fixed period, on a daemon thread.
+     * A report already running is replaced.
+     *
+     * @param arquivo The file receiving the report.
+     * @param periodo The time between two reports.
+     */
+    public static synchronized void iniciaRelatorio(Path arquivo, Duration periodo) {
+        paraRelatorio();
+        relatorio = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "relatorio-metricas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = periodo.toMillis();
+        relatorio.scheduleAtFixedRate(() -> escreveRelatorio(arquivo), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic report, if one is running.
+     */
+    public static synchronized void paraRelatorio() {
+        if (relatorio != null) {
+            relatorio.shutdownNow();
+            relatorio = null;
+        }
+    }
+
+    /**
+     * Writes a text report of every metric to a file, replacing it in a single move so a reader
+     * never sees half a report. Failures are ignored, the next report tries again.
+     *
+     * @param arquivo The file receiving the report.
+     */
+    public static void escreveRelatorio(Path arquivo) {
+        try {
+            Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+            Files.writeString(temporario, relatorio());
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException e) {
+            // O próximo relatório tenta de novo
+        }
+    }
+
+    /**
+     * Formats every metric as text, one per line.
+     *
+     * @return The report.
+     */
+    public static String relatorio() {
+        StringBuilder texto = new StringBuilder("# ").append(Instant.now()).append('\n');
+        for (Contador contador : CONTADORES.values()) {
+            texto.append(String.format("%-16s %d%n", contador.getNome(), contador.getValor()));
+        }
+        for (Histograma h : HISTOGRAMAS.values()) {
+            texto.append(String.format("%-16s n=%d media=%.1fus p50=%.1fus p99=%.1fus max=%.1fus%n", h.getNome(),
+                    h.getContagem(), h.getMediaMicros(), h.getP50Micros(), h.getP99Micros(), h.getMaxMicros()));
+        }
+        return texto.toString();
+    }
+}
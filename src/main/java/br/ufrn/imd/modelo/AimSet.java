@@ -0,0 +1,211 @@
+package br.ufrn.imd.modelo;
+
+import java.util.Arrays;
+
+/**
+ * The cells aimed at on a board during one turn, one bitset per aiming ship plus their union.
+ * <p>
+ * Cell {@code (row, col)} is the bit {@code row * colunas + col}. Ships are identified by a slot
+ * number chosen by the caller. Checking whether a cell is already aimed at is one lookup in the
+ * union, counting the ships that aimed is a counter, and the shots of a turn are found by walking
+ * the set bits of the union with {@link #proxima(int)}. Each ship remembers the range of words it
+ * touched, so replacing its aim or clearing the turn only visits that range.
+ * </p>
+ * <p>
+ * The aim flag of the board's {@link CellButton}s, read by the renderers, is kept in step with the
+ * union.
+ * </p>
+ */
+public class AimSet {
+    private final Board board;
+    private final int colunas;
+    private final long[] uniao;
+    private long[][] mascaras;
+    private int[] primeira;
+    private int[] ultima;
+    private int[] centros;
+    private int[] ordem;
+    private int mirados;
+
+    /**
+     * Constructs an empty aim set over a board.
+     *
+     * @param board The board being aimed at.
+     */
+    public AimSet(Board board) {
+        this.board = board;
+        this.colunas = board.getColunas();
+        this.uniao = new long[(board.getLinhas() * colunas + 63) >>> 6];
+        this.mascaras = new long[0][];
+        this.primeira = new int[0];
+        this.ultima = new int[0];
+        this.centros = new int[0];
+        this.ordem = new int[0];
+    }
+
+    /**
+     * Sets the cells aimed at by a ship, replacing the ones it aimed at before in this turn.
+     *
+     * @param navio The slot of the ship.
+     * @param centro The aimed cell, used by the radar.
+     * @param celulas The cells hit by the attack, encoded as {@code row * colunas + col}.
+     * @param n The number of cells in {@code celulas}.
+     */
+    public void mira(int navio, int centro, int[] celulas, int n) {
+        garante(navio);
+        if (hasMirado(navio)) {
+            remove(navio);
+        }
+        long[] mascara = mascaras[navio];
+        if (mascara == null) {
+            mascara = new long[uniao.length];
+            mascaras[navio] = mascara;
+        }
+        for (int i = 0; i < n; i++) {
+            int celula = celulas[i];
+            int palavra = celula >>> 6;
+            mascara[palavra] |= 1L << celula;
+            uniao[palavra] |= 1L << celula;
+            primeira[navio] = Math.min(primeira[navio], palavra);
+            ultima[navio] = Math.max(ultima[navio], palavra);
+            board.getCell(celula / colunas, celula % colunas).setAimed(true);
+        }
+        centros[navio] = centro;
+        ordem[mirados++] = navio;
+    }
+
+    /**
+     * Removes the aim of a ship. Cells still aimed at by another ship stay aimed.
+     *
+     * @param navio The slot of the ship.
+     */
+    public void remove(int navio) {
+        if (!hasMirado(navio)) {
+            return;
+        }
+        int posicao = 0;
+        while (ordem[posicao] != navio) {
+            posicao++;
+        }
+        System.arraycopy(ordem, posicao + 1, ordem, posicao, mirados - posicao - 1);
+        mirados--;
+
+        long[] mascara = mascaras[navio];
+        for (int palavra = primeira[navio]; palavra <= ultima[navio]; palavra++) {
+            long antes = mascara[palavra];
+            mascara[palavra] = 0;
+            long depois = 0;
+            for (int i = 0; i < mirados; i++) {
+                int outro = ordem[i];
+                if (palavra >= primeira[outro] && palavra <= ultima[outro]) {
+                    depois |= mascaras[outro][palavra];
+                }
+            }
+            uniao[palavra] = depois;
+            desmarca(palavra, antes & ~depois);
+        }
+        primeira[navio] = Integer.MAX_VALUE;
+        ultima[navio] = -1;
+    }
+
+    /**
+     * Checks if a cell is aimed at by any ship.
+     *
+     * @param celula The cell, encoded as {@code row * colunas + col}.
+     * @return True if some ship aims at the cell.
+     */
+    public boolean isMirada(int celula) {
+        return (uniao[celula >>> 6] & (1L << celula)) != 0;
+    }
+
+    /**
+     * Checks if a ship already aimed in this turn.
+     *
+     * @param navio The slot of the ship.
+     * @return True if the ship has targets.
+     */
+    public boolean hasMirado(int navio) {
+        return navio < ultima.length && ultima[navio] >= 0;
+    }
+
+    /**
+     * Returns the number of ships that aimed in this turn.
+     *
+     * @return The number of ships with targets.
+     */
+    public int getMirados() {
+        return mirados;
+    }
+
+    /**
+     * Returns the aimed cell of the i-th ship to aim in this turn, for the radar.
+     *
+     * @param i The position of the ship in the order the ships aimed, starting at 0.
+     * @return The aimed cell, encoded as {@code row * colunas + col}.
+     */
+    public int getCentro(int i) {
+        return centros[ordem[i]];
+    }
+
+    /**
+     * Returns the first aimed cell at or after the given one.
+     *
+     * @param celula The cell to start from, encoded as {@code row * colunas + col}.
+     * @return The next aimed cell, or -1 if there is none.
+     */
+    public int proxima(int celula) {
+        int palavra = celula >>> 6;
+        if (palavra >= uniao.length) {
+            return -1;
+        }
+        long bits = uniao[palavra] & (-1L << celula);
+        while (bits == 0) {
+            if (++palavra == uniao.length) {
+                return -1;
+            }
+            bits = uniao[palavra];
+        }
+        return (palavra << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Removes every aim, ending the turn.
+     */
+    public void limpa() {
+        for (int i = 0; i < mirados; i++) {
+            int navio = ordem[i];
+            long[] mascara = mascaras[navio];
+            for (int palavra = primeira[navio]; palavra <= ultima[navio]; palavra++) {
+                desmarca(palavra, uniao[palavra]);
+                uniao[palavra] = 0;
+                mascara[palavra] = 0;
+            }
+            primeira[navio] = Integer.MAX_VALUE;
+            ultima[navio] = -1;
+        }
+        mirados = 0;
+    }
+
+    private void desmarca(int palavra, long bits) {
+        while (bits != 0) {
+            int celula = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+            board.getCell(celula / colunas, celula % colunas).setAimed(false);
+            bits &= bits - 1;
+        }
+    }
+
+    private void garante(int navio) {
+        if (navio < ultima.length) {
+            return;
+        }
+        int capacidade = Math.max(navio + 1, ultima.length * 2);
+        int antiga = ultima.length;
+        mascaras = Arrays.copyOf(mascaras, capacidade);
+        primeira = Arrays.copyOf(primeira, capacidade);
+        ultima = Arrays.copyOf(ultima, capacidade);
+        centros = Arrays.copyOf(centros, capacidade);
+        ordem = Arrays.copyOf(ordem, capacidade);
+        Arrays.fill(primeira, antiga, capacidade, Integer.MAX_VALUE);
+        Arrays.fill(ultima, antiga, capacidade, -1);
+    }
+}
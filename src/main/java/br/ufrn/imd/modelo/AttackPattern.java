@@ -0,0 +1,96 @@
+package br.ufrn.imd.modelo;
+
+/**
+ * Immutable shape of the cells hit by one attack of a ship, as offsets from the aimed cell.
+ * <p>
+ * The patterns are shared constants, and {@link #apply(int, int, int, int, int[])} writes the
+ * cells of an attack into a buffer owned by the caller, clipped to the board. Resolving a shot
+ * therefore allocates nothing, unlike building a list of {@link CellButton}s for every attack.
+ * </p>
+ */
+public final class AttackPattern {
+    /**
+     * Largest number of cells hit by a single attack; a buffer of this size fits any pattern.
+     */
+    public static final int MAX_CELULAS = 3;
+
+    /**
+     * Only the aimed cell.
+     */
+    public static final AttackPattern CORVETA = new AttackPattern(new int[]{0}, new int[]{0});
+
+    /**
+     * The aimed cell and the cell to its right.
+     */
+    public static final AttackPattern SUBMARINO = new AttackPattern(new int[]{0, 0}, new int[]{0, 1});
+
+    /**
+     * The aimed cell, the cell below it and the cell above it.
+     */
+    public static final AttackPattern FRAGATA = new AttackPattern(new int[]{0, 1, -1}, new int[]{0, 0, 0});
+
+    /**
+     * The aimed cell, the cell to its right and the cell to its left.
+     */
+    public static final AttackPattern DESTROYER = new AttackPattern(new int[]{0, 0, 0}, new int[]{0, 1, -1});
+
+    private final int[] linhas;
+    private final int[] colunas;
+
+    private AttackPattern(int[] linhas, int[] colunas) {
+        this.linhas = linhas;
+        this.colunas = colunas;
+    }
+
+    /**
+     * Returns the number of cells of the pattern.
+     *
+     * @return The number of offsets.
+     */
+    public int size() {
+        return linhas.length;
+    }
+
+    /**
+     * Returns the row offset of a cell of the pattern.
+     *
+     * @param i The index of the cell, from 0 to {@link #size()} - 1.
+     * @return The offset added to the aimed row.
+     */
+    public int getRowOffset(int i) {
+        return linhas[i];
+    }
+
+    /**
+     * Returns the column offset of a cell of the pattern.
+     *
+     * @param i The index of the cell, from 0 to {@link #size()} - 1.
+     * @return The offset added to the aimed column.
+     */
+    public int getColOffset(int i) {
+        return colunas[i];
+    }
+
+    /**
+     * Writes the cells hit by an attack at the given cell into a buffer, skipping the cells
+     * outside the board. Each cell is encoded as {@code row * numColunas + col}.
+     *
+     * @param row The aimed row.
+     * @param col The aimed column.
+     * @param numLinhas The number of rows of the board.
+     * @param numColunas The number of columns of the board.
+     * @param alvos The buffer receiving the cells, with room for at least {@link #size()} cells.
+     * @return The number of cells written.
+     */
+    public int apply(int row, int col, int numLinhas, int numColunas, int[] alvos) {
+        int n = 0;
+        for (int i = 0; i < linhas.length; i++) {
+            int r = row + linhas[i];
+            int c = col + colunas[i];
+            if (r >= 0 && c >= 0 && r < numLinhas && c < numColunas) {
+                alvos[n++] = r * numColunas + c;
+            }
+        }
+        return n;
+    }
+}
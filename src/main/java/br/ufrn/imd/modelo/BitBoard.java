@@ -0,0 +1,351 @@
+package br.ufrn.imd.modelo;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Compact representation of a 10x10 game board using bitmasks.
+ * <p>
+ * Each set of cells (ship occupancy, hits and aims) is kept as a pair of {@code long}s: the cell
+ * {@code (row, col)} is the bit {@code row * 10 + col}, the first 64 cells live in the low word and
+ * the remaining 36 in the high word. Every ship also keeps its own mask, so hit, sunk and radar
+ * checks are a few AND/popcount operations instead of walks over {@link CellButton} objects, and
+ * a cell-to-ship index answers {@link #shipAt(int, int)} with one lookup.
+ * </p>
+ * <p>
+ * This is a prototype used by the benchmarks to compare against {@link Board}; the game itself
+ * does not use it. {@link Board} must also hold boards up to {@link Board#MAX_TAMANHO} cells wide
+ * and already answers the radar and sunk checks from counters, so it keeps its own storage.
+ * </p>
+ *
+ * @see Board
+ */
+public class BitBoard {
+    /**
+     * Number of rows and columns of the board.
+     */
+    public static final int TAMANHO = 10;
+
+    private static final long[] LINHA_LO = new long[TAMANHO];
+    private static final long[] LINHA_HI = new long[TAMANHO];
+    private static final long[] COLUNA_LO = new long[TAMANHO];
+    private static final long[] COLUNA_HI = new long[TAMANHO];
+
+    static {
+        for (int row = 0; row < TAMANHO; row++) {
+            for (int col = 0; col < TAMANHO; col++) {
+                int bit = row * TAMANHO + col;
+                if (bit < 64) {
+                    LINHA_LO[row] |= 1L << bit;
+                    COLUNA_LO[col] |= 1L << bit;
+                } else {
+                    LINHA_HI[row] |= 1L << (bit - 64);
+                    COLUNA_HI[col] |= 1L << (bit - 64);
+                }
+            }
+        }
+    }
+
+    private long naviosLo;
+    private long naviosHi;
+    private long hitsLo;
+    private long hitsHi;
+    private long miradosLo;
+    private long miradosHi;
+    private long[] navioLo;
+    private long[] navioHi;
+    private final byte[] navioNaCelula;
+    private int numNavios;
+
+    /**
+     * Constructs an empty board, with no ships, hits or aims.
+     */
+    public BitBoard() {
+        navioLo = new long[4];
+        navioHi = new long[4];
+        navioNaCelula = new byte[TAMANHO * TAMANHO];
+        numNavios = 0;
+    }
+
+    /**
+     * Builds a bitboard with the same ships, hits and aims of a {@link Board}. The ships are read
+     * from the board's cells, so the ones already sunk and dropped from {@link Board#getShips()}
+     * are kept; they are numbered in the order their first cell appears, row by row.
+     *
+     * @param board The board to copy.
+     * @return A new bitboard equivalent to the given board.
+     * @throws IllegalArgumentException if the board is not 10x10.
+     */
+    public static BitBoard from(Board board) {
+        if (board.getLinhas() != TAMANHO || board.getColunas() != TAMANHO) {
+            throw new IllegalArgumentException("BitBoard só representa tabuleiros 10x10");
+        }
+        BitBoard bits = new BitBoard();
+        Map<Ship, Integer> indices = new IdentityHashMap<>();
+        long[] lo = new long[TAMANHO * TAMANHO];
+        long[] hi = new long[TAMANHO * TAMANHO];
+        for (int row = 0; row < TAMANHO; row++) {
+            for (int col = 0; col < TAMANHO; col++) {
+                Ship ship = board.getShipAt(row, col);
+                if (ship == null) {
+                    continue;
+                }
+                int navio = indices.computeIfAbsent(ship, novo -> indices.size());
+                int bit = bit(row, col);
+                if (bit < 64) {
+                    lo[navio] |= 1L << bit;
+                } else {
+                    hi[navio] |= 1L << (bit - 64);
+                }
+            }
+        }
+        for (int navio = 0; navio < indices.size(); navio++) {
+            bits.adicionaNavio(lo[navio], hi[navio]);
+        }
+        board.forEachCell(cell -> {
+            if (cell.isHit()) {
+                bits.hit(cell.getRow(), cell.getCol());
+            }
+            if (cell.getAimed()) {
+                bits.aim(cell.getRow(), cell.getCol());
+            }
+        });
+        return bits;
+    }
+
+    /**
+     * Places a ship on the board if it fits and does not overlap another ship.
+     *
+     * @param row The row of the first cell of the ship.
+     * @param col The column of the first cell of the ship.
+     * @param tamanho The size of the ship.
+     * @param deitado True for a horizontal ship, false for a vertical one.
+     * @return The index of the placed ship, or -1 if the ship could not be placed.
+     */
+    public int placeShip(int row, int col, int tamanho, boolean deitado) {
+        int ultimaFileira = deitado ? row : row + tamanho - 1;
+        int ultimaColuna = deitado ? col + tamanho - 1 : col;
+        if (row < 0 || col < 0 || ultimaFileira >= TAMANHO || ultimaColuna >= TAMANHO) {
+            return -1;
+        }
+        long lo = 0;
+        long hi = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int bit = deitado ? bit(row, col + i) : bit(row + i, col);
+            if (bit < 64) {
+                lo |= 1L << bit;
+            } else {
+                hi |= 1L << (bit - 64);
+            }
+        }
+        if ((lo & naviosLo) != 0 || (hi & naviosHi) != 0) {
+            return -1;
+        }
+        return adicionaNavio(lo, hi);
+    }
+
+    /**
+     * Hits a cell of the board.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if there is a ship on the cell, otherwise false.
+     */
+    public boolean hit(int row, int col) {
+        int bit = bit(row, col);
+        if (bit < 64) {
+            hitsLo |= 1L << bit;
+            return (naviosLo & (1L << bit)) != 0;
+        }
+        hitsHi |= 1L << (bit - 64);
+        return (naviosHi & (1L << (bit - 64))) != 0;
+    }
+
+    /**
+     * Marks a cell as aimed.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    public void aim(int row, int col) {
+        int bit = bit(row, col);
+        if (bit < 64) {
+            miradosLo |= 1L << bit;
+        } else {
+            miradosHi |= 1L << (bit - 64);
+        }
+    }
+
+    /**
+     * Hits every aimed cell and clears the aims.
+     *
+     * @return The number of aimed cells that had a ship which was not hit before.
+     */
+    public int fireAimed() {
+        int acertos = Long.bitCount(miradosLo & naviosLo & ~hitsLo) + Long.bitCount(miradosHi & naviosHi & ~hitsHi);
+        hitsLo |= miradosLo;
+        hitsHi |= miradosHi;
+        miradosLo = 0;
+        miradosHi = 0;
+        return acertos;
+    }
+
+    /**
+     * Checks if a cell has a ship.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if there is a ship on the cell.
+     */
+    public boolean isShip(int row, int col) {
+        return testa(naviosLo, naviosHi, bit(row, col));
+    }
+
+    /**
+     * Checks if a cell was hit.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the cell was hit.
+     */
+    public boolean isHit(int row, int col) {
+        return testa(hitsLo, hitsHi, bit(row, col));
+    }
+
+    /**
+     * Checks if a cell is aimed.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return True if the cell is aimed.
+     */
+    public boolean isAimed(int row, int col) {
+        return testa(miradosLo, miradosHi, bit(row, col));
+    }
+
+    /**
+     * Returns the index of the ship on a cell.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The index of the ship, or -1 if the cell is water.
+     */
+    public int shipAt(int row, int col) {
+        return navioNaCelula[bit(row, col)] - 1;
+    }
+
+    /**
+     * Checks if a ship was sunk, that is, if all of its cells were hit.
+     *
+     * @param navio The index of the ship.
+     * @return True if the ship was sunk.
+     */
+    public boolean isSunk(int navio) {
+        return (navioLo[navio] & ~hitsLo) == 0 && (navioHi[navio] & ~hitsHi) == 0;
+    }
+
+    /**
+     * Counts the ships that still have cells not hit.
+     *
+     * @return The number of living ships.
+     */
+    public int livingShips() {
+        int vivos = 0;
+        for (int i = 0; i < numNavios; i++) {
+            if (!isSunk(i)) {
+                vivos++;
+            }
+        }
+        return vivos;
+    }
+
+    /**
+     * Checks if there is a ship cell not hit yet on a row.
+     *
+     * @param row The row to check.
+     * @return True if the radar detects a ship on the row.
+     */
+    public boolean shipInRow(int row) {
+        return (naviosLo & ~hitsLo & LINHA_LO[row]) != 0 || (naviosHi & ~hitsHi & LINHA_HI[row]) != 0;
+    }
+
+    /**
+     * Checks if there is a ship cell not hit yet on a column.
+     *
+     * @param col The column to check.
+     * @return True if the radar detects a ship on the column.
+     */
+    public boolean shipInColumn(int col) {
+        return (naviosLo & ~hitsLo & COLUNA_LO[col]) != 0 || (naviosHi & ~hitsHi & COLUNA_HI[col]) != 0;
+    }
+
+    /**
+     * Returns the number of ships placed on the board, sunk or not.
+     *
+     * @return The number of ships.
+     */
+    public int getNumShips() {
+        return numNavios;
+    }
+
+    /**
+     * Returns the low word (cells 0 to 63) of a ship's mask.
+     *
+     * @param navio The index of the ship.
+     * @return The low word of the mask.
+     */
+    public long getShipMaskLo(int navio) {
+        return navioLo[navio];
+    }
+
+    /**
+     * Returns the high word (cells 64 to 99) of a ship's mask.
+     *
+     * @param navio The index of the ship.
+     * @return The high word of the mask.
+     */
+    public long getShipMaskHi(int navio) {
+        return navioHi[navio];
+    }
+
+    /**
+     * Returns the bit of a cell in the masks.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The bit index, from 0 to 99.
+     * @throws ArrayIndexOutOfBoundsException if the cell is outside the board.
+     */
+    public static int bit(int row, int col) {
+        if (row >= TAMANHO || col >= TAMANHO || row < 0 || col < 0) {
+            throw new ArrayIndexOutOfBoundsException("Você mirou numa célula fora do alcance do tabuleiro");
+        }
+        return row * TAMANHO + col;
+    }
+
+    private int adicionaNavio(long lo, long hi) {
+        if (numNavios == navioLo.length) {
+            navioLo = Arrays.copyOf(navioLo, numNavios * 2);
+            navioHi = Arrays.copyOf(navioHi, numNavios * 2);
+        }
+        navioLo[numNavios] = lo;
+        navioHi[numNavios] = hi;
+        naviosLo |= lo;
+        naviosHi |= hi;
+        for (long bits = lo; bits != 0; bits &= bits - 1) {
+            navioNaCelula[Long.numberOfTrailingZeros(bits)] = (byte) (numNavios + 1);
+        }
+        for (long bits = hi; bits != 0; bits &= bits - 1) {
+            navioNaCelula[64 + Long.numberOfTrailingZeros(bits)] = (byte) (numNavios + 1);
+        }
+        return numNavios++;
+    }
+
+    private static boolean testa(long lo, long hi, int bit) {
+        if (bit < 64) {
+            return (lo & (1L << bit)) != 0;
+        }
+        return (hi & (1L << (bit - 64))) != 0;
+    }
+}
@@ -1,28 +1,105 @@
 package br.ufrn.imd.modelo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents a game board consisting of cells and ships.
+ * <p>
+ * The board is split in blocks of 16x16 cells that are only allocated when one of their cells is
+ * used, and a cell only gets a {@link CellButton} the first time it is accessed. An almost empty
+ * 1000x1000 ocean therefore costs a few thousand null references instead of a million objects.
+ * </p>
+ * <p>
+ * The board also counts, for every row and column, the ship cells that were not hit yet. The
+ * counters are updated when ships are placed and cells are hit, so the radar answers in constant time.
+ * </p>
  */
 public class Board {
-    private CellButton[][] cells;
+    /**
+     * Largest number of rows or columns a board can have.
+     */
+    public static final int MAX_TAMANHO = 1000;
+
+    private static final int BITS_BLOCO = 4;
+    private static final int LADO_BLOCO = 1 << BITS_BLOCO;
+    private static final int MASCARA_BLOCO = LADO_BLOCO - 1;
+
+    private int linhas;
+    private int colunas;
+    private int blocosPorLinha;
+    private Bloco[] blocos;
     private List<Ship> ships;
     private int numShips;
+    private int[] vivasNaLinha;
+    private int[] vivasNaColuna;
+    private PlacementTable tabela;
+
+    /**
+     * A block of 16x16 cells and the ships on them, allocated on first use.
+     */
+    private static class Bloco {
+        private CellButton[] cells = new CellButton[LADO_BLOCO * LADO_BLOCO];
+        private Ship[] navios;
+    }
 
     /**
      * Constructs a Board with a grid of 10x10 cells and initializes ships list.
      */
     public Board() {
-        cells = new CellButton[10][10];
+        this(10, 10);
+    }
+
+    /**
+     * Constructs a Board with the given dimensions and initializes ships list.
+     *
+     * @param linhas The number of rows, from 1 to {@link #MAX_TAMANHO}.
+     * @param colunas The number of columns, from 1 to {@link #MAX_TAMANHO}.
+     * @throws IllegalArgumentException if a dimension is out of range.
+     */
+    public Board(int linhas, int colunas) {
+        if (linhas < 1 || colunas < 1 || linhas > MAX_TAMANHO || colunas > MAX_TAMANHO) {
+            throw new IllegalArgumentException("Tamanho de tabuleiro inválido: " + linhas + "x" + colunas);
+        }
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.blocosPorLinha = (colunas + MASCARA_BLOCO) >> BITS_BLOCO;
+        this.blocos = new Bloco[((linhas + MASCARA_BLOCO) >> BITS_BLOCO) * blocosPorLinha];
+        this.vivasNaLinha = new int[linhas];
+        this.vivasNaColuna = new int[colunas];
         ships = new ArrayList<>();
         numShips = 0;
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                cells[row][col] = new CellButton(row, col);
+    }
+
+    /**
+     * Empties the board in place for a new match: every cell created so far goes back to plain
+     * water, not hit and not aimed, and the ships and counters are cleared. The blocks and cells
+     * are kept, so a board reused for match after match stops allocating after the first one.
+     * The cost is proportional to the blocks in use, not to the board area.
+     */
+    public void reset() {
+        for (Bloco bloco : blocos) {
+            if (bloco == null) {
+                continue;
+            }
+            for (CellButton cell : bloco.cells) {
+                if (cell != null) {
+                    cell.reset();
+                }
             }
+            if (bloco.navios != null) {
+                Arrays.fill(bloco.navios, null);
+            }
+        }
+        Arrays.fill(vivasNaLinha, 0);
+        Arrays.fill(vivasNaColuna, 0);
+        ships.clear();
+        numShips = 0;
+        if (tabela != null) {
+            tabela.limpa();
         }
     }
 
@@ -36,23 +113,81 @@ public class Board {
         ship.place();
         ships.add(ship);
         numShips++;
+        for (CellButton cell : ship.getPosition()) {
+            Bloco bloco = bloco(cell.getRow(), cell.getCol());
+            if (bloco.navios == null) {
+                bloco.navios = new Ship[LADO_BLOCO * LADO_BLOCO];
+            }
+            bloco.navios[indiceNoBloco(cell.getRow(), cell.getCol())] = ship;
+            if (tabela != null) {
+                tabela.ocupa(cell.getRow(), cell.getCol());
+            }
+            if (!cell.isHit()) {
+                vivasNaLinha[cell.getRow()]++;
+                vivasNaColuna[cell.getCol()]++;
+            } else if (ship.registraAcerto()) {
+                numShips--;
+            }
+        }
     }
 
     /**
      * Hits the cell at the specified row and column coordinates.
-     * Updates the ship's status if any ship is hit.
+     * Updates the ship's status if any ship is hit. A cell only counts as a hit the first time,
+     * so each ship reports being sunk exactly once.
      *
      * @param row The row coordinate of the cell to hit.
      * @param col The column coordinate of the cell to hit.
+     * @return The ship sunk by this hit, or null if no ship was sunk.
      */
-    public void hitCells(int row, int col) {
-        CellButton cell = cells[row][col];
+    public Ship hitCells(int row, int col) {
+        CellButton cell = getCell(row, col);
+        if (cell.isHit()) {
+            return null;
+        }
         cell.hit();
-        for (Ship ship : ships) {
-            if (!ship.isAlive()) {
-                numShips--;
-            }
+        Ship ship = getShipAt(row, col);
+        if (ship == null) {
+            return null;
+        }
+        vivasNaLinha[row]--;
+        vivasNaColuna[col]--;
+        if (ship.registraAcerto()) {
+            numShips--;
+            return ship;
         }
+        return null;
+    }
+
+    /**
+     * Resolves a whole volley in one pass: every target is hit, the ships sunk are collected, the
+     * radar is read on the row and column of every attack once all shots landed, and the sunk ships
+     * are removed from the list of ships.
+     *
+     * @param alvos The cells hit, encoded as {@code row * colunas + col}.
+     * @param numAlvos The number of cells in {@code alvos}.
+     * @param centros The aimed cell of each attack, read by the radar, encoded the same way.
+     * @param numCentros The number of cells in {@code centros}; may be 0, with {@code centros} null.
+     * @param resultado The result to fill, replacing what it held.
+     * @return The given result.
+     * @throws ArrayIndexOutOfBoundsException if a cell is out of bounds.
+     */
+    public VolleyResult resolveVolley(int[] alvos, int numAlvos, int[] centros, int numCentros, VolleyResult resultado) {
+        resultado.inicia(numAlvos, numCentros);
+        for (int i = 0; i < numAlvos; i++) {
+            int row = alvos[i] / colunas;
+            int col = alvos[i] % colunas;
+            boolean novo = !getCell(row, col).isHit();
+            Ship afundado = hitCells(row, col);
+            resultado.registraTiro(i, getShipAt(row, col) != null, novo, afundado);
+        }
+        for (int i = 0; i < numCentros; i++) {
+            resultado.registraRadar(i, shipInRow(centros[i] / colunas), shipInColumn(centros[i] % colunas));
+        }
+        if (resultado.getNumAfundados() > 0) {
+            attListaNavios();
+        }
+        return resultado;
     }
 
     /**
@@ -63,19 +198,35 @@ public class Board {
      * @param altura The row coordinate to search.
      */
     public void buscarCellNavio(int coluna, int altura) {
-        for (Ship ship : ships) {
-            for (CellButton cell : ship.getPosition()) {
-                if (cell.getCol() == coluna && cell.getRow() == altura) {
-                    cell.hit();
-                }
-            }
+        if (getShipAt(altura, coluna) != null) {
+            hitCells(altura, coluna);
+        }
+    }
+
+    /**
+     * Retrieves the ship occupying a cell.
+     *
+     * @param row The row coordinate of the cell.
+     * @param col The column coordinate of the cell.
+     * @return The ship on the cell, or null if the cell is water.
+     */
+    public Ship getShipAt(int row, int col) {
+        verificaLimites(row, col);
+        Bloco bloco = blocos[indiceBloco(row, col)];
+        if (bloco == null || bloco.navios == null) {
+            return null;
         }
+        return bloco.navios[indiceNoBloco(row, col)];
     }
 
     /**
      * Updates the list of ships, removing ships that are no longer alive.
+     * Nothing is scanned unless a ship sank since the last update.
      */
     public void attListaNavios() {
+        if (numShips == ships.size()) {
+            return;
+        }
         Iterator<Ship> iterator = ships.iterator();
         while (iterator.hasNext()) {
             Ship ship = iterator.next();
@@ -86,7 +237,7 @@ public class Board {
     }
 
     /**
-     * Retrieves the cell button at the specified row and column coordinates.
+     * Retrieves the cell button at the specified row and column coordinates, creating it on first access.
      * Throws an exception if the coordinates are out of the board's range.
      *
      * @param row The row coordinate of the cell button.
@@ -95,13 +246,146 @@ public class Board {
      * @throws ArrayIndexOutOfBoundsException if the coordinates are out of bounds.
      */
     public CellButton getCell(int row, int col) {
-        if (row >= 10 || col >= 10 || row < 0 || col < 0) {
-            throw new ArrayIndexOutOfBoundsException("Você mirou numa célula fora do alcance do tabuleiro");
-        } else {
-            return cells[row][col];
+        Bloco bloco = bloco(row, col);
+        int i = indiceNoBloco(row, col);
+        if (bloco.cells[i] == null) {
+            bloco.cells[i] = new CellButton(row, col);
+        }
+        return bloco.cells[i];
+    }
+
+    /**
+     * Retrieves the cell button at the specified coordinates only if it was already created.
+     * A cell that was never accessed is plain water, not hit and not aimed.
+     *
+     * @param row The row coordinate of the cell button.
+     * @param col The column coordinate of the cell button.
+     * @return The CellButton object, or null if the cell was never accessed.
+     * @throws ArrayIndexOutOfBoundsException if the coordinates are out of bounds.
+     */
+    public CellButton peekCell(int row, int col) {
+        verificaLimites(row, col);
+        Bloco bloco = blocos[indiceBloco(row, col)];
+        return bloco == null ? null : bloco.cells[indiceNoBloco(row, col)];
+    }
+
+    /**
+     * Runs an action for every cell that was already created. Cells never accessed are plain water,
+     * so scans over this method cost proportionally to the used cells, not to the board area.
+     *
+     * @param acao The action to run for each cell.
+     */
+    public void forEachCell(Consumer<CellButton> acao) {
+        for (Bloco bloco : blocos) {
+            if (bloco != null) {
+                for (CellButton cell : bloco.cells) {
+                    if (cell != null) {
+                        acao.accept(cell);
+                    }
+                }
+            }
         }
     }
 
+    /**
+     * Checks if the radar detects a ship on a row, that is, if a ship cell on it was not hit yet.
+     *
+     * @param row The row to check.
+     * @return True if there is a ship cell not hit yet on the row.
+     * @throws ArrayIndexOutOfBoundsException if the row is out of bounds.
+     */
+    public boolean shipInRow(int row) {
+        return vivasNaLinha[row] > 0;
+    }
+
+    /**
+     * Checks if the radar detects a ship on a column, that is, if a ship cell on it was not hit yet.
+     *
+     * @param col The column to check.
+     * @return True if there is a ship cell not hit yet on the column.
+     * @throws ArrayIndexOutOfBoundsException if the column is out of bounds.
+     */
+    public boolean shipInColumn(int col) {
+        return vivasNaColuna[col] > 0;
+    }
+
+    /**
+     * Retrieves the number of ship cells not hit yet on a row.
+     *
+     * @param row The row to count.
+     * @return The number of living ship cells on the row.
+     * @throws ArrayIndexOutOfBoundsException if the row is out of bounds.
+     */
+    public int getCelulasVivasNaLinha(int row) {
+        return vivasNaLinha[row];
+    }
+
+    /**
+     * Retrieves the number of ship cells not hit yet on a column.
+     *
+     * @param col The column to count.
+     * @return The number of living ship cells on the column.
+     * @throws ArrayIndexOutOfBoundsException if the column is out of bounds.
+     */
+    public int getCelulasVivasNaColuna(int col) {
+        return vivasNaColuna[col];
+    }
+
+    /**
+     * Retrieves the table of legal ship placements on this board, building it on first use from
+     * the cells already taken by ships, sunk or not. The board keeps the table up to date as ships
+     * are placed, so a large board used only by the computer never pays for it.
+     *
+     * @return The placement table of the board.
+     */
+    public PlacementTable getTabela() {
+        if (tabela == null) {
+            tabela = new PlacementTable(linhas, colunas);
+            for (int i = 0; i < blocos.length; i++) {
+                if (blocos[i] == null || blocos[i].navios == null) {
+                    continue;
+                }
+                int linhaBloco = (i / blocosPorLinha) << BITS_BLOCO;
+                int colunaBloco = (i % blocosPorLinha) << BITS_BLOCO;
+                for (int j = 0; j < blocos[i].navios.length; j++) {
+                    if (blocos[i].navios[j] != null) {
+                        tabela.ocupa(linhaBloco + (j >> BITS_BLOCO), colunaBloco + (j & MASCARA_BLOCO));
+                    }
+                }
+            }
+        }
+        return tabela;
+    }
+
+    /**
+     * Checks if the coordinates are inside the board.
+     *
+     * @param row The row coordinate.
+     * @param col The column coordinate.
+     * @return True if the cell exists on this board.
+     */
+    public boolean contains(int row, int col) {
+        return row >= 0 && col >= 0 && row < linhas && col < colunas;
+    }
+
+    /**
+     * Retrieves the number of rows of the board.
+     *
+     * @return The number of rows.
+     */
+    public int getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Retrieves the number of columns of the board.
+     *
+     * @return The number of columns.
+     */
+    public int getColunas() {
+        return colunas;
+    }
+
     /**
      * Sets the number of ships currently on the board.
      *
@@ -121,11 +405,34 @@ public class Board {
     }
 
     /**
-     * Retrieves the number of ships currently on the board.
+     * Retrieves the number of ships on the board that were not sunk yet.
      *
-     * @return The number of ships on the board.
+     * @return The number of living ships on the board.
      */
     public int getNumShips() {
         return numShips;
     }
+
+    private Bloco bloco(int row, int col) {
+        verificaLimites(row, col);
+        int i = indiceBloco(row, col);
+        if (blocos[i] == null) {
+            blocos[i] = new Bloco();
+        }
+        return blocos[i];
+    }
+
+    private void verificaLimites(int row, int col) {
+        if (!contains(row, col)) {
+            throw new ArrayIndexOutOfBoundsException("Você mirou numa célula fora do alcance do tabuleiro");
+        }
+    }
+
+    private int indiceBloco(int row, int col) {
+        return (row >> BITS_BLOCO) * blocosPorLinha + (col >> BITS_BLOCO);
+    }
+
+    private static int indiceNoBloco(int row, int col) {
+        return ((row & MASCARA_BLOCO) << BITS_BLOCO) | (col & MASCARA_BLOCO);
+    }
 }
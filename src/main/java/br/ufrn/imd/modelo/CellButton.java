@@ -1,7 +1,5 @@
 package br.ufrn.imd.modelo;
 
-import javafx.scene.Node;
-
 /**
  * Represents a single cell in the game board.
  */
@@ -11,7 +9,6 @@ public class CellButton {
     private State state;
     private boolean isHit;
     private boolean isAimed;
-    private Node node;
 
     /**
      * Enumeration representing possible states of a cell button.
@@ -44,11 +41,12 @@ public class CellButton {
     }
 
     /**
-     * Resets the state of the cell button to water and clears hit status.
+     * Resets the state of the cell button to water and clears its hit and aimed status.
      */
     public void reset() {
         state = State.WATER;
         isHit = false;
+        isAimed = false;
     }
 
     /**
@@ -113,22 +111,4 @@ public class CellButton {
     public int getCol() {
         return col;
     }
-
-    /**
-     * Returns the JavaFX Node associated with the cell button.
-     *
-     * @return The JavaFX Node associated with the cell button.
-     */
-    public Node getNode() {
-        return node;
-    }
-
-    /**
-     * Sets the JavaFX Node associated with the cell button.
-     *
-     * @param node The JavaFX Node to associate with the cell button.
-     */
-    public void setNode(Node node) {
-        this.node = node;
-    }
 }
@@ -2,7 +2,6 @@ package br.ufrn.imd.modelo;
 
 import br.ufrn.imd.controle.CelulaInvalidaException;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Represents a Corvette ship in the game.
@@ -40,17 +39,23 @@ public class Corvette extends Ship {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Corvette attacks only the aimed cell.
      *
-     * @param row The row coordinate to attack.
-     * @param col The column coordinate to attack.
-     * @return A list containing the attacked cell.
+     * @return The shared {@link AttackPattern#CORVETA} pattern.
      */
     @Override
-    public List<CellButton> attack(int row, int col) {
-        List<CellButton> list = new ArrayList<>();
-        CellButton cell = new CellButton(row, col);
-        list.add(cell);
-        return list;
+    public AttackPattern getAttackPattern() {
+        return AttackPattern.CORVETA;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ShipType#CORVETA}.
+     */
+    @Override
+    public ShipType getTipo() {
+        return ShipType.CORVETA;
+    }
 }
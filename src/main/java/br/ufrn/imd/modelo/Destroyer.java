@@ -2,7 +2,6 @@ package br.ufrn.imd.modelo;
 
 import br.ufrn.imd.controle.CelulaInvalidaException;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Represents a Destroyer ship in the game.
@@ -39,21 +38,22 @@ public class Destroyer extends Ship {
     /**
      * {@inheritDoc}
      * <p>
-     * Destroyer attacks three cells: the clicked cell, the cell to its left, and the cell to its right.
+     * Destroyer attacks three cells: the aimed cell, the cell to its left, and the cell to its right.
      *
-     * @param row The row coordinate to attack.
-     * @param col The column coordinate to attack.
-     * @return A list containing the attacked cells.
+     * @return The shared {@link AttackPattern#DESTROYER} pattern.
      */
     @Override
-    public List<CellButton> attack(int row, int col) {
-        List<CellButton> list = new ArrayList<>();
-        CellButton cell1 = new CellButton(row, col);
-        CellButton cell2 = new CellButton(row, col + 1);
-        CellButton cell3 = new CellButton(row, col - 1);
-        list.add(cell1);
-        list.add(cell2);
-        list.add(cell3);
-        return list;
+    public AttackPattern getAttackPattern() {
+        return AttackPattern.DESTROYER;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ShipType#DESTROYER}.
+     */
+    @Override
+    public ShipType getTipo() {
+        return ShipType.DESTROYER;
     }
 }
@@ -2,7 +2,6 @@ package br.ufrn.imd.modelo;
 
 import br.ufrn.imd.controle.CelulaInvalidaException;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Represents a Frigate ship in the game.
@@ -39,21 +38,22 @@ public class Frigate extends Ship {
     /**
      * {@inheritDoc}
      * <p>
-     * Frigate attacks three cells: the clicked cell, the cell above it, and the cell below it.
+     * Frigate attacks three cells: the aimed cell, the cell above it, and the cell below it.
      *
-     * @param row The row coordinate to attack.
-     * @param col The column coordinate to attack.
-     * @return A list containing the attacked cells.
+     * @return The shared {@link AttackPattern#FRAGATA} pattern.
      */
     @Override
-    public List<CellButton> attack(int row, int col) {
-        List<CellButton> list = new ArrayList<>();
-        CellButton cell1 = new CellButton(row, col);
-        CellButton cell2 = new CellButton(row + 1, col);
-        CellButton cell3 = new CellButton(row - 1, col);
-        list.add(cell1);
-        list.add(cell2);
-        list.add(cell3);
-        return list;
+    public AttackPattern getAttackPattern() {
+        return AttackPattern.FRAGATA;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ShipType#FRAGATA}.
+     */
+    @Override
+    public ShipType getTipo() {
+        return ShipType.FRAGATA;
     }
 }
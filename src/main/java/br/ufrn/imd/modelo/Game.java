@@ -18,6 +18,11 @@ public class Game {
      */
     private Player player2;
 
+    /**
+     * The random generator shared by everything that draws numbers in this game.
+     */
+    private GameRandom random;
+
     /**
      * Constructs a new {@code Game} instance and initializes the two players.
      * <p>
@@ -25,8 +30,44 @@ public class Game {
      * </p>
      */
     public Game() {
-        player1 = new Player();
-        player2 = new Player();
+        this(10, 10);
+    }
+
+    /**
+     * Constructs a new {@code Game} instance whose players have boards of the given dimensions.
+     *
+     * @param linhas the number of rows of the boards.
+     * @param colunas the number of columns of the boards.
+     */
+    public Game(int linhas, int colunas) {
+        this(linhas, colunas, new GameRandom());
+    }
+
+    /**
+     * Constructs a new {@code Game} instance whose randomness comes from the given generator.
+     * Two games built with generators of the same seed play out the same way.
+     *
+     * @param linhas the number of rows of the boards.
+     * @param colunas the number of columns of the boards.
+     * @param random the random generator of the game.
+     */
+    public Game(int linhas, int colunas, GameRandom random) {
+        player1 = new Player(linhas, colunas);
+        player2 = new Player(linhas, colunas);
+        this.random = random;
+    }
+
+    /**
+     * Resets the game in place for a new match: both players get an empty board and their ships
+     * back, and the given generator replaces the current one. No board or cell is allocated, so a
+     * worker can play back-to-back matches on a single instance.
+     *
+     * @param random the random generator of the new match.
+     */
+    public void reset(GameRandom random) {
+        player1.reset();
+        player2.reset();
+        this.random = random;
     }
 
     /**
@@ -46,4 +87,13 @@ public class Game {
     public Player getPlayer2() {
         return player2;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the random generator of the game.
+     *
+     * @return the {@code GameRandom} used for placement and by the computer.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+}
@@ -0,0 +1,84 @@
+package br.ufrn.imd.modelo;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of all the randomness of a {@link Game}: fleet placement and the computer's strategies.
+ * <p>
+ * It is backed by a {@link SplittableRandom}, which neither locks nor allocates per draw, and it
+ * remembers its seed, so a match created with the same seed places the same fleets and makes the
+ * same moves. Like the generator behind it, an instance must not be shared between threads; each
+ * parallel worker should use its own {@link #split()}.
+ * </p>
+ */
+public class GameRandom implements RandomGenerator {
+    private final long semente;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a generator with an arbitrary seed, which can be read back with {@link #getSemente()}.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a generator with the given seed.
+     *
+     * @param semente The seed of the generator.
+     */
+    public GameRandom(long semente) {
+        this.semente = semente;
+        this.random = new SplittableRandom(semente);
+    }
+
+    /**
+     * Creates a new generator whose seed is drawn from this one. The sequence of generators split
+     * from a seeded generator is itself reproducible.
+     *
+     * @return A new, independent generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(random.nextLong());
+    }
+
+    /**
+     * Returns the seed this generator was created with.
+     *
+     * @return The seed.
+     */
+    public long getSemente() {
+        return semente;
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return random.nextInt(origin, bound);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+}
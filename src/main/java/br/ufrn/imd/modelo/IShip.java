@@ -58,6 +58,20 @@ public interface IShip {
      */
     void setPosition(List<CellButton> position) throws CelulaInvalidaException;
 
+    /**
+     * Retrieves the shape of the cells hit when the ship attacks.
+     *
+     * @return The attack pattern of the ship.
+     */
+    AttackPattern getAttackPattern();
+
+    /**
+     * Retrieves the kind of the ship.
+     *
+     * @return The kind of the ship.
+     */
+    ShipType getTipo();
+
     /**
      * Defines the behavior of the ship when it attacks.
      *
@@ -0,0 +1,202 @@
+package br.ufrn.imd.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Tells where a ship may be placed on a board, without building or undoing anything.
+ * <p>
+ * For every ship length and orientation the table keeps, as a bitset over
+ * {@code row * colunas + col}, the anchors (first cells) at which the ship stays inside the
+ * board. These fit masks depend only on the dimensions and are computed once, the first time a
+ * length is asked for. A second bitset marks the cells taken by ships. Checking one placement
+ * reads a bit of the fit mask and one bit per cell of the ship, so it takes constant time and
+ * never throws. The legal anchors of a length and orientation are the fit mask minus every
+ * anchor whose ship would cover a taken cell, found with a few shifted ORs of the taken cells
+ * and kept until a ship is placed, so the interface can preview them all at once.
+ * </p>
+ *
+ * @see Board#getTabela()
+ */
+public class PlacementTable {
+    private final int linhas;
+    private final int colunas;
+    private final int celulas;
+    private final long[] ocupadas;
+    private final long[][] cabe;
+    private final long[][] ancoras;
+    private final int[] versaoAncoras;
+    private final long[] bloqueadas;
+    private int versao;
+
+    /**
+     * Constructs the table of an empty board.
+     *
+     * @param linhas The number of rows of the board.
+     * @param colunas The number of columns of the board.
+     */
+    public PlacementTable(int linhas, int colunas) {
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.celulas = linhas * colunas;
+        this.ocupadas = new long[(celulas + 63) >>> 6];
+        this.bloqueadas = new long[ocupadas.length];
+        int chaves = 2 * (Math.max(linhas, colunas) + 1);
+        this.cabe = new long[chaves][];
+        this.ancoras = new long[chaves][];
+        this.versaoAncoras = new int[chaves];
+        Arrays.fill(versaoAncoras, -1);
+    }
+
+    /**
+     * Marks a cell as taken by a ship.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    public void ocupa(int row, int col) {
+        int celula = row * colunas + col;
+        ocupadas[celula >>> 6] |= 1L << celula;
+        versao++;
+    }
+
+    /**
+     * Frees every cell, as on an empty board. The fit masks are kept.
+     */
+    public void limpa() {
+        Arrays.fill(ocupadas, 0);
+        versao++;
+    }
+
+    /**
+     * Tells if a ship placed at an anchor stays inside the board, whatever the other ships.
+     *
+     * @param tamanho The length of the ship.
+     * @param deitado True for a horizontal ship, false for a vertical one.
+     * @param row The row of the first cell of the ship.
+     * @param col The column of the first cell of the ship.
+     * @return True if every cell of the ship is on the board.
+     */
+    public boolean cabe(int tamanho, boolean deitado, int row, int col) {
+        if (tamanho < 1 || 2 * tamanho >= cabe.length || row < 0 || col < 0 || row >= linhas || col >= colunas) {
+            return false;
+        }
+        int celula = row * colunas + col;
+        return (cabe(chave(tamanho, deitado), tamanho, deitado)[celula >>> 6] & (1L << celula)) != 0;
+    }
+
+    /**
+     * Tells if a ship may be placed at an anchor: it stays inside the board and covers no taken cell.
+     *
+     * @param tamanho The length of the ship.
+     * @param deitado True for a horizontal ship, false for a vertical one.
+     * @param row The row of the first cell of the ship.
+     * @param col The column of the first cell of the ship.
+     * @return True if the placement is legal.
+     */
+    public boolean isLivre(int tamanho, boolean deitado, int row, int col) {
+        if (!cabe(tamanho, deitado, row, col)) {
+            return false;
+        }
+        int passo = deitado ? 1 : colunas;
+        int celula = row * colunas + col;
+        for (int i = 0; i < tamanho; i++, celula += passo) {
+            if ((ocupadas[celula >>> 6] & (1L << celula)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns every legal anchor of a ship, as a bitset over {@code row * colunas + col}.
+     * The array belongs to the table: it must not be changed, and it is only up to date until the
+     * next cell is taken or freed.
+     *
+     * @param tamanho The length of the ship.
+     * @param deitado True for a horizontal ship, false for a vertical one.
+     * @return The legal anchors; empty if the ship is longer than the board.
+     */
+    public long[] getAncoras(int tamanho, boolean deitado) {
+        if (tamanho < 1 || 2 * tamanho >= cabe.length) {
+            return new long[ocupadas.length];
+        }
+        int chave = chave(tamanho, deitado);
+        if (versaoAncoras[chave] == versao) {
+            return ancoras[chave];
+        }
+        long[] livres = ancoras[chave];
+        if (livres == null) {
+            livres = new long[ocupadas.length];
+            ancoras[chave] = livres;
+        }
+        Arrays.fill(bloqueadas, 0);
+        int passo = deitado ? 1 : colunas;
+        for (int i = 0; i < tamanho; i++) {
+            ouDeslocado(bloqueadas, ocupadas, i * passo);
+        }
+        long[] dentro = cabe(chave, tamanho, deitado);
+        for (int i = 0; i < livres.length; i++) {
+            livres[i] = dentro[i] & ~bloqueadas[i];
+        }
+        versaoAncoras[chave] = versao;
+        return livres;
+    }
+
+    /**
+     * Retrieves the number of rows of the board.
+     *
+     * @return The number of rows.
+     */
+    public int getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Retrieves the number of columns of the board.
+     *
+     * @return The number of columns.
+     */
+    public int getColunas() {
+        return colunas;
+    }
+
+    private static int chave(int tamanho, boolean deitado) {
+        return 2 * tamanho + (deitado ? 0 : 1);
+    }
+
+    /**
+     * Returns the fit mask of a length and orientation, computing it on first use.
+     */
+    private long[] cabe(int chave, int tamanho, boolean deitado) {
+        long[] mascara = cabe[chave];
+        if (mascara == null) {
+            mascara = new long[ocupadas.length];
+            int ultimaFileira = deitado ? linhas : linhas - tamanho + 1;
+            int ultimaColuna = deitado ? colunas - tamanho + 1 : colunas;
+            for (int row = 0; row < ultimaFileira; row++) {
+                for (int col = 0; col < ultimaColuna; col++) {
+                    int celula = row * colunas + col;
+                    mascara[celula >>> 6] |= 1L << celula;
+                }
+            }
+            cabe[chave] = mascara;
+        }
+        return mascara;
+    }
+
+    /**
+     * ORs into {@code destino} the bitset {@code origem} moved down by {@code n} cells, so bit
+     * {@code j} of the result gets bit {@code j + n} of the origin.
+     */
+    private static void ouDeslocado(long[] destino, long[] origem, int n) {
+        int palavras = n >>> 6;
+        int bits = n & 63;
+        for (int i = 0; i + palavras < origem.length; i++) {
+            long valor = origem[i + palavras] >>> bits;
+            if (bits != 0 && i + palavras + 1 < origem.length) {
+                valor |= origem[i + palavras + 1] << (64 - bits);
+            }
+            destino[i] |= valor;
+        }
+    }
+}
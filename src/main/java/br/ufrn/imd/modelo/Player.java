@@ -17,13 +17,58 @@ import java.util.ArrayList;
 public class Player {
     private Board board;
     private List<Ship> ships;
+    private List<Ship> livres;
 
     /**
      * Creates a new player with an empty board and an empty list of ships.
      */
     public Player() {
-        this.board = new Board();
+        this(10, 10);
+    }
+
+    /**
+     * Creates a new player with an empty board of the given dimensions and an empty list of ships.
+     *
+     * @param linhas the number of rows of the board
+     * @param colunas the number of columns of the board
+     */
+    public Player(int linhas, int colunas) {
+        this.board = new Board(linhas, colunas);
         this.ships = new ArrayList<>();
+        this.livres = new ArrayList<>();
+    }
+
+    /**
+     * Empties the player's board and takes every ship off it, keeping them to be handed out
+     * again by {@link #novoNavio(ShipType)}. A player reused for match after match therefore
+     * keeps the same board, cells and ships instead of allocating new ones.
+     */
+    public void reset() {
+        board.reset();
+        for (Ship ship : ships) {
+            ship.reset();
+            livres.add(ship);
+        }
+        ships.clear();
+    }
+
+    /**
+     * Returns a ship of the given kind that is not on the board: one taken off by
+     * {@link #reset()} if there is any left, or a new one.
+     *
+     * @param tipo The kind of ship.
+     * @return A ship ready to be placed.
+     */
+    public Ship novoNavio(ShipType tipo) {
+        for (int i = livres.size() - 1; i >= 0; i--) {
+            if (livres.get(i).getTipo() == tipo) {
+                Ship ship = livres.get(i);
+                livres.set(i, livres.get(livres.size() - 1));
+                livres.remove(livres.size() - 1);
+                return ship;
+            }
+        }
+        return tipo.criar();
     }
 
     /**
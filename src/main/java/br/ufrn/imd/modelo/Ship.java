@@ -26,12 +26,18 @@ public abstract class Ship implements IShip {
      */
     protected boolean isSunk;
 
+    /**
+     * Number of cells of the ship that were already hit.
+     */
+    protected int acertos;
+
     /**
      * Constructor initializing the ship with an empty position list and not sunk.
      */
     public Ship() {
         this.position = new ArrayList<>();
         this.isSunk = false;
+        this.acertos = 0;
     }
 
     /**
@@ -43,24 +49,38 @@ public abstract class Ship implements IShip {
         }
     }
 
+    /**
+     * Takes the ship off the board so it can be placed again in another match: it has no position,
+     * no hits and is not sunk. The cells it occupied are left to the {@link Board}.
+     */
+    void reset() {
+        position.clear();
+        isSunk = false;
+        acertos = 0;
+    }
+
     /**
      * Checks if the ship is still alive (not sunk).
+     * The check is O(1): the ship counts its hits as they happen instead of looking at its cells.
      *
      * @return true if the ship is still alive, false otherwise.
      */
     public boolean isAlive() {
-        int cellsHit = 0;
-        for (CellButton cell : position) {
-            if (cell.isHit()) {
-                cellsHit += 1;
-                System.out.println("Cell " + cell.getCol() + " " + cell.getRow() + " Hit: " + cell.isHit());
-            }
-        }
-        if (cellsHit == position.size()) {
+        return !isSunk;
+    }
+
+    /**
+     * Records that one more cell of the ship was hit. Called by the {@link Board} only once per cell.
+     *
+     * @return true if this hit sank the ship, false otherwise.
+     */
+    boolean registraAcerto() {
+        acertos++;
+        if (!isSunk && acertos >= position.size()) {
             isSunk = true;
-            return false;
+            return true;
         }
-        return true;
+        return false;
     }
 
     /**
@@ -131,11 +151,35 @@ public abstract class Ship implements IShip {
 
     /**
      * Abstract method to be implemented by subclasses.
-     * Defines the behavior of the ship when it attacks.
+     * Defines the shape of the cells hit when the ship attacks.
+     *
+     * @return The attack pattern of the ship.
+     */
+    abstract public AttackPattern getAttackPattern();
+
+    /**
+     * Abstract method to be implemented by subclasses.
+     * Tells which kind of ship this is.
+     *
+     * @return The kind of the ship.
+     */
+    abstract public ShipType getTipo();
+
+    /**
+     * Lists the cells hit by an attack of the ship at the given cell, without clipping them to a board.
+     * This builds new objects on every call; the game itself resolves attacks through
+     * {@link AttackPattern#apply(int, int, int, int, int[])}.
      *
      * @param row The row coordinate to attack.
      * @param col The column coordinate to attack.
      * @return A list of CellButton objects representing the attacked cells.
      */
-    abstract public List<CellButton> attack(int row, int col);
+    public List<CellButton> attack(int row, int col) {
+        AttackPattern padrao = getAttackPattern();
+        List<CellButton> list = new ArrayList<>(padrao.size());
+        for (int i = 0; i < padrao.size(); i++) {
+            list.add(new CellButton(row + padrao.getRowOffset(i), col + padrao.getColOffset(i)));
+        }
+        return list;
+    }
 }
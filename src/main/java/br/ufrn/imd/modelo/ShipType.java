@@ -0,0 +1,107 @@
+package br.ufrn.imd.modelo;
+
+import java.util.function.Supplier;
+
+/**
+ * The kinds of ship of a fleet, with what the game needs to know about each one.
+ * <p>
+ * Code that treats every kind of ship alike goes through these constants instead of naming the
+ * {@link Ship} subclasses, so a new kind of ship is one more constant here.
+ * </p>
+ */
+public enum ShipType {
+    /**
+     * Corvette, size 2.
+     */
+    CORVETA(2, "Corveta", true, Corvette::new),
+
+    /**
+     * Submarine, size 3.
+     */
+    SUBMARINO(3, "Submarino", false, Submarine::new),
+
+    /**
+     * Frigate, size 4.
+     */
+    FRAGATA(4, "Fragata", true, Frigate::new),
+
+    /**
+     * Destroyer, size 5.
+     */
+    DESTROYER(5, "Destroyer", false, Destroyer::new);
+
+    private static final ShipType[] POR_TAMANHO;
+
+    static {
+        int maior = 0;
+        for (ShipType tipo : values()) {
+            maior = Math.max(maior, tipo.tamanho);
+        }
+        POR_TAMANHO = new ShipType[maior + 1];
+        for (ShipType tipo : values()) {
+            POR_TAMANHO[tipo.tamanho] = tipo;
+        }
+    }
+
+    private final int tamanho;
+    private final String nome;
+    private final boolean feminino;
+    private final Supplier<Ship> fabrica;
+
+    ShipType(int tamanho, String nome, boolean feminino, Supplier<Ship> fabrica) {
+        this.tamanho = tamanho;
+        this.nome = nome;
+        this.feminino = feminino;
+        this.fabrica = fabrica;
+    }
+
+    /**
+     * Returns the kind of ship with the given size.
+     *
+     * @param tamanho The size of the ship.
+     * @return The kind of ship.
+     * @throws IllegalArgumentException if there is no ship with that size.
+     */
+    public static ShipType doTamanho(int tamanho) {
+        if (tamanho < 0 || tamanho >= POR_TAMANHO.length || POR_TAMANHO[tamanho] == null) {
+            throw new IllegalArgumentException("Tamanho de navio inválido: " + tamanho);
+        }
+        return POR_TAMANHO[tamanho];
+    }
+
+    /**
+     * Creates a new, not placed, ship of this kind.
+     *
+     * @return The new ship.
+     */
+    public Ship criar() {
+        return fabrica.get();
+    }
+
+    /**
+     * Returns the number of cells of this kind of ship.
+     *
+     * @return The size of the ship.
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Returns the name shown to the player.
+     *
+     * @return The name of the ship.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Tells the grammatical gender of the name, used to build the messages shown to the player.
+     *
+     * @return True if the name is feminine.
+     */
+    public boolean isFeminino() {
+        return feminino;
+    }
+}
@@ -2,7 +2,6 @@ package br.ufrn.imd.modelo;
 
 import br.ufrn.imd.controle.CelulaInvalidaException;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * Represents a Submarine ship in the game.
@@ -39,19 +38,22 @@ public class Submarine extends Ship {
     /**
      * {@inheritDoc}
      * <p>
-     * Submarine attacks two cells: the clicked cell and the cell to its right.
+     * Submarine attacks two cells: the aimed cell and the cell to its right.
      *
-     * @param row The row coordinate to attack.
-     * @param col The column coordinate to attack.
-     * @return A list containing the attacked cells.
+     * @return The shared {@link AttackPattern#SUBMARINO} pattern.
      */
     @Override
-    public List<CellButton> attack(int row, int col) {
-        List<CellButton> list = new ArrayList<>();
-        CellButton cell1 = new CellButton(row, col);
-        CellButton cell2 = new CellButton(row, col + 1);
-        list.add(cell1);
-        list.add(cell2);
-        return list;
+    public AttackPattern getAttackPattern() {
+        return AttackPattern.SUBMARINO;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ShipType#SUBMARINO}.
+     */
+    @Override
+    public ShipType getTipo() {
+        return ShipType.SUBMARINO;
     }
 }
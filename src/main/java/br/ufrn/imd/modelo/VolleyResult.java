@@ -0,0 +1,164 @@
+package br.ufrn.imd.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a volley resolved by {@link Board#resolveVolley(int[], int, int[], int, VolleyResult)}:
+ * whether each shot hit, the ships sunk and one radar answer per attack.
+ * <p>
+ * The result is meant to be reused from one volley to the next; its arrays only grow, so
+ * resolving volleys of a steady size allocates nothing.
+ * </p>
+ */
+public class VolleyResult {
+    private static final byte LINHA = 1;
+    private static final byte COLUNA = 2;
+
+    private boolean[] acerto;
+    private byte[] radar;
+    private Ship[] afundados;
+    private int tiros;
+    private int acertos;
+    private int acertosNovos;
+    private int numRadar;
+    private int numAfundados;
+
+    /**
+     * Constructs an empty result.
+     */
+    public VolleyResult() {
+        this.acerto = new boolean[8];
+        this.radar = new byte[4];
+        this.afundados = new Ship[4];
+    }
+
+    void inicia(int tiros, int numRadar) {
+        if (acerto.length < tiros) {
+            acerto = new boolean[Math.max(tiros, 2 * acerto.length)];
+        }
+        if (radar.length < numRadar) {
+            radar = new byte[Math.max(numRadar, 2 * radar.length)];
+        }
+        Arrays.fill(afundados, 0, numAfundados, null);
+        this.tiros = tiros;
+        this.numRadar = numRadar;
+        this.acertos = 0;
+        this.acertosNovos = 0;
+        this.numAfundados = 0;
+    }
+
+    void registraTiro(int i, boolean acertou, boolean novo, Ship afundado) {
+        acerto[i] = acertou;
+        if (acertou) {
+            acertos++;
+            if (novo) {
+                acertosNovos++;
+            }
+        }
+        if (afundado != null) {
+            if (numAfundados == afundados.length) {
+                afundados = Arrays.copyOf(afundados, 2 * numAfundados);
+            }
+            afundados[numAfundados++] = afundado;
+        }
+    }
+
+    void registraRadar(int i, boolean naLinha, boolean naColuna) {
+        radar[i] = (byte) ((naLinha ? LINHA : 0) | (naColuna ? COLUNA : 0));
+    }
+
+    /**
+     * Returns the number of shots of the volley.
+     *
+     * @return The number of shots.
+     */
+    public int getTiros() {
+        return tiros;
+    }
+
+    /**
+     * Returns the number of shots that landed on a ship cell, including cells already hit before.
+     *
+     * @return The number of hits.
+     */
+    public int getAcertos() {
+        return acertos;
+    }
+
+    /**
+     * Returns the number of shots that landed on a ship cell not hit before, so a cell hit twice,
+     * in this volley or an earlier one, counts once.
+     *
+     * @return The number of new hits.
+     */
+    public int getAcertosNovos() {
+        return acertosNovos;
+    }
+
+    /**
+     * Returns the number of shots that landed on water.
+     *
+     * @return The number of misses.
+     */
+    public int getErros() {
+        return tiros - acertos;
+    }
+
+    /**
+     * Tells if a shot landed on a ship cell.
+     *
+     * @param i The index of the shot, in the order the targets were given.
+     * @return True if the shot hit a ship.
+     */
+    public boolean isAcerto(int i) {
+        return acerto[i];
+    }
+
+    /**
+     * Returns the number of ships sunk by the volley.
+     *
+     * @return The number of ships sunk.
+     */
+    public int getNumAfundados() {
+        return numAfundados;
+    }
+
+    /**
+     * Returns a ship sunk by the volley.
+     *
+     * @param i The index of the ship, in the order they were sunk.
+     * @return The sunk ship.
+     */
+    public Ship getAfundado(int i) {
+        return afundados[i];
+    }
+
+    /**
+     * Returns the number of radar answers, one per attack.
+     *
+     * @return The number of radar answers.
+     */
+    public int getNumRadar() {
+        return numRadar;
+    }
+
+    /**
+     * Tells if the radar found a ship cell not hit yet on the row of an attack, after the whole volley.
+     *
+     * @param i The index of the attack.
+     * @return True if there is a ship on the row.
+     */
+    public boolean isNaLinha(int i) {
+        return (radar[i] & LINHA) != 0;
+    }
+
+    /**
+     * Tells if the radar found a ship cell not hit yet on the column of an attack, after the whole volley.
+     *
+     * @param i The index of the attack.
+     * @return True if there is a ship on the column.
+     */
+    public boolean isNaColuna(int i) {
+        return (radar[i] & COLUNA) != 0;
+    }
+}
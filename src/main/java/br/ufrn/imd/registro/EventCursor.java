@@ -0,0 +1,201 @@
+package br.ufrn.imd.registro;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Forward-only reader of the events written by {@link MatchLogWriter}, decoded in place.
+ * <p>
+ * The cursor reads straight from a {@link ByteBuffer}, which may be a slice of a memory-mapped
+ * file, and keeps the fields of the current event in primitives: walking a match allocates
+ * nothing per event.
+ * </p>
+ */
+public class EventCursor {
+    private final ByteBuffer eventos;
+    private int colunas;
+    private int tipo;
+    private int jogador;
+    private boolean flag;
+    private int tamanho;
+    private int celula;
+    private int linhas;
+    private long semente;
+    private int inicioEvento;
+
+    /**
+     * Constructs a cursor over a sequence of events, from the buffer's position to its limit.
+     * The buffer itself is not moved.
+     *
+     * @param eventos The encoded events.
+     * @param colunas The number of columns of the boards, used to decode the cells until an
+     *                {@link MatchLogWriter#INICIO} event sets it.
+     */
+    public EventCursor(ByteBuffer eventos, int colunas) {
+        this.eventos = eventos.duplicate();
+        this.colunas = colunas;
+        this.tipo = -1;
+    }
+
+    /**
+     * Moves to the next event.
+     *
+     * @return True if there was another event, false at the end of the buffer.
+     * @throws IllegalStateException If the events are truncated or corrupted.
+     */
+    public boolean proximo() {
+        if (!eventos.hasRemaining()) {
+            return false;
+        }
+        inicioEvento = eventos.position();
+        try {
+            int cabecalho = eventos.get() & 0xFF;
+            tipo = cabecalho & MatchLogWriter.MASCARA_TIPO;
+            jogador = (cabecalho & MatchLogWriter.BIT_JOGADOR) != 0 ? 1 : 0;
+            flag = (cabecalho & MatchLogWriter.BIT_FLAG) != 0;
+            switch (tipo) {
+                case MatchLogWriter.INICIO:
+                    linhas = varint();
+                    colunas = varint();
+                    semente = eventos.getLong();
+                    break;
+                case MatchLogWriter.POSICIONA:
+                case MatchLogWriter.MIRA:
+                    tamanho = varint();
+                    celula = varint();
+                    break;
+                case MatchLogWriter.TIRO:
+                    celula = varint();
+                    break;
+                case MatchLogWriter.TURNO:
+                case MatchLogWriter.FIM:
+                    break;
+                default:
+                    throw new IllegalStateException("Registro corrompido: evento " + cabecalho);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Registro truncado", e);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the type of the current event, one of the constants of {@link MatchLogWriter}.
+     *
+     * @return The type of the event.
+     */
+    public int getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Returns the player the current event refers to.
+     *
+     * @return 0 for the first player, 1 for the second.
+     */
+    public int getJogador() {
+        return jogador;
+    }
+
+    /**
+     * Returns the flag of the current event: a horizontal ship for a placement, a winner for the end of a match.
+     *
+     * @return The flag.
+     */
+    public boolean isFlag() {
+        return flag;
+    }
+
+    /**
+     * Returns the size of the ship of a placement or aim.
+     *
+     * @return The size of the ship.
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Returns the cell of a placement, aim or shot, encoded as {@code row * colunas + col}.
+     *
+     * @return The cell.
+     */
+    public int getCelula() {
+        return celula;
+    }
+
+    /**
+     * Returns the row of the cell of the current event.
+     *
+     * @return The row.
+     */
+    public int getRow() {
+        return celula / colunas;
+    }
+
+    /**
+     * Returns the column of the cell of the current event.
+     *
+     * @return The column.
+     */
+    public int getCol() {
+        return celula % colunas;
+    }
+
+    /**
+     * Returns the number of rows given by the last start of a match.
+     *
+     * @return The number of rows.
+     */
+    public int getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Returns the number of columns of the boards.
+     *
+     * @return The number of columns.
+     */
+    public int getColunas() {
+        return colunas;
+    }
+
+    /**
+     * Returns the seed given by the last start of a match.
+     *
+     * @return The seed.
+     */
+    public long getSemente() {
+        return semente;
+    }
+
+    /**
+     * Returns the position in the buffer where the current event starts.
+     *
+     * @return The position of the event's header.
+     */
+    public int getPosicao() {
+        return inicioEvento;
+    }
+
+    /**
+     * Returns the position in the buffer right after the current event.
+     *
+     * @return The position where the next event starts.
+     */
+    public int getFim() {
+        return eventos.position();
+    }
+
+    private int varint() {
+        int valor = 0;
+        for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+            byte b = eventos.get();
+            valor |= (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalStateException("Registro corrompido: varint longo demais");
+    }
+}
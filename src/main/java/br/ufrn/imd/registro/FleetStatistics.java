@@ -0,0 +1,194 @@
+package br.ufrn.imd.registro;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Fleet statistics computed over a {@link MatchArchive}: where ships are placed and how many
+ * turns each ship size survives.
+ * <p>
+ * The matches are walked with an {@link EventCursor} straight over the mapped archive, keeping
+ * the state of a match in a few arrays reused from one match to the next. Only matches with
+ * boards of the dimensions given to the constructor are counted.
+ * </p>
+ * <pre>
+ * java br.ufrn.imd.registro.FleetStatistics arquivo [linhas] [colunas]
+ * </pre>
+ */
+public class FleetStatistics {
+    private static final int MAX_TAMANHO = 8;
+
+    private final int linhas;
+    private final int colunas;
+    private final long[] posicionamentos;
+    private final long[] turnosAteAfundar;
+    private final long[] afundados;
+    private long partidas;
+    private long turnos;
+
+    private final int[][] dono;
+    private final boolean[][] atingida;
+    private final int[][] tamanhoNavio;
+    private final int[][] acertosNavio;
+    private final int[] numNavios;
+
+    /**
+     * Constructs empty statistics for boards of the given dimensions.
+     *
+     * @param linhas The number of rows of the boards.
+     * @param colunas The number of columns of the boards.
+     */
+    public FleetStatistics(int linhas, int colunas) {
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.posicionamentos = new long[linhas * colunas];
+        this.turnosAteAfundar = new long[MAX_TAMANHO + 1];
+        this.afundados = new long[MAX_TAMANHO + 1];
+        this.dono = new int[2][linhas * colunas];
+        this.atingida = new boolean[2][linhas * colunas];
+        this.tamanhoNavio = new int[2][16];
+        this.acertosNavio = new int[2][16];
+        this.numNavios = new int[2];
+    }
+
+    /**
+     * Adds every match of an archive with the dimensions of these statistics.
+     *
+     * @param arquivo The archive.
+     */
+    public void adiciona(MatchArchive arquivo) {
+        for (int id = 0; id < arquivo.size(); id++) {
+            if (arquivo.getLinhas(id) == linhas && arquivo.getColunas(id) == colunas) {
+                adiciona(arquivo.cursor(id), arquivo.getTurnos(id));
+            }
+        }
+    }
+
+    /**
+     * Adds one match.
+     *
+     * @param cursor The cursor over the events of the match.
+     * @param turnosPartida The number of turns of the match.
+     */
+    public void adiciona(EventCursor cursor, int turnosPartida) {
+        for (int j = 0; j < 2; j++) {
+            Arrays.fill(dono[j], 0);
+            Arrays.fill(atingida[j], false);
+            numNavios[j] = 0;
+        }
+        partidas++;
+        turnos += turnosPartida;
+
+        int turno = 0;
+        while (cursor.proximo()) {
+            int j = cursor.getJogador();
+            switch (cursor.getTipo()) {
+                case MatchLogWriter.POSICIONA: {
+                    int tamanho = cursor.getTamanho();
+                    if (numNavios[j] == tamanhoNavio[j].length || tamanho > MAX_TAMANHO) {
+                        break;
+                    }
+                    int navio = numNavios[j]++;
+                    tamanhoNavio[j][navio] = tamanho;
+                    acertosNavio[j][navio] = 0;
+                    int passo = cursor.isFlag() ? 1 : colunas;
+                    for (int i = 0, celula = cursor.getCelula(); i < tamanho; i++, celula += passo) {
+                        dono[j][celula] = navio + 1;
+                        posicionamentos[celula]++;
+                    }
+                    break;
+                }
+                case MatchLogWriter.TIRO: {
+                    int celula = cursor.getCelula();
+                    if (atingida[j][celula]) {
+                        break;
+                    }
+                    atingida[j][celula] = true;
+                    int navio = dono[j][celula] - 1;
+                    if (navio >= 0 && ++acertosNavio[j][navio] == tamanhoNavio[j][navio]) {
+                        turnosAteAfundar[tamanhoNavio[j][navio]] += turno + 1;
+                        afundados[tamanhoNavio[j][navio]]++;
+                    }
+                    break;
+                }
+                case MatchLogWriter.TURNO:
+                    turno++;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the fraction of placed ships covering a cell, over every match and both players.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The number of ships placed over the cell per match and player.
+     */
+    public double getOcupacao(int row, int col) {
+        return partidas == 0 ? 0 : posicionamentos[row * colunas + col] / (2.0 * partidas);
+    }
+
+    /**
+     * Returns the mean turn in which ships of a size were sunk, counting only sunk ships.
+     *
+     * @param tamanho The size of the ships.
+     * @return The mean turn, starting at 1, or 0 if no ship of that size was sunk.
+     */
+    public double getMediaTurnosAteAfundar(int tamanho) {
+        return afundados[tamanho] == 0 ? 0 : (double) turnosAteAfundar[tamanho] / afundados[tamanho];
+    }
+
+    /**
+     * Returns the number of matches counted.
+     *
+     * @return The number of matches.
+     */
+    public long getPartidas() {
+        return partidas;
+    }
+
+    /**
+     * Returns the mean number of turns of the matches counted.
+     *
+     * @return The mean number of turns.
+     */
+    public double getMediaTurnos() {
+        return partidas == 0 ? 0 : (double) turnos / partidas;
+    }
+
+    /**
+     * Computes the statistics of an archive from the command line and prints them.
+     *
+     * @param args the archive file, and the rows and columns of the boards (10 by default).
+     * @throws IOException If the archive cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        int linhas = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int colunas = args.length > 2 ? Integer.parseInt(args[2]) : linhas;
+        FleetStatistics estatisticas = new FleetStatistics(linhas, colunas);
+        long inicio = System.nanoTime();
+        try (MatchArchive arquivo = new MatchArchive(Path.of(args[0]))) {
+            estatisticas.adiciona(arquivo);
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("Partidas: %d (%.0f por segundo)%n", estatisticas.getPartidas(), estatisticas.getPartidas() / segundos);
+        System.out.printf("Média de turnos: %.2f%n", estatisticas.getMediaTurnos());
+        for (int tamanho = 2; tamanho <= 5; tamanho++) {
+            System.out.printf("Navio de tamanho %d afundado em média no turno %.2f%n", tamanho,
+                    estatisticas.getMediaTurnosAteAfundar(tamanho));
+        }
+        System.out.println("Ocupação das células (%):");
+        for (int row = 0; row < linhas; row++) {
+            StringBuilder linha = new StringBuilder();
+            for (int col = 0; col < colunas; col++) {
+                linha.append(String.format("%4.0f", 100 * estatisticas.getOcupacao(row, col)));
+            }
+            System.out.println(linha);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package br.ufrn.imd.registro;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Read-only view of an archive written by {@link MatchArchiveWriter}, mapped into memory.
+ * <p>
+ * The metadata of a match is read straight from its fixed-size index record, so looking a match
+ * up by id costs the same whatever the size of the archive, and its events are handed out as a
+ * slice of the map, decoded in place by an {@link EventCursor}. Nothing is copied or deserialized
+ * into objects.
+ * </p>
+ * <p>
+ * A single {@link MappedByteBuffer} cannot exceed 2 GB, so the file is mapped in windows of
+ * {@value MatchArchiveWriter#JANELA} bytes, each one reaching {@value MatchArchiveWriter#SOBREPOSICAO}
+ * bytes into the next. An index record or an event block starting in a window is then read from
+ * that window alone; only a block longer than the overlap that crosses the end of its window is
+ * mapped on its own.
+ * </p>
+ */
+public class MatchArchive implements AutoCloseable {
+    private final FileChannel canal;
+    private final MappedByteBuffer[] mapas;
+    private final long janela;
+    private final long inicioIndice;
+    private final int partidas;
+
+    /**
+     * Opens and maps an archive.
+     *
+     * @param arquivo The archive file.
+     * @throws IOException If the file cannot be read or is not an archive.
+     */
+    public MatchArchive(Path arquivo) throws IOException {
+        this(arquivo, MatchArchiveWriter.JANELA, MatchArchiveWriter.SOBREPOSICAO);
+    }
+
+    /**
+     * Opens and maps an archive in windows of the given size.
+     *
+     * @param arquivo The archive file.
+     * @param janela The number of bytes between the starts of two windows.
+     * @param sobreposicao The number of bytes a window reaches into the next one; at least the size of an index record.
+     * @throws IOException If the file cannot be read or is not an archive.
+     */
+    MatchArchive(Path arquivo, long janela, int sobreposicao) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        this.janela = janela;
+        try {
+            long tamanho = canal.size();
+            this.mapas = new MappedByteBuffer[(int) ((tamanho + janela - 1) / janela)];
+            for (int i = 0; i < mapas.length; i++) {
+                long inicio = i * janela;
+                mapas[i] = canal.map(FileChannel.MapMode.READ_ONLY, inicio, Math.min(tamanho - inicio, janela + sobreposicao));
+            }
+            long rodape = tamanho - MatchArchiveWriter.TAMANHO_RODAPE;
+            if (tamanho < MatchArchiveWriter.TAMANHO_CABECALHO + MatchArchiveWriter.TAMANHO_RODAPE
+                    || getInt(0) != MatchArchiveWriter.MAGIA
+                    || getInt(rodape + 12) != MatchArchiveWriter.MAGIA) {
+                throw new IOException("Não é um arquivo de partidas: " + arquivo);
+            }
+            this.inicioIndice = getLong(rodape);
+            this.partidas = getInt(rodape + 8);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of matches in the archive.
+     *
+     * @return The number of matches; their ids go from 0 to this number minus one.
+     */
+    public int size() {
+        return partidas;
+    }
+
+    /**
+     * Returns the events of a match, after its start event, as a read-only slice of the map.
+     *
+     * @param id The id of the match.
+     * @return The encoded events, from position 0 to the limit.
+     * @throws IndexOutOfBoundsException If there is no match with that id.
+     * @throws UncheckedIOException If a block crossing two windows cannot be mapped.
+     */
+    public ByteBuffer eventos(int id) {
+        long registro = registro(id);
+        long inicio = getLong(registro);
+        int comprimento = getInt(registro + 8);
+        MappedByteBuffer mapa = mapas[(int) (inicio / janela)];
+        int deslocamento = (int) (inicio % janela);
+        if (deslocamento + comprimento <= mapa.capacity()) {
+            return mapa.slice(deslocamento, comprimento);
+        }
+        try {
+            return canal.map(FileChannel.MapMode.READ_ONLY, inicio, comprimento);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a cursor over the events of a match.
+     *
+     * @param id The id of the match.
+     * @return A cursor positioned before the first event.
+     * @throws IndexOutOfBoundsException If there is no match with that id.
+     */
+    public EventCursor cursor(int id) {
+        return new EventCursor(eventos(id), getColunas(id));
+    }
+
+    /**
+     * Returns the number of turns of a match.
+     *
+     * @param id The id of the match.
+     * @return The number of turns.
+     */
+    public int getTurnos(int id) {
+        return getInt(registro(id) + 12);
+    }
+
+    /**
+     * Returns the seed of a match.
+     *
+     * @param id The id of the match.
+     * @return The seed.
+     */
+    public long getSemente(int id) {
+        return getLong(registro(id) + 16);
+    }
+
+    /**
+     * Returns the number of rows of the boards of a match.
+     *
+     * @param id The id of the match.
+     * @return The number of rows.
+     */
+    public int getLinhas(int id) {
+        return getShort(registro(id) + 24);
+    }
+
+    /**
+     * Returns the number of columns of the boards of a match.
+     *
+     * @param id The id of the match.
+     * @return The number of columns.
+     */
+    public int getColunas(int id) {
+        return getShort(registro(id) + 26);
+    }
+
+    /**
+     * Returns the winner of a match.
+     *
+     * @param id The id of the match.
+     * @return 0 for the first player, 1 for the second, or -1 for no winner.
+     */
+    public int getVencedor(int id) {
+        return getByte(registro(id) + 28);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private long registro(int id) {
+        Objects.checkIndex(id, partidas);
+        return inicioIndice + (long) id * MatchArchiveWriter.TAMANHO_REGISTRO;
+    }
+
+    /**
+     * Reads a field from the window where it starts, which holds it whole since the windows
+     * overlap by more than an index record.
+     */
+    private long getLong(long posicao) {
+        return mapas[(int) (posicao / janela)].getLong((int) (posicao % janela));
+    }
+
+    private int getInt(long posicao) {
+        return mapas[(int) (posicao / janela)].getInt((int) (posicao % janela));
+    }
+
+    private short getShort(long posicao) {
+        return mapas[(int) (posicao / janela)].getShort((int) (posicao % janela));
+    }
+
+    private byte getByte(long posicao) {
+        return mapas[(int) (posicao / janela)].get((int) (posicao % janela));
+    }
+}
@@ -0,0 +1,202 @@
+package br.ufrn.imd.registro;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes finished matches to an archive that {@link MatchArchive} reads through a memory map.
+ * <p>
+ * The file starts with a 16-byte header, followed by the event blocks of the matches, one after
+ * the other, in the encoding of {@link MatchLogWriter} without the start event. After the blocks
+ * comes the index, one record of {@value #TAMANHO_REGISTRO} bytes per match, and a 16-byte footer
+ * with the position of the index and the number of matches. Each record holds:
+ * </p>
+ * <pre>
+ * offset  0  long   position of the event block
+ * offset  8  int    length of the block in bytes
+ * offset 12  int    number of turns
+ * offset 16  long   seed of the match
+ * offset 24  short  rows
+ * offset 26  short  columns
+ * offset 28  byte   winner (0, 1 or -1)
+ * </pre>
+ */
+public class MatchArchiveWriter implements AutoCloseable {
+    static final int MAGIA = 0x424E4152;
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 16;
+    static final int TAMANHO_REGISTRO = 32;
+    static final int TAMANHO_RODAPE = 16;
+
+    /**
+     * Bytes between the starts of two windows of a map; a single map cannot exceed 2 GB.
+     */
+    static final long JANELA = 1L << 30;
+
+    /**
+     * Bytes a window reaches into the next one, and so the longest match that can be imported.
+     */
+    static final int SOBREPOSICAO = 1 << 20;
+
+    private final FileChannel canal;
+    private ByteBuffer indice;
+    private int partidas;
+    private long posicao;
+
+    /**
+     * Creates an archive, replacing the file if it exists.
+     *
+     * @param arquivo The archive file.
+     * @throws IOException If the file cannot be created.
+     */
+    public MatchArchiveWriter(Path arquivo) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.indice = ByteBuffer.allocate(TAMANHO_REGISTRO * 1024);
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        cabecalho.putInt(MAGIA).putInt(VERSAO).putLong(0).flip();
+        escreve(cabecalho);
+    }
+
+    /**
+     * Appends a finished match.
+     *
+     * @param eventos The events of the match after its start event, from the buffer's position to its limit.
+     * @param linhas The number of rows of the boards.
+     * @param colunas The number of columns of the boards.
+     * @param semente The seed of the match.
+     * @param turnos The number of turns played.
+     * @param vencedor The winner: 0 for the first player, 1 for the second, or -1 for no winner.
+     * @throws IOException If writing fails.
+     */
+    public void adiciona(ByteBuffer eventos, int linhas, int colunas, long semente, int turnos, int vencedor)
+            throws IOException {
+        long inicio = posicao;
+        int comprimento = eventos.remaining();
+        escreve(eventos.duplicate());
+
+        if (indice.remaining() < TAMANHO_REGISTRO) {
+            ByteBuffer maior = ByteBuffer.allocate(indice.capacity() * 2);
+            indice.flip();
+            maior.put(indice);
+            indice = maior;
+        }
+        indice.putLong(inicio).putInt(comprimento).putInt(turnos).putLong(semente)
+                .putShort((short) linhas).putShort((short) colunas).put((byte) vencedor)
+                .put((byte) 0).putShort((short) 0);
+        partidas++;
+    }
+
+    /**
+     * Appends every finished match of a log. Matches without an end event are skipped.
+     * <p>
+     * The log is mapped in windows of {@value #JANELA} bytes, each reaching {@value #SOBREPOSICAO}
+     * bytes into the next, so logs larger than 2 GB can be imported. A window ends at the first
+     * event past its size that does not belong to a match in progress, and the next window starts
+     * there.
+     * </p>
+     *
+     * @param log The log written by {@link MatchLogWriter}.
+     * @return The number of matches appended.
+     * @throws IOException If reading the log or writing the archive fails, or a match is longer than the overlap.
+     */
+    public int importa(Path log) throws IOException {
+        return importa(log, JANELA, SOBREPOSICAO);
+    }
+
+    /**
+     * Appends every finished match of a log, mapped in windows of the given size.
+     *
+     * @param log The log written by {@link MatchLogWriter}.
+     * @param janela The number of bytes after which a window ends at the next match.
+     * @param sobreposicao The number of bytes a window reaches past that point.
+     * @return The number of matches appended.
+     * @throws IOException If reading the log or writing the archive fails, or a match is longer than the overlap.
+     */
+    int importa(Path log, long janela, int sobreposicao) throws IOException {
+        int importadas = 0;
+        try (FileChannel entrada = FileChannel.open(log, StandardOpenOption.READ)) {
+            long tamanho = entrada.size();
+            long base = 0;
+            while (base < tamanho) {
+                long fimMapa = Math.min(tamanho, base + janela + sobreposicao);
+                boolean ultima = fimMapa == tamanho;
+                MappedByteBuffer mapa = entrada.map(FileChannel.MapMode.READ_ONLY, base, fimMapa - base);
+                EventCursor cursor = new EventCursor(mapa, 1);
+                long proximaBase = fimMapa;
+                int inicio = -1;
+                int turnos = 0;
+                try {
+                    while (cursor.proximo()) {
+                        if (!ultima && inicio < 0 && cursor.getPosicao() >= janela) {
+                            proximaBase = base + cursor.getPosicao();
+                            break;
+                        }
+                        if (cursor.getTipo() == MatchLogWriter.INICIO) {
+                            inicio = cursor.getFim();
+                            turnos = 0;
+                        } else if (cursor.getTipo() == MatchLogWriter.TURNO) {
+                            turnos++;
+                        } else if (cursor.getTipo() == MatchLogWriter.FIM && inicio >= 0) {
+                            adiciona(mapa.slice(inicio, cursor.getFim() - inicio), cursor.getLinhas(), cursor.getColunas(),
+                                    cursor.getSemente(), turnos, cursor.isFlag() ? cursor.getJogador() : -1);
+                            importadas++;
+                            inicio = -1;
+                        }
+                    }
+                } catch (IllegalStateException e) {
+                    if (ultima || inicio < 0) {
+                        throw new IOException(e.getMessage(), e);
+                    }
+                    throw new IOException("Partida maior que " + sobreposicao + " bytes na posição " + (base + inicio), e);
+                }
+                if (!ultima && proximaBase == fimMapa) {
+                    throw new IOException("Partida maior que " + sobreposicao + " bytes na posição " + (base + inicio));
+                }
+                base = proximaBase;
+            }
+        }
+        return importadas;
+    }
+
+    /**
+     * Writes the index and the footer and closes the file.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            long inicioIndice = posicao;
+            indice.flip();
+            escreve(indice);
+            ByteBuffer rodape = ByteBuffer.allocate(TAMANHO_RODAPE);
+            rodape.putLong(inicioIndice).putInt(partidas).putInt(MAGIA).flip();
+            escreve(rodape);
+        } finally {
+            canal.close();
+        }
+    }
+
+    private void escreve(ByteBuffer dados) throws IOException {
+        while (dados.hasRemaining()) {
+            posicao += canal.write(dados);
+        }
+    }
+
+    /**
+     * Converts a log into an archive from the command line.
+     *
+     * @param args the log file and the archive file.
+     * @throws IOException If reading or writing fails.
+     */
+    public static void main(String[] args) throws IOException {
+        try (MatchArchiveWriter arquivo = new MatchArchiveWriter(Path.of(args[1]))) {
+            System.out.println("Partidas arquivadas: " + arquivo.importa(Path.of(args[0])));
+        }
+    }
+}
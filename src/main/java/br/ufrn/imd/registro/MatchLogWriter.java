@@ -0,0 +1,216 @@
+package br.ufrn.imd.registro;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only binary log of the events of one or more matches.
+ * <p>
+ * Every event starts with one byte holding its type in the low three bits, the player it refers
+ * to in bit 3 and a flag in bit 4; the arguments follow as unsigned varints, and cells are
+ * written as {@code row * colunas + col}. A shot on a 10x10 board takes two bytes. Matches are
+ * written one after the other, each opened by an {@link #inicio(int, int, long)} event and closed
+ * by a {@link #fim(int)} event. Events are collected in a buffer and written to the channel when
+ * it fills up, on {@link #flush()} and on {@link #close()}.
+ * </p>
+ *
+ * @see MatchReplayer
+ */
+public class MatchLogWriter implements AutoCloseable {
+    /**
+     * Start of a match: rows, columns and the seed as a big-endian long.
+     */
+    public static final byte INICIO = 0;
+
+    /**
+     * Ship placed: size and first cell; the flag marks a horizontal ship.
+     */
+    public static final byte POSICIONA = 1;
+
+    /**
+     * Ship aimed: size of the ship and aimed cell.
+     */
+    public static final byte MIRA = 2;
+
+    /**
+     * Cell hit.
+     */
+    public static final byte TIRO = 3;
+
+    /**
+     * End of a turn.
+     */
+    public static final byte TURNO = 4;
+
+    /**
+     * End of a match; the flag tells if the player bit holds a winner.
+     */
+    public static final byte FIM = 5;
+
+    static final int MASCARA_TIPO = 0x07;
+    static final int BIT_JOGADOR = 0x08;
+    static final int BIT_FLAG = 0x10;
+
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private final WritableByteChannel canal;
+    private final ByteBuffer buffer;
+    private int colunas;
+
+    /**
+     * Opens a log file for appending, creating it if needed.
+     *
+     * @param arquivo The log file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public MatchLogWriter(Path arquivo) throws IOException {
+        this(FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Constructs a log writing to a channel.
+     *
+     * @param canal The channel receiving the events.
+     */
+    public MatchLogWriter(WritableByteChannel canal) {
+        this.canal = canal;
+        this.buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        this.colunas = 1;
+    }
+
+    /**
+     * Starts a new match.
+     *
+     * @param linhas The number of rows of the boards.
+     * @param colunas The number of columns of the boards.
+     * @param semente The seed of the match's random generator.
+     */
+    public void inicio(int linhas, int colunas, long semente) {
+        this.colunas = colunas;
+        garante(1 + 5 + 5 + 8);
+        buffer.put(INICIO);
+        varint(linhas);
+        varint(colunas);
+        buffer.putLong(semente);
+    }
+
+    /**
+     * Records a ship placed on a board.
+     *
+     * @param jogador The owner of the ship: 0 for the first player, 1 for the second.
+     * @param tamanho The size of the ship.
+     * @param row The row of the first cell of the ship.
+     * @param col The column of the first cell of the ship.
+     * @param deitado True for a horizontal ship.
+     */
+    public void posiciona(int jogador, int tamanho, int row, int col, boolean deitado) {
+        garante(1 + 5 + 5);
+        buffer.put(cabecalho(POSICIONA, jogador, deitado));
+        varint(tamanho);
+        varint(row * colunas + col);
+    }
+
+    /**
+     * Records a ship aiming at a cell. A later aim of a ship of the same size in the same turn
+     * replaces this one.
+     *
+     * @param jogador The player whose board is aimed at: 0 for the first player, 1 for the second.
+     * @param tamanho The size of the ship that aims.
+     * @param row The aimed row.
+     * @param col The aimed column.
+     */
+    public void mira(int jogador, int tamanho, int row, int col) {
+        garante(1 + 5 + 5);
+        buffer.put(cabecalho(MIRA, jogador, false));
+        varint(tamanho);
+        varint(row * colunas + col);
+    }
+
+    /**
+     * Records a shot on a cell.
+     *
+     * @param jogador The player whose board is hit: 0 for the first player, 1 for the second.
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    public void tiro(int jogador, int row, int col) {
+        garante(1 + 5);
+        buffer.put(cabecalho(TIRO, jogador, false));
+        varint(row * colunas + col);
+    }
+
+    /**
+     * Records the end of a turn.
+     */
+    public void turno() {
+        garante(1);
+        buffer.put(TURNO);
+    }
+
+    /**
+     * Ends the current match.
+     *
+     * @param vencedor The winner: 0 for the first player, 1 for the second, or -1 for no winner.
+     */
+    public void fim(int vencedor) {
+        garante(1);
+        buffer.put(cabecalho(FIM, Math.max(vencedor, 0), vencedor >= 0));
+    }
+
+    /**
+     * Writes the buffered events to the channel.
+     *
+     * @throws UncheckedIOException If writing fails.
+     */
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Writes the buffered events and closes the channel.
+     *
+     * @throws IOException If writing or closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            canal.close();
+        }
+    }
+
+    private void garante(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private static byte cabecalho(byte tipo, int jogador, boolean flag) {
+        return (byte) (tipo | (jogador == 1 ? BIT_JOGADOR : 0) | (flag ? BIT_FLAG : 0));
+    }
+
+    private void varint(int valor) {
+        while ((valor & ~0x7F) != 0) {
+            buffer.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        buffer.put((byte) valor);
+    }
+}
@@ -0,0 +1,392 @@
+package br.ufrn.imd.registro;
+
+import br.ufrn.imd.controle.CelulaInvalidaException;
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.controle.NavioForaDoMapaException;
+import br.ufrn.imd.modelo.AttackPattern;
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.CellButton;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.ShipType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Rebuilds matches from a log written by {@link MatchLogWriter}.
+ * <p>
+ * The log is read forward through a buffer, one match at a time: {@link #proximaPartida()} moves
+ * to the next match and {@link #replay(int)} applies its events up to a given turn, so the boards
+ * can be inspected at any point of the match. Placements go through a {@link GameEngine}, and
+ * aims and shots are applied straight to the boards. A match with the same dimensions as the
+ * previous one is replayed on the same game, reset in place, so reading a long log allocates next
+ * to nothing per match.
+ * </p>
+ * <pre>
+ * java br.ufrn.imd.registro.MatchReplayer arquivo [partida] [turno]
+ * </pre>
+ */
+public class MatchReplayer implements AutoCloseable {
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    /**
+     * Attack pattern of each size of ship.
+     */
+    private static final AttackPattern[] PADROES = new AttackPattern[6];
+
+    static {
+        for (ShipType tipo : ShipType.values()) {
+            PADROES[tipo.getTamanho()] = tipo.criar().getAttackPattern();
+        }
+    }
+
+    private final ReadableByteChannel canal;
+    private final ByteBuffer buffer;
+    private int pendente;
+    private Game game;
+    private GameEngine engine;
+    private int colunas;
+    private int turno;
+    private boolean fim;
+    private int vencedor;
+    private final int[][] miras;
+    private final int[] alvos;
+
+    /**
+     * Opens a log file for reading.
+     *
+     * @param arquivo The log file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public MatchReplayer(Path arquivo) throws IOException {
+        this(FileChannel.open(arquivo, StandardOpenOption.READ));
+    }
+
+    /**
+     * Constructs a replayer reading from a channel.
+     *
+     * @param canal The channel with the events.
+     */
+    public MatchReplayer(ReadableByteChannel canal) {
+        this.canal = canal;
+        this.buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        this.buffer.flip();
+        this.pendente = -1;
+        this.fim = true;
+        this.miras = new int[2][6];
+        this.alvos = new int[AttackPattern.MAX_CELULAS];
+    }
+
+    /**
+     * Skips what is left of the current match and reads the start of the next one.
+     *
+     * @return True if there is another match, false at the end of the log.
+     * @throws IOException If reading fails or the log is corrupted.
+     */
+    public boolean proximaPartida() throws IOException {
+        int cabecalho;
+        do {
+            cabecalho = proximoEvento();
+            if (cabecalho < 0) {
+                return false;
+            }
+            if ((cabecalho & MatchLogWriter.MASCARA_TIPO) != MatchLogWriter.INICIO) {
+                pula(cabecalho);
+            }
+        } while ((cabecalho & MatchLogWriter.MASCARA_TIPO) != MatchLogWriter.INICIO);
+
+        int linhas = varint();
+        colunas = varint();
+        long semente = leLong();
+        if (game == null || game.getPlayer1().getBoard().getLinhas() != linhas
+                || game.getPlayer1().getBoard().getColunas() != colunas) {
+            game = new Game(linhas, colunas, new GameRandom(semente));
+            engine = new GameEngine(game);
+        } else {
+            engine.reset(new GameRandom(semente));
+        }
+        turno = 0;
+        fim = false;
+        vencedor = -1;
+        limpaMiras();
+        return true;
+    }
+
+    /**
+     * Applies the events of the current match until the given number of turns was played or the
+     * match ended. Replaying only moves forward: asking for a turn already passed does nothing.
+     *
+     * @param ateTurno The number of turns to reach, or {@link Integer#MAX_VALUE} for the whole match.
+     * @return The game of the current match, in its state after those turns. It is reset by the
+     * next call to {@link #proximaPartida()}.
+     * @throws IOException If reading fails or the log is corrupted.
+     */
+    public Game replay(int ateTurno) throws IOException {
+        while (!fim && turno < ateTurno) {
+            int cabecalho = proximoEvento();
+            if (cabecalho < 0) {
+                fim = true;
+                break;
+            }
+            if ((cabecalho & MatchLogWriter.MASCARA_TIPO) == MatchLogWriter.INICIO) {
+                pendente = cabecalho;
+                fim = true;
+                break;
+            }
+            aplica(cabecalho);
+        }
+        return game;
+    }
+
+    /**
+     * Returns the number of turns replayed in the current match.
+     *
+     * @return The number of turns.
+     */
+    public int getTurno() {
+        return turno;
+    }
+
+    /**
+     * Checks if every event of the current match was replayed.
+     *
+     * @return True if the match ended.
+     */
+    public boolean isFim() {
+        return fim;
+    }
+
+    /**
+     * Returns the winner of the current match, once it ended.
+     *
+     * @return 0 for the first player, 1 for the second, or -1 if there is no winner yet.
+     */
+    public int getVencedor() {
+        return vencedor;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private void aplica(int cabecalho) throws IOException {
+        int jogador = (cabecalho & MatchLogWriter.BIT_JOGADOR) != 0 ? 1 : 0;
+        boolean flag = (cabecalho & MatchLogWriter.BIT_FLAG) != 0;
+        switch (cabecalho & MatchLogWriter.MASCARA_TIPO) {
+            case MatchLogWriter.POSICIONA: {
+                int tamanho = varint();
+                int celula = varint();
+                try {
+                    Player dono = jogador(jogador);
+                    engine.place(dono, dono.novoNavio(ShipType.doTamanho(tamanho)), celula / colunas, celula % colunas, flag);
+                } catch (NavioForaDoMapaException | CelulaInvalidaException | IllegalArgumentException e) {
+                    throw new IOException("Registro corrompido: posicionamento inválido", e);
+                }
+                break;
+            }
+            case MatchLogWriter.MIRA: {
+                int tamanho = varint();
+                int celula = varint();
+                if (tamanho < 2 || tamanho > 5) {
+                    throw new IOException("Registro corrompido: navio de tamanho " + tamanho);
+                }
+                Board board = jogador(jogador).getBoard();
+                AttackPattern padrao = PADROES[tamanho];
+                if (miras[jogador][tamanho] > 0) {
+                    marca(board, padrao, miras[jogador][tamanho] - 1, false);
+                }
+                marca(board, padrao, celula, true);
+                miras[jogador][tamanho] = celula + 1;
+                break;
+            }
+            case MatchLogWriter.TIRO: {
+                int celula = varint();
+                Board board = jogador(jogador).getBoard();
+                board.getCell(celula / colunas, celula % colunas).setAimed(false);
+                board.hitCells(celula / colunas, celula % colunas);
+                break;
+            }
+            case MatchLogWriter.TURNO:
+                turno++;
+                atualizaFrotas();
+                break;
+            case MatchLogWriter.FIM:
+                vencedor = flag ? jogador : -1;
+                fim = true;
+                atualizaFrotas();
+                break;
+            default:
+                throw new IOException("Registro corrompido: evento " + cabecalho);
+        }
+    }
+
+    private void atualizaFrotas() {
+        game.getPlayer1().getBoard().attListaNavios();
+        game.getPlayer2().getBoard().attListaNavios();
+        limpaMiras();
+    }
+
+    private void limpaMiras() {
+        for (int[] mira : miras) {
+            Arrays.fill(mira, 0);
+        }
+    }
+
+    private void marca(Board board, AttackPattern padrao, int celula, boolean mirada) {
+        int n = padrao.apply(celula / colunas, celula % colunas, board.getLinhas(), colunas, alvos);
+        for (int i = 0; i < n; i++) {
+            board.getCell(alvos[i] / colunas, alvos[i] % colunas).setAimed(mirada);
+        }
+    }
+
+    private Player jogador(int jogador) {
+        return jogador == 0 ? game.getPlayer1() : game.getPlayer2();
+    }
+
+    /**
+     * Skips the arguments of an event of another match.
+     */
+    private void pula(int cabecalho) throws IOException {
+        switch (cabecalho & MatchLogWriter.MASCARA_TIPO) {
+            case MatchLogWriter.POSICIONA:
+            case MatchLogWriter.MIRA:
+                varint();
+                varint();
+                break;
+            case MatchLogWriter.TIRO:
+                varint();
+                break;
+            case MatchLogWriter.TURNO:
+            case MatchLogWriter.FIM:
+                break;
+            default:
+                throw new IOException("Registro corrompido: evento " + cabecalho);
+        }
+    }
+
+    /**
+     * Reads the header of the next event.
+     *
+     * @return The header, or -1 at the end of the log.
+     */
+    private int proximoEvento() throws IOException {
+        if (pendente >= 0) {
+            int cabecalho = pendente;
+            pendente = -1;
+            return cabecalho;
+        }
+        if (!buffer.hasRemaining() && !enche(1)) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    private int varint() throws IOException {
+        int valor = 0;
+        for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+            if (!buffer.hasRemaining() && !enche(1)) {
+                throw new EOFException("Registro truncado");
+            }
+            byte b = buffer.get();
+            valor |= (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IOException("Registro corrompido: varint longo demais");
+    }
+
+    private long leLong() throws IOException {
+        if (buffer.remaining() < Long.BYTES && !enche(Long.BYTES)) {
+            throw new EOFException("Registro truncado");
+        }
+        return buffer.getLong();
+    }
+
+    /**
+     * Reads more bytes from the channel until at least the given number is buffered.
+     *
+     * @return False if the log ended first.
+     */
+    private boolean enche(int minimo) throws IOException {
+        buffer.compact();
+        try {
+            while (buffer.position() < minimo) {
+                if (canal.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    /**
+     * Replays a match of a log from the command line and prints both boards at the given turn.
+     * Without a match number, prints how many matches and turns the log holds.
+     *
+     * @param args the log file, the number of the match (starting at 1) and the turn.
+     * @throws IOException If the log cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path arquivo = Path.of(args[0]);
+        try (MatchReplayer replayer = new MatchReplayer(arquivo)) {
+            if (args.length < 2) {
+                long inicio = System.nanoTime();
+                long partidas = 0;
+                long turnos = 0;
+                while (replayer.proximaPartida()) {
+                    replayer.replay(Integer.MAX_VALUE);
+                    partidas++;
+                    turnos += replayer.getTurno();
+                }
+                double segundos = (System.nanoTime() - inicio) / 1e9;
+                System.out.printf("Partidas: %d, turnos: %d%n", partidas, turnos);
+                System.out.printf("Partidas reproduzidas por segundo: %.1f%n", partidas / segundos);
+                return;
+            }
+            int partida = Integer.parseInt(args[1]);
+            int ateTurno = args.length > 2 ? Integer.parseInt(args[2]) : Integer.MAX_VALUE;
+            for (int i = 0; i < partida; i++) {
+                if (!replayer.proximaPartida()) {
+                    System.out.println("O registro só tem " + i + " partidas");
+                    return;
+                }
+            }
+            Game game = replayer.replay(ateTurno);
+            System.out.println("Turno " + replayer.getTurno() + (replayer.isFim() ? " (fim)" : ""));
+            System.out.println("Jogador 1:");
+            imprime(game.getPlayer1().getBoard());
+            System.out.println("Jogador 2:");
+            imprime(game.getPlayer2().getBoard());
+        }
+    }
+
+    private static void imprime(Board board) {
+        for (int row = 0; row < board.getLinhas(); row++) {
+            StringBuilder linha = new StringBuilder();
+            for (int col = 0; col < board.getColunas(); col++) {
+                CellButton cell = board.peekCell(row, col);
+                boolean navio = board.getShipAt(row, col) != null;
+                if (cell != null && cell.isHit()) {
+                    linha.append(navio ? 'X' : 'o');
+                } else if (cell != null && cell.getAimed()) {
+                    linha.append('+');
+                } else {
+                    linha.append(navio ? 'N' : '.');
+                }
+            }
+            System.out.println(linha);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package br.ufrn.imd.servidor;
+
+import br.ufrn.imd.controle.CelulaInvalidaException;
+import br.ufrn.imd.controle.RadarReading;
+import br.ufrn.imd.metricas.Metricas;
+import br.ufrn.imd.modelo.GameRandom;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TCP server hosting many matches against the computer at the same time.
+ * <p>
+ * Every connection is a session served by its own virtual thread, and a session may open up to
+ * {@value #MAX_PARTIDAS_POR_SESSAO} matches at a time. The matches live in a concurrent map and
+ * each one serializes its own requests (see {@link Partida}), so there is no lock shared by the
+ * whole server. A session can only play and end the matches it opened: the ids of any other
+ * match are answered as if the match did not exist. The matches of a session are discarded when
+ * its connection closes.
+ * </p>
+ * <p>
+ * The protocol is line based, one request per line and one response per request. Responses start
+ * with {@code OK} or with {@code ERRO} followed by a message.
+ * </p>
+ * <pre>
+ * NOVO [semente]                 OK id linhas colunas navios
+ * MIRA id tamanho linha coluna   OK
+ * TURNO id                       OK vencedor navios radar
+ * FIM id                         OK
+ * </pre>
+ * <p>
+ * {@code navios} lists the sizes of the player's ships afloat separated by commas, {@code vencedor}
+ * is {@code JOGADOR}, {@code COMPUTADOR} or {@code -}, and {@code radar} has one reading per shot,
+ * separated by commas: {@code L} (ship on the row), {@code C} (on the column), {@code LC} or
+ * {@code -}. An empty list is written as {@code -}.
+ * </p>
+ * <pre>
+ * java br.ufrn.imd.servidor.GameServer [porta]
+ * </pre>
+ */
+public class GameServer implements AutoCloseable {
+    /**
+     * Port used when none is given.
+     */
+    public static final int PORTA_PADRAO = 7777;
+
+    /**
+     * Matches a session may have open at the same time.
+     */
+    public static final int MAX_PARTIDAS_POR_SESSAO = 16;
+
+    private final ServerSocket servidor;
+    private final ExecutorService sessoes;
+    private final Map<Long, Partida> partidas;
+    private final AtomicLong proximoId;
+
+    /**
+     * Opens the server socket. Connections are only accepted after {@link #serve()} is called.
+     *
+     * @param porta The port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be opened.
+     */
+    public GameServer(int porta) throws IOException {
+        this.servidor = new ServerSocket(porta, 4096);
+        this.sessoes = Executors.newVirtualThreadPerTaskExecutor();
+        this.partidas = new ConcurrentHashMap<>();
+        this.proximoId = new AtomicLong();
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a virtual thread for each one.
+     *
+     * @throws IOException If accepting a connection fails for a reason other than the server being closed.
+     */
+    public void serve() throws IOException {
+        try {
+            while (true) {
+                Socket conexao = servidor.accept();
+                sessoes.submit(() -> atende(conexao));
+            }
+        } catch (SocketException e) {
+            if (!servidor.isClosed()) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The local port.
+     */
+    public int getPorta() {
+        return servidor.getLocalPort();
+    }
+
+    /**
+     * Returns the number of matches currently hosted.
+     *
+     * @return The number of open matches.
+     */
+    public int getNumPartidas() {
+        return partidas.size();
+    }
+
+    /**
+     * Stops accepting connections and interrupts the open sessions, which closes their sockets.
+     *
+     * @throws IOException If closing the server socket fails.
+     */
+    @Override
+    public void close() throws IOException {
+        servidor.close();
+        sessoes.shutdownNow();
+    }
+
+    /**
+     * Serves one connection until the client closes it.
+     *
+     * @param conexao The client's connection.
+     */
+    private void atende(Socket conexao) {
+        Set<Long> abertas = new HashSet<>();
+        try (conexao;
+             BufferedReader entrada = new BufferedReader(new InputStreamReader(conexao.getInputStream(), StandardCharsets.UTF_8));
+             Writer saida = new BufferedWriter(new OutputStreamWriter(conexao.getOutputStream(), StandardCharsets.UTF_8))) {
+            conexao.setTcpNoDelay(true);
+            String linha;
+            while ((linha = entrada.readLine()) != null) {
+                saida.write(responde(linha, abertas));
+                saida.write('\n');
+                saida.flush();
+            }
+        } catch (IOException e) {
+            // Conexão encerrada pelo cliente
+        } finally {
+            for (Long id : abertas) {
+                partidas.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Applies one request and builds its response.
+     *
+     * @param linha The request.
+     * @param abertas The ids of the matches opened by the session.
+     * @return The response, without the line break.
+     */
+    private String responde(String linha, Set<Long> abertas) {
+        String[] partes = linha.trim().split("\\s+");
+        try {
+            switch (partes[0]) {
+                case "NOVO": {
+                    if (abertas.size() >= MAX_PARTIDAS_POR_SESSAO) {
+                        return "ERRO Limite de " + MAX_PARTIDAS_POR_SESSAO + " partidas abertas por sessão";
+                    }
+                    long id = proximoId.incrementAndGet();
+                    GameRandom random = partes.length > 1 ? new GameRandom(Long.parseLong(partes[1])) : new GameRandom();
+                    Partida partida = new Partida(id, random);
+                    partidas.put(id, partida);
+                    abertas.add(id);
+                    return "OK " + id + " 10 10 " + lista(partida.naviosVivos());
+                }
+                case "MIRA": {
+                    partida(partes[1], abertas).mira(Integer.parseInt(partes[2]), Integer.parseInt(partes[3]),
+                            Integer.parseInt(partes[4]));
+                    return "OK";
+                }
+                case "TURNO": {
+                    Partida partida = partida(partes[1], abertas);
+                    List<RadarReading> leituras = partida.turno();
+                    return "OK " + partida.vencedor() + " " + lista(partida.naviosVivos()) + " " + radar(leituras);
+                }
+                case "FIM": {
+                    long id = partida(partes[1], abertas).getId();
+                    abertas.remove(id);
+                    partidas.remove(id);
+                    return "OK";
+                }
+                default:
+                    return "ERRO Comando desconhecido: " + partes[0];
+            }
+        } catch (CelulaInvalidaException | RuntimeException e) {
+            return "ERRO " + e.getMessage();
+        }
+    }
+
+    /**
+     * Finds a match opened by the session.
+     *
+     * @param id The id of the match.
+     * @param abertas The ids of the matches opened by the session.
+     * @return The match.
+     * @throws IllegalArgumentException If the session did not open a match with that id.
+     */
+    private Partida partida(String id, Set<Long> abertas) {
+        long numero = Long.parseLong(id);
+        Partida partida = abertas.contains(numero) ? partidas.get(numero) : null;
+        if (partida == null) {
+            throw new IllegalArgumentException("Partida inexistente: " + id);
+        }
+        return partida;
+    }
+
+    private static String lista(int[] valores) {
+        if (valores.length == 0) {
+            return "-";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(valores[i]);
+        }
+        return sb.toString();
+    }
+
+    private static String radar(List<RadarReading> leituras) {
+        if (leituras.isEmpty()) {
+            return "-";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (RadarReading leitura : leituras) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            if (leitura.isNaLinha()) {
+                sb.append('L');
+            }
+            if (leitura.isNaColuna()) {
+                sb.append('C');
+            }
+            if (!leitura.isNaLinha() && !leitura.isNaColuna()) {
+                sb.append('-');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Starts a server from the command line and serves until the process is stopped.
+     * The {@link Metricas} are published through JMX, and {@code -Dbatalhanaval.metricas=<arquivo>}
+     * also times the turns and dumps the metrics to a text file every ten seconds.
+     *
+     * @param args the port to listen on.
+     * @throws IOException If the port cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        int porta = args.length > 0 ? Integer.parseInt(args[0]) : PORTA_PADRAO;
+        Metricas.registraJmx();
+        String metricas = System.getProperty("batalhanaval.metricas");
+        if (metricas != null) {
+            Metricas.iniciaRelatorio(Path.of(metricas), Duration.ofSeconds(10));
+        }
+        try (GameServer servidor = new GameServer(porta)) {
+            System.out.println("Servidor ouvindo na porta " + servidor.getPorta());
+            servidor.serve();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package br.ufrn.imd.servidor;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-test client for the {@link GameServer}.
+ * <p>
+ * Opens one connection and one match per simulated player, each on its own virtual thread, and
+ * starts them all together so the matches are played concurrently. Every turn aims each living
+ * ship at a random cell that was not aimed yet and then fires. The latency of a turn is measured
+ * from the first aim to the response of the shot, and the percentiles are printed at the end.
+ * </p>
+ * <pre>
+ * java br.ufrn.imd.servidor.LoadTest [host] [porta] [partidas] [maxTurnos]
+ * </pre>
+ * <p>
+ * Each connection uses a file descriptor on both sides, so large runs may need a higher
+ * {@code ulimit -n}.
+ * </p>
+ */
+public class LoadTest {
+    private final String host;
+    private final int porta;
+    private final int maxTurnos;
+    private final AtomicInteger erros;
+
+    /**
+     * Constructs a load test against a server.
+     *
+     * @param host The host of the server.
+     * @param porta The port of the server.
+     * @param maxTurnos The number of turns after which a match is abandoned.
+     */
+    public LoadTest(String host, int porta, int maxTurnos) {
+        this.host = host;
+        this.porta = porta;
+        this.maxTurnos = maxTurnos;
+        this.erros = new AtomicInteger();
+    }
+
+    /**
+     * Plays the matches concurrently and collects the latency of every turn.
+     *
+     * @param partidas The number of concurrent matches.
+     * @return The latencies of all turns, in nanoseconds and sorted.
+     * @throws InterruptedException If interrupted while waiting for the matches.
+     */
+    public long[] run(int partidas) throws InterruptedException {
+        long[][] latencias = new long[partidas][];
+        CountDownLatch largada = new CountDownLatch(1);
+        try (ExecutorService jogadores = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < partidas; i++) {
+                int jogador = i;
+                jogadores.submit(() -> {
+                    try {
+                        latencias[jogador] = joga(jogador, largada);
+                    } catch (IOException | RuntimeException e) {
+                        erros.incrementAndGet();
+                        latencias[jogador] = new long[0];
+                    }
+                    return null;
+                });
+            }
+            largada.countDown();
+        }
+
+        int total = 0;
+        for (long[] l : latencias) {
+            total += l.length;
+        }
+        long[] todas = new long[total];
+        int n = 0;
+        for (long[] l : latencias) {
+            System.arraycopy(l, 0, todas, n, l.length);
+            n += l.length;
+        }
+        Arrays.sort(todas);
+        return todas;
+    }
+
+    /**
+     * Returns the number of matches that failed with an I/O error or an unexpected response.
+     *
+     * @return The number of failed matches.
+     */
+    public int getErros() {
+        return erros.get();
+    }
+
+    /**
+     * Plays one match on its own connection.
+     *
+     * @param jogador The number of the simulated player, used as the seed.
+     * @param largada Released when every player is ready to start.
+     * @return The latency of each turn, in nanoseconds.
+     */
+    private long[] joga(int jogador, CountDownLatch largada) throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(jogador);
+        long[] latencias = new long[maxTurnos];
+        int turnos = 0;
+        try (Socket socket = new Socket(host, porta);
+             BufferedReader entrada = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer saida = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            largada.await();
+
+            String[] novo = pede(entrada, saida, "NOVO " + jogador).split(" ");
+            String id = novo[1];
+            int celulas = Integer.parseInt(novo[2]) * Integer.parseInt(novo[3]);
+            int colunas = Integer.parseInt(novo[3]);
+            int[] alvos = embaralha(celulas, random);
+            int proximo = 0;
+            String navios = novo[4];
+
+            while (turnos < maxTurnos && proximo < celulas && !navios.equals("-")) {
+                long inicio = System.nanoTime();
+                boolean mirouTodos = true;
+                for (String navio : navios.split(",")) {
+                    boolean mirou = false;
+                    while (!mirou && proximo < celulas) {
+                        int alvo = alvos[proximo++];
+                        String mira = "MIRA " + id + " " + navio + " " + alvo / colunas + " " + alvo % colunas;
+                        mirou = pede(entrada, saida, mira).equals("OK");
+                    }
+                    mirouTodos &= mirou;
+                }
+                if (!mirouTodos) {
+                    break;
+                }
+                String[] turno = pede(entrada, saida, "TURNO " + id).split(" ");
+                latencias[turnos++] = System.nanoTime() - inicio;
+                if (!turno[0].equals("OK")) {
+                    throw new IllegalStateException(String.join(" ", turno));
+                }
+                if (!turno[1].equals("-")) {
+                    break;
+                }
+                navios = turno[2];
+            }
+            pede(entrada, saida, "FIM " + id);
+        }
+        return Arrays.copyOf(latencias, turnos);
+    }
+
+    private static String pede(BufferedReader entrada, Writer saida, String pedido) throws IOException {
+        saida.write(pedido);
+        saida.write('\n');
+        saida.flush();
+        String resposta = entrada.readLine();
+        if (resposta == null) {
+            throw new IOException("Conexão encerrada pelo servidor");
+        }
+        return resposta;
+    }
+
+    private static int[] embaralha(int celulas, SplittableRandom random) {
+        int[] alvos = new int[celulas];
+        for (int i = 0; i < celulas; i++) {
+            alvos[i] = i;
+        }
+        for (int i = celulas - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = alvos[i];
+            alvos[i] = alvos[j];
+            alvos[j] = t;
+        }
+        return alvos;
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int i = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, i)] / 1e3;
+    }
+
+    /**
+     * Runs the load test from the command line and prints the turn latency percentiles.
+     *
+     * @param args host, port, number of concurrent matches and maximum turns per match.
+     * @throws InterruptedException If interrupted while waiting for the matches.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int porta = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.PORTA_PADRAO;
+        int partidas = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+        int maxTurnos = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        LoadTest teste = new LoadTest(host, porta, maxTurnos);
+        long inicio = System.nanoTime();
+        long[] latencias = teste.run(partidas);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("Partidas: %d (%d com erro)%n", partidas, teste.getErros());
+        System.out.printf("Turnos: %d em %.2f s (%.0f turnos/s)%n", latencias.length, segundos, latencias.length / segundos);
+        System.out.printf("Latência do turno: p50 %.0f us, p99 %.0f us, máx %.0f us%n",
+                percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 1.0));
+    }
+}
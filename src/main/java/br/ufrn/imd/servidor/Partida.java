@@ -0,0 +1,142 @@
+package br.ufrn.imd.servidor;
+
+import br.ufrn.imd.controle.CelulaInvalidaException;
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.controle.RadarReading;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.Ship;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A match hosted by the {@link GameServer}: a remote player against the computer.
+ * <p>
+ * Every operation takes the match's own lock, so requests for the same match are applied one at a
+ * time while different matches never wait for each other. A {@link ReentrantLock} is used instead
+ * of {@code synchronized} so a virtual thread waiting for it does not pin its carrier thread.
+ * </p>
+ */
+public class Partida {
+    private final long id;
+    private final GameEngine engine;
+    private final ReentrantLock lock;
+
+    /**
+     * Creates a match on a 10x10 board, with both fleets placed at random and the battle started.
+     *
+     * @param id The id of the match on the server.
+     * @param random The random generator of the match.
+     */
+    public Partida(long id, GameRandom random) {
+        this.id = id;
+        this.engine = new GameEngine(new Game(10, 10, random));
+        this.lock = new ReentrantLock();
+        engine.placeFleet(engine.getGame().getPlayer1());
+        engine.startBattle();
+    }
+
+    /**
+     * Aims the player's living ship of the given size at a cell of the computer's board.
+     *
+     * @param tamanho The size of the ship that aims.
+     * @param row The row of the aimed cell.
+     * @param col The column of the aimed cell.
+     * @throws CelulaInvalidaException If the cell was already aimed or hit.
+     * @throws IllegalArgumentException If the player has no living ship of that size.
+     * @throws IllegalStateException If the match is over.
+     * @throws ArrayIndexOutOfBoundsException If the cell is outside the board.
+     */
+    public void mira(int tamanho, int row, int col) throws CelulaInvalidaException {
+        lock.lock();
+        try {
+            verificaEmAndamento();
+            engine.aim(navio(tamanho), row, col);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fires the aimed shots and lets the computer answer. As in the desktop game, every living
+     * ship of the player must have aimed first.
+     *
+     * @return The radar readings of the player's shots.
+     * @throws IllegalStateException If the match is over or a ship did not aim yet.
+     */
+    public List<RadarReading> turno() {
+        lock.lock();
+        try {
+            verificaEmAndamento();
+            if (!engine.allAimed()) {
+                throw new IllegalStateException("Você ainda não mirou com algum navio");
+            }
+            return engine.resolveTurn();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sizes of the player's ships still afloat.
+     *
+     * @return The sizes, in the order of the player's fleet.
+     */
+    public int[] naviosVivos() {
+        lock.lock();
+        try {
+            List<Ship> navios = engine.getGame().getPlayer1().getBoard().getShips();
+            int[] tamanhos = new int[navios.size()];
+            for (int i = 0; i < tamanhos.length; i++) {
+                tamanhos[i] = navios.get(i).getSize();
+            }
+            return tamanhos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the winner of the match.
+     *
+     * @return "JOGADOR" or "COMPUTADOR", or "-" while the match is not over.
+     */
+    public String vencedor() {
+        lock.lock();
+        try {
+            Player vencedor = engine.getVencedor();
+            if (vencedor == null) {
+                return "-";
+            }
+            return vencedor == engine.getGame().getPlayer1() ? "JOGADOR" : "COMPUTADOR";
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the id of the match.
+     *
+     * @return The id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    private Ship navio(int tamanho) {
+        for (Ship ship : engine.getGame().getPlayer1().getBoard().getShips()) {
+            if (ship.getSize() == tamanho) {
+                return ship;
+            }
+        }
+        throw new IllegalArgumentException("Nenhum navio vivo de tamanho " + tamanho);
+    }
+
+    private void verificaEmAndamento() {
+        if (engine.isFimDeJogo()) {
+            throw new IllegalStateException("A partida já acabou");
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package br.ufrn.imd.simulacao;
+
+import br.ufrn.imd.controle.FrotaInviavelException;
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.ia.ShotStrategy;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.ShipType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Command-line runner that plays a large batch of matches between two computer strategies and
+ * writes one row of statistics per match: the turns, the winner, the shots of each side and the
+ * hits of each side per kind of ship.
+ * <p>
+ * The matches are split in blocks of {@value #BLOCO}. Each worker thread claims the next block,
+ * plays it into column arrays it reuses and hands the whole block to the output, so the memory
+ * taken does not grow with the number of matches. A worker also keeps a single {@link GameEngine},
+ * reset in place between matches, and one pair of strategies per block, so a match allocates next
+ * to nothing. Every block draws from a generator derived from the seed and the block number, and
+ * the blocks are written in the order they were claimed, a worker that finished early waiting for
+ * the blocks before its own, so a run writes the same file whatever the number of threads.
+ * </p>
+ * <p>
+ * A file ending in {@code .csv} receives text; any other file receives the compact binary format
+ * of {@link ColumnarWriter}, read back by {@link ColumnarReader}.
+ * </p>
+ * <pre>
+ * java br.ufrn.imd.simulacao.BatchSimulation saida [partidas] [estrategia1] [estrategia2] [semente] [frota] [tamanho] [threads]
+ * </pre>
+ * The fleet is a comma-separated list of ship sizes, {@code 2,3,4,5} by default.
+ */
+public class BatchSimulation {
+    /**
+     * Matches played and written together by a worker.
+     */
+    private static final int BLOCO = 4096;
+
+    /**
+     * Turns after which a match is considered a draw.
+     */
+    private static final int MAX_TURNOS = 1000;
+
+    private static final int PARTIDA = 0;
+    private static final int TURNOS = 1;
+    private static final int VENCEDOR = 2;
+    private static final int TIROS = 3;
+    private static final int ACERTOS = 5;
+
+    private final String estrategia1;
+    private final String estrategia2;
+    private final int[] frota;
+    private final int tamanho;
+
+    /**
+     * Constructs a batch of matches between two strategies.
+     *
+     * @param estrategia1 The name of the first strategy.
+     * @param estrategia2 The name of the second strategy.
+     * @param frota The sizes of the ships of each fleet.
+     * @param tamanho The number of rows and columns of the boards.
+     * @throws IllegalArgumentException if a strategy name or ship size is unknown.
+     */
+    public BatchSimulation(String estrategia1, String estrategia2, int[] frota, int tamanho) {
+        Tournament.criaEstrategia(estrategia1, new GameRandom(0));
+        Tournament.criaEstrategia(estrategia2, new GameRandom(0));
+        for (int tamanhoNavio : frota) {
+            ShipType.doTamanho(tamanhoNavio);
+        }
+        this.estrategia1 = estrategia1;
+        this.estrategia2 = estrategia2;
+        this.frota = frota.clone();
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Returns the names of the columns written for each match.
+     *
+     * @return The names, in the order of the columns.
+     */
+    public static String[] colunas() {
+        ShipType[] tipos = ShipType.values();
+        List<String> nomes = new ArrayList<>(List.of("partida", "turnos", "vencedor", "tiros1", "tiros2"));
+        for (int lado = 1; lado <= 2; lado++) {
+            for (ShipType tipo : tipos) {
+                nomes.add("acertos" + lado + "_" + tipo.name().toLowerCase());
+            }
+        }
+        return nomes.toArray(new String[0]);
+    }
+
+    /**
+     * Plays the matches on the given number of threads and writes their statistics to a file.
+     *
+     * @param arquivo The output file, CSV if its name ends in {@code .csv}.
+     * @param partidas The number of matches.
+     * @param semente The seed the generator of every block is derived from.
+     * @param threads The number of worker threads.
+     * @throws IOException If the file cannot be written.
+     * @throws FrotaInviavelException If the fleet does not fit on the boards. Like any other failure
+     *                                of a match, it stops every worker and is rethrown here, and
+     *                                the file only holds the blocks written before it.
+     */
+    public void run(Path arquivo, int partidas, long semente, int threads) throws IOException {
+        try (Saida saida = arquivo.toString().endsWith(".csv")
+                ? new SaidaCsv(arquivo, colunas()) : new SaidaColunar(arquivo, colunas())) {
+            AtomicInteger proximo = new AtomicInteger();
+            Vez vez = new Vez();
+            int blocos = (partidas + BLOCO - 1) / BLOCO;
+            Thread[] trabalhadores = new Thread[threads];
+            Throwable[] falha = new Throwable[1];
+            for (int t = 0; t < threads; t++) {
+                trabalhadores[t] = new Thread(() -> {
+                    int[][] dados = new int[colunas().length][BLOCO];
+                    GameEngine engine = new GameEngine(new Game(tamanho, tamanho, new GameRandom(semente)));
+                    boolean terminou = false;
+                    try {
+                        for (int bloco = proximo.getAndIncrement(); bloco < blocos; bloco = proximo.getAndIncrement()) {
+                            int inicio = bloco * BLOCO;
+                            int n = Math.min(BLOCO, partidas - inicio);
+                            GameRandom random = new GameRandom(semente + bloco * 0x9E3779B97F4A7C15L);
+                            ShotStrategy a = Tournament.criaEstrategia(estrategia1, random.split());
+                            ShotStrategy b = Tournament.criaEstrategia(estrategia2, random.split());
+                            for (int i = 0; i < n; i++) {
+                                engine.reset(random.split());
+                                jogaPartida(inicio + i, engine, a, b, dados, i);
+                            }
+                            if (!vez.aguarda(bloco)) {
+                                return;
+                            }
+                            try {
+                                saida.escreve(dados, n);
+                            } finally {
+                                vez.passa();
+                            }
+                        }
+                        terminou = true;
+                    } catch (IOException | RuntimeException | Error e) {
+                        registraFalha(falha, e);
+                    } catch (InterruptedException e) {
+                        registraFalha(falha, new IOException("Simulação interrompida", e));
+                    } finally {
+                        if (!terminou) {
+                            proximo.set(blocos);
+                            vez.cancela();
+                        }
+                    }
+                }, "simulacao-" + t);
+                trabalhadores[t].start();
+            }
+            for (Thread trabalhador : trabalhadores) {
+                trabalhador.join();
+            }
+            synchronized (falha) {
+                if (falha[0] instanceof IOException e) {
+                    throw e;
+                } else if (falha[0] instanceof RuntimeException e) {
+                    throw e;
+                } else if (falha[0] instanceof Error e) {
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Simulação interrompida", e);
+        }
+    }
+
+    /**
+     * Keeps the first failure of a worker; the ones that follow are usually its consequences.
+     */
+    private static void registraFalha(Throwable[] falha, Throwable erro) {
+        synchronized (falha) {
+            if (falha[0] == null) {
+                falha[0] = erro;
+            }
+        }
+    }
+
+    /**
+     * Plays one match on an engine just reset and records it in a row of the block. The first strategy is always side 1,
+     * and the side that attacks first alternates with the match number.
+     */
+    private void jogaPartida(int numero, GameEngine engine, ShotStrategy a, ShotStrategy b, int[][] dados, int linha) {
+        Player jogador1 = engine.getGame().getPlayer1();
+        Player jogador2 = engine.getGame().getPlayer2();
+        engine.placeFleet(jogador1, frota);
+        engine.placeFleet(jogador2, frota);
+        boolean invertida = (numero & 1) == 1;
+        int turnos = invertida ? engine.playMatch(b, a, MAX_TURNOS) : engine.playMatch(a, b, MAX_TURNOS);
+        Player lado1 = invertida ? jogador2 : jogador1;
+        Player lado2 = invertida ? jogador1 : jogador2;
+
+        int vencedor = 0;
+        if (engine.getVencedor() == lado1) {
+            vencedor = 1;
+        } else if (engine.getVencedor() == lado2) {
+            vencedor = 2;
+        }
+        dados[PARTIDA][linha] = numero;
+        dados[TURNOS][linha] = turnos;
+        dados[VENCEDOR][linha] = vencedor;
+        dados[TIROS][linha] = engine.getTiros(lado1);
+        dados[TIROS + 1][linha] = engine.getTiros(lado2);
+        ShipType[] tipos = ShipType.values();
+        for (int t = 0; t < tipos.length; t++) {
+            dados[ACERTOS + t][linha] = engine.getAcertos(lado1, tipos[t]);
+            dados[ACERTOS + tipos.length + t][linha] = engine.getAcertos(lado2, tipos[t]);
+        }
+    }
+
+    /**
+     * Turn of the workers at the output: the blocks are written one at a time, in the order they
+     * were claimed.
+     */
+    private static class Vez {
+        private int proximo;
+        private boolean cancelada;
+
+        /**
+         * Waits until every block before the given one was written.
+         *
+         * @return False if the run was cancelled while waiting.
+         */
+        synchronized boolean aguarda(int bloco) throws InterruptedException {
+            while (proximo != bloco && !cancelada) {
+                wait();
+            }
+            return !cancelada;
+        }
+
+        synchronized void passa() {
+            proximo++;
+            notifyAll();
+        }
+
+        synchronized void cancela() {
+            cancelada = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Destination of the blocks of rows, shared by the workers.
+     */
+    private interface Saida extends AutoCloseable {
+        void escreve(int[][] dados, int linhas) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static class SaidaColunar implements Saida {
+        private final ColumnarWriter escritor;
+
+        SaidaColunar(Path arquivo, String[] colunas) throws IOException {
+            this.escritor = new ColumnarWriter(arquivo, colunas);
+        }
+
+        @Override
+        public void escreve(int[][] dados, int linhas) throws IOException {
+            escritor.escreve(dados, linhas);
+        }
+
+        @Override
+        public void close() throws IOException {
+            escritor.close();
+        }
+    }
+
+    private static class SaidaCsv implements Saida {
+        private final BufferedWriter escritor;
+        private final StringBuilder linha = new StringBuilder(256);
+
+        SaidaCsv(Path arquivo, String[] colunas) throws IOException {
+            this.escritor = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8);
+            escritor.write(String.join(",", colunas));
+            escritor.newLine();
+        }
+
+        @Override
+        public synchronized void escreve(int[][] dados, int linhas) throws IOException {
+            for (int i = 0; i < linhas; i++) {
+                linha.setLength(0);
+                for (int c = 0; c < dados.length; c++) {
+                    if (c > 0) {
+                        linha.append(',');
+                    }
+                    linha.append(dados[c][i]);
+                }
+                linha.append('\n');
+                escritor.append(linha);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            escritor.close();
+        }
+    }
+
+    /**
+     * Runs a batch from the command line and prints the number of matches, the throughput and the size of the file.
+     *
+     * @param args output file, number of matches, first strategy, second strategy, seed, fleet, board size and number of threads.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: BatchSimulation saida [partidas] [estrategia1] [estrategia2] [semente] [frota] [tamanho] [threads]");
+            System.exit(2);
+        }
+        Path arquivo = Path.of(args[0]);
+        int partidas = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+        String estrategia1 = args.length > 2 ? args[2] : "probabilidade";
+        String estrategia2 = args.length > 3 ? args[3] : "cacador";
+        long semente = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+        String[] partes = (args.length > 5 ? args[5] : "2,3,4,5").split(",");
+        int tamanho = args.length > 6 ? Integer.parseInt(args[6]) : 10;
+        int threads = args.length > 7 ? Integer.parseInt(args[7]) : Runtime.getRuntime().availableProcessors();
+
+        int[] frota = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            frota[i] = Integer.parseInt(partes[i].trim());
+        }
+        BatchSimulation simulacao = new BatchSimulation(estrategia1, estrategia2, frota, tamanho);
+        long inicio = System.nanoTime();
+        simulacao.run(arquivo, partidas, semente, threads);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("Partidas: %d (%d threads, semente %d)%n", partidas, threads, semente);
+        System.out.printf("Tempo: %.2f s, %.1f partidas por segundo%n", segundos, partidas / segundos);
+        System.out.printf("Arquivo: %s (%d bytes)%n", arquivo, Files.size(arquivo));
+    }
+}
@@ -0,0 +1,143 @@
+package br.ufrn.imd.simulacao;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads, one block at a time, a file written by {@link ColumnarWriter}.
+ * <p>
+ * The values of the current block are decoded into one int array per column, reused from one
+ * block to the next, so reading a file of any size takes the memory of its largest block.
+ * </p>
+ */
+public class ColumnarReader implements AutoCloseable {
+    private static final int TAMANHO_BUFFER = 1 << 20;
+
+    private final FileChannel canal;
+    private final ByteBuffer buffer;
+    private final String[] nomes;
+    private int[][] colunas;
+    private int linhas;
+
+    /**
+     * Opens a file and reads its header.
+     *
+     * @param arquivo The file.
+     * @throws IOException If the file cannot be read or was not written by {@link ColumnarWriter}.
+     */
+    public ColumnarReader(Path arquivo) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        buffer.flip();
+        try {
+            garante(12);
+            if (buffer.getInt() != ColumnarWriter.MAGIA || buffer.getInt() != ColumnarWriter.VERSAO) {
+                throw new IOException("Não é um arquivo colunar: " + arquivo);
+            }
+            nomes = new String[buffer.getInt()];
+            for (int i = 0; i < nomes.length; i++) {
+                garante(2);
+                byte[] nome = new byte[buffer.getShort()];
+                garante(nome.length);
+                buffer.get(nome);
+                nomes[i] = new String(nome, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+        this.colunas = new int[nomes.length][0];
+    }
+
+    /**
+     * Returns the names of the columns.
+     *
+     * @return The names, in the order of the columns.
+     */
+    public String[] getNomes() {
+        return nomes.clone();
+    }
+
+    /**
+     * Reads the next block.
+     *
+     * @return The number of rows of the block, or -1 at the end of the file.
+     * @throws IOException If reading fails or the file is truncated.
+     */
+    public int proximoBloco() throws IOException {
+        if (!buffer.hasRemaining() && !enche()) {
+            return -1;
+        }
+        garante(4);
+        linhas = buffer.getInt();
+        for (int c = 0; c < colunas.length; c++) {
+            if (colunas[c].length < linhas) {
+                colunas[c] = new int[linhas];
+            }
+            int[] coluna = colunas[c];
+            garante(1);
+            int largura = buffer.get();
+            for (int i = 0; i < linhas; i++) {
+                garante(largura);
+                if (largura == 1) {
+                    coluna[i] = buffer.get() & 0xFF;
+                } else if (largura == 2) {
+                    coluna[i] = buffer.getShort() & 0xFFFF;
+                } else {
+                    coluna[i] = buffer.getInt();
+                }
+            }
+        }
+        return linhas;
+    }
+
+    /**
+     * Returns the values of a column in the current block. The array is reused by the next block.
+     *
+     * @param coluna The index of the column.
+     * @return The values, from index 0 up to the number of rows of the block.
+     */
+    public int[] getColuna(int coluna) {
+        return colunas[coluna];
+    }
+
+    /**
+     * Returns the index of a column.
+     *
+     * @param nome The name of the column.
+     * @return The index, or -1 if there is no such column.
+     */
+    public int indice(String nome) {
+        for (int i = 0; i < nomes.length; i++) {
+            if (nomes[i].equals(nome)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private void garante(int bytes) throws IOException {
+        while (buffer.remaining() < bytes) {
+            if (!enche()) {
+                throw new EOFException("Arquivo colunar truncado");
+            }
+        }
+    }
+
+    private boolean enche() throws IOException {
+        buffer.compact();
+        int lidos = canal.read(buffer);
+        buffer.flip();
+        return lidos > 0;
+    }
+}
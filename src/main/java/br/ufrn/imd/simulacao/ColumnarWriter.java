@@ -0,0 +1,138 @@
+package br.ufrn.imd.simulacao;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a table of int columns to a compact binary file, one block of rows at a time.
+ * <p>
+ * The file starts with a header: the magic number, the version, the number of columns and the
+ * name of each column (a short length followed by UTF-8 bytes). Blocks follow until the end of the
+ * file. A block holds its number of rows and then each column in turn, as one byte with the width
+ * of its values (1, 2 or 4 bytes) followed by the values. The width is the smallest that fits every
+ * value of the column in that block, so small counters take one byte per row. Numbers are big-endian.
+ * </p>
+ * <p>
+ * Blocks are assembled in a large buffer and written with few system calls. Several threads may
+ * write blocks; each block is written whole.
+ * </p>
+ *
+ * @see ColumnarReader
+ */
+public class ColumnarWriter implements AutoCloseable {
+    static final int MAGIA = 0x424E434C;
+    static final int VERSAO = 1;
+
+    private static final int TAMANHO_BUFFER = 1 << 20;
+
+    private final FileChannel canal;
+    private final int numColunas;
+    private final ByteBuffer buffer;
+    private long linhas;
+
+    /**
+     * Creates a file, replacing it if it exists, and writes its header.
+     *
+     * @param arquivo The file.
+     * @param colunas The names of the columns.
+     * @throws IOException If the file cannot be created.
+     */
+    public ColumnarWriter(Path arquivo, String... colunas) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.numColunas = colunas.length;
+        this.buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        buffer.putInt(MAGIA).putInt(VERSAO).putInt(colunas.length);
+        for (String coluna : colunas) {
+            byte[] nome = coluna.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) nome.length).put(nome);
+        }
+    }
+
+    /**
+     * Writes a block of rows.
+     *
+     * @param dados The values, one array per column, indexed by row.
+     * @param numLinhas The number of rows of the block, read from the start of each array.
+     * @throws IOException If writing fails.
+     * @throws IllegalArgumentException If the number of columns does not match the header.
+     */
+    public synchronized void escreve(int[][] dados, int numLinhas) throws IOException {
+        if (dados.length != numColunas) {
+            throw new IllegalArgumentException("Esperadas " + numColunas + " colunas, recebidas " + dados.length);
+        }
+        garante(4);
+        buffer.putInt(numLinhas);
+        for (int[] coluna : dados) {
+            int largura = largura(coluna, numLinhas);
+            garante(1);
+            buffer.put((byte) largura);
+            for (int i = 0; i < numLinhas; i++) {
+                garante(largura);
+                if (largura == 1) {
+                    buffer.put((byte) coluna[i]);
+                } else if (largura == 2) {
+                    buffer.putShort((short) coluna[i]);
+                } else {
+                    buffer.putInt(coluna[i]);
+                }
+            }
+        }
+        linhas += numLinhas;
+    }
+
+    /**
+     * Returns the number of rows written so far.
+     *
+     * @return The number of rows.
+     */
+    public synchronized long getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Writes the buffered blocks and closes the file.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            descarrega();
+        } finally {
+            canal.close();
+        }
+    }
+
+    private void garante(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            descarrega();
+        }
+    }
+
+    private void descarrega() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Returns the smallest width, in bytes, holding every value of a column as an unsigned number.
+     */
+    private static int largura(int[] coluna, int numLinhas) {
+        int uniao = 0;
+        for (int i = 0; i < numLinhas; i++) {
+            uniao |= coluna[i];
+        }
+        if ((uniao & ~0xFF) == 0) {
+            return 1;
+        }
+        return (uniao & ~0xFFFF) == 0 ? 2 : 4;
+    }
+}
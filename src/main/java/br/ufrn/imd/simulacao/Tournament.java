@@ -0,0 +1,191 @@
+package br.ufrn.imd.simulacao;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.ia.HuntTargetStrategy;
+import br.ufrn.imd.ia.ProbabilityStrategy;
+import br.ufrn.imd.ia.RandomStrategy;
+import br.ufrn.imd.ia.ShotStrategy;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Command-line runner that plays many matches between two computer strategies in parallel.
+ * <p>
+ * The matches are split recursively over a {@link ForkJoinPool}; every split hands a new
+ * {@link GameRandom} to the forked half, so each worker draws from its own generator and no
+ * state is shared between threads until the results are summed. Every match gets its own
+ * generator too, split from the worker's, so a run is reproducible from its seed. A task playing
+ * its matches sequentially keeps one engine and one pair of strategies, reset between matches.
+ * </p>
+ * <pre>
+ * java br.ufrn.imd.simulacao.Tournament [partidas] [estrategia1] [estrategia2] [semente] [threads] [tamanho]
+ * </pre>
+ */
+public class Tournament {
+    /**
+     * Matches played sequentially by a single task before it stops splitting.
+     */
+    private static final int LIMIAR = 256;
+
+    /**
+     * Turns after which a match is considered a draw.
+     */
+    private static final int MAX_TURNOS = 1000;
+
+    private String estrategia1;
+    private String estrategia2;
+    private int tamanho;
+
+    /**
+     * Constructs a tournament between two strategies on 10x10 boards.
+     *
+     * @param estrategia1 The name of the first strategy.
+     * @param estrategia2 The name of the second strategy.
+     * @throws IllegalArgumentException if a strategy name is unknown.
+     */
+    public Tournament(String estrategia1, String estrategia2) {
+        this(estrategia1, estrategia2, 10);
+    }
+
+    /**
+     * Constructs a tournament between two strategies on square boards of the given size.
+     *
+     * @param estrategia1 The name of the first strategy.
+     * @param estrategia2 The name of the second strategy.
+     * @param tamanho The number of rows and columns of the boards.
+     * @throws IllegalArgumentException if a strategy name is unknown.
+     */
+    public Tournament(String estrategia1, String estrategia2, int tamanho) {
+        criaEstrategia(estrategia1, new GameRandom(0));
+        criaEstrategia(estrategia2, new GameRandom(0));
+        this.estrategia1 = estrategia1;
+        this.estrategia2 = estrategia2;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Creates a strategy from its name.
+     *
+     * @param nome The name of the strategy: "aleatoria", "cacador" or "probabilidade".
+     * @param random The random generator used by the strategy.
+     * @return The new strategy.
+     * @throws IllegalArgumentException if the name is unknown.
+     */
+    public static ShotStrategy criaEstrategia(String nome, RandomGenerator random) {
+        switch (nome) {
+            case "aleatoria":
+                return new RandomStrategy(random);
+            case "cacador":
+                return new HuntTargetStrategy(random);
+            case "probabilidade":
+                return new ProbabilityStrategy(random);
+            default:
+                throw new IllegalArgumentException("Estratégia desconhecida: " + nome);
+        }
+    }
+
+    /**
+     * Plays the matches on the given pool.
+     *
+     * @param partidas The number of matches.
+     * @param semente The seed of the root random generator.
+     * @param pool The pool running the matches.
+     * @return The aggregated results.
+     */
+    public TournamentResult run(int partidas, long semente, ForkJoinPool pool) {
+        return pool.invoke(new Lote(0, partidas, new GameRandom(semente)));
+    }
+
+    /**
+     * Plays one match on an engine just reset. The seats alternate with the match number: on odd
+     * matches {@code b} takes the first player's seat and moves first. Whatever the seats, the
+     * result is recorded with {@code a} as side 1 and {@code b} as side 2.
+     *
+     * @param numero The number of the match.
+     * @param engine The engine of the worker, reset for this match.
+     * @param a The strategy reported as side 1.
+     * @param b The strategy reported as side 2.
+     * @param resultado Where the result is recorded.
+     */
+    private void jogaPartida(int numero, GameEngine engine, ShotStrategy a, ShotStrategy b, TournamentResult resultado) {
+        boolean invertida = (numero & 1) == 1;
+        int turnos = invertida ? engine.playMatch(b, a, MAX_TURNOS) : engine.playMatch(a, b, MAX_TURNOS);
+
+        int vencedor = 0;
+        if (engine.getVencedor() == engine.getGame().getPlayer1()) {
+            vencedor = invertida ? 2 : 1;
+        } else if (engine.getVencedor() == engine.getGame().getPlayer2()) {
+            vencedor = invertida ? 1 : 2;
+        }
+        resultado.registra(vencedor, turnos);
+    }
+
+    /**
+     * Task playing a range of matches, split in halves while the range is large.
+     */
+    private class Lote extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int inicio;
+        private final int fim;
+        private final transient GameRandom random;
+
+        Lote(int inicio, int fim, GameRandom random) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.random = random;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (fim - inicio <= LIMIAR) {
+                TournamentResult resultado = new TournamentResult();
+                GameEngine engine = new GameEngine(new Game(tamanho, tamanho, random.split()));
+                ShotStrategy a = criaEstrategia(estrategia1, random.split());
+                ShotStrategy b = criaEstrategia(estrategia2, random.split());
+                for (int i = inicio; i < fim; i++) {
+                    engine.reset(random.split());
+                    jogaPartida(i, engine, a, b, resultado);
+                }
+                return resultado;
+            }
+            int meio = (inicio + fim) >>> 1;
+            Lote direita = new Lote(meio, fim, random.split());
+            direita.fork();
+            TournamentResult esquerda = new Lote(inicio, meio, random).compute();
+            return esquerda.soma(direita.join());
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the win rates, mean turns and throughput.
+     *
+     * @param args number of matches, first strategy, second strategy, seed, number of threads and board size.
+     */
+    public static void main(String[] args) {
+        int partidas = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        String estrategia1 = args.length > 1 ? args[1] : "probabilidade";
+        String estrategia2 = args.length > 2 ? args[2] : "aleatoria";
+        long semente = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        int tamanho = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+
+        Tournament torneio = new Tournament(estrategia1, estrategia2, tamanho);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long inicio = System.nanoTime();
+        TournamentResult resultado = torneio.run(partidas, semente, pool);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        pool.shutdown();
+
+        System.out.printf("Partidas: %d (%d threads, semente %d)%n", resultado.getPartidas(), threads, semente);
+        System.out.printf("%s: %.2f%% de vitórias%n", estrategia1, 100.0 * resultado.getVitorias1() / resultado.getPartidas());
+        System.out.printf("%s: %.2f%% de vitórias%n", estrategia2, 100.0 * resultado.getVitorias2() / resultado.getPartidas());
+        System.out.printf("Empates: %d%n", resultado.getEmpates());
+        System.out.printf("Média de turnos: %.2f%n", resultado.getMediaTurnos());
+        System.out.printf("Partidas por segundo: %.1f%n", resultado.getPartidas() / segundos);
+    }
+}
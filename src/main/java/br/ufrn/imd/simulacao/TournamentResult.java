@@ -0,0 +1,90 @@
+package br.ufrn.imd.simulacao;
+
+/**
+ * Aggregated results of a set of matches between two strategies.
+ */
+public class TournamentResult {
+    private long partidas;
+    private long vitorias1;
+    private long vitorias2;
+    private long empates;
+    private long turnos;
+
+    /**
+     * Records the result of one match.
+     *
+     * @param vencedor 1 if the first strategy won, 2 if the second won, 0 for a draw.
+     * @param turnos The number of turns played.
+     */
+    public void registra(int vencedor, int turnos) {
+        partidas++;
+        this.turnos += turnos;
+        if (vencedor == 1) {
+            vitorias1++;
+        } else if (vencedor == 2) {
+            vitorias2++;
+        } else {
+            empates++;
+        }
+    }
+
+    /**
+     * Adds the results of another set of matches to this one.
+     *
+     * @param outro The other results.
+     * @return This result, for chaining.
+     */
+    public TournamentResult soma(TournamentResult outro) {
+        partidas += outro.partidas;
+        vitorias1 += outro.vitorias1;
+        vitorias2 += outro.vitorias2;
+        empates += outro.empates;
+        turnos += outro.turnos;
+        return this;
+    }
+
+    /**
+     * Returns the number of matches played.
+     *
+     * @return The number of matches.
+     */
+    public long getPartidas() {
+        return partidas;
+    }
+
+    /**
+     * Returns the number of matches won by the first strategy.
+     *
+     * @return The wins of the first strategy.
+     */
+    public long getVitorias1() {
+        return vitorias1;
+    }
+
+    /**
+     * Returns the number of matches won by the second strategy.
+     *
+     * @return The wins of the second strategy.
+     */
+    public long getVitorias2() {
+        return vitorias2;
+    }
+
+    /**
+     * Returns the number of matches that reached the turn limit.
+     *
+     * @return The number of draws.
+     */
+    public long getEmpates() {
+        return empates;
+    }
+
+    /**
+     * Returns the mean number of turns per match.
+     *
+     * @return The mean turns, or 0 if no match was played.
+     */
+    public double getMediaTurnos() {
+        return partidas == 0 ? 0 : (double) turnos / partidas;
+    }
+}
@@ -0,0 +1,25 @@
+package br.ufrn.imd.visao;
+
+import br.ufrn.imd.modelo.Board;
+
+/**
+ * Draws the state of a board on the screen.
+ */
+public interface BoardRenderer {
+
+    /**
+     * Updates the drawing with the current state of the board.
+     *
+     * @param board The board to draw.
+     */
+    void render(Board board);
+
+    /**
+     * Highlights the cells where the first cell of the ship being placed may go, replacing the
+     * previous highlight.
+     *
+     * @param board The board being drawn.
+     * @param ancoras The anchors as a bitset over {@code row * colunas + col}, or null to remove the highlight.
+     */
+    void destacaAncoras(Board board, long[] ancoras);
+}
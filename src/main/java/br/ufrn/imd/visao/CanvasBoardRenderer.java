@@ -0,0 +1,193 @@
+package br.ufrn.imd.visao;
+
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.CellButton;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Renderer that draws a whole board on a single {@link Canvas}.
+ * <p>
+ * The renderer remembers what was drawn on each cell in the last frame and only repaints the cells
+ * whose look changed, so a turn that hits a few cells costs a few rectangles instead of a CSS pass
+ * over every node of the grid. Only the cells the board already created are visited, so the cost of
+ * a frame does not grow with the area of the board. The colors are the same as the ones in
+ * {@code style.css}.
+ * </p>
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+    private static final byte AGUA = 0;
+    private static final byte NAVIO = 1;
+    private static final byte MIRADA = 2;
+    private static final byte TIRO_AGUA = 3;
+    private static final byte TIRO_NAVIO = 4;
+    private static final byte ANCORA = 5;
+
+    private static final Color[] CORES = {
+            Color.web("#002D62"), Color.web("#B7B0AE"), Color.WHITE, Color.web("#F2751E"), Color.web("#FF0E0E"),
+            Color.web("#2E6DA4")
+    };
+
+    private Canvas canvas;
+    private double tamanhoCelula;
+    private boolean mostrarNavios;
+    private int linhas;
+    private int colunas;
+    private byte[] desenhado;
+    private long[] ancoras;
+
+    /**
+     * Constructs a renderer that draws a board on the given canvas. The canvas is resized to the
+     * board in the first frame.
+     *
+     * @param canvas The canvas to draw on.
+     * @param tamanhoCelula The width and height of a cell, in pixels.
+     * @param mostrarNavios True to show the ships that were not hit (the player's own board).
+     */
+    public CanvasBoardRenderer(Canvas canvas, double tamanhoCelula, boolean mostrarNavios) {
+        this.canvas = canvas;
+        this.tamanhoCelula = tamanhoCelula;
+        this.mostrarNavios = mostrarNavios;
+    }
+
+    @Override
+    public void render(Board board) {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setStroke(Color.BLACK);
+        g.setLineWidth(1);
+        if (desenhado == null || linhas != board.getLinhas() || colunas != board.getColunas()) {
+            desenhaOceano(g, board.getLinhas(), board.getColunas());
+        }
+        board.forEachCell(cell -> {
+            int i = cell.getRow() * colunas + cell.getCol();
+            byte aparencia = aparencia(cell);
+            if (aparencia == AGUA && isAncora(i)) {
+                aparencia = ANCORA;
+            }
+            pinta(g, i, aparencia);
+        });
+    }
+
+    /**
+     * Paints the anchors over the water cells. Only the cells entering or leaving the highlight are
+     * repainted; they are all water, since an anchor is a free cell of the board.
+     */
+    @Override
+    public void destacaAncoras(Board board, long[] novas) {
+        if (desenhado == null || linhas != board.getLinhas() || colunas != board.getColunas()) {
+            render(board);
+        }
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setStroke(Color.BLACK);
+        g.setLineWidth(1);
+        long[] antigas = ancoras;
+        ancoras = novas == null ? null : novas.clone();
+        int palavras = Math.max(antigas == null ? 0 : antigas.length, ancoras == null ? 0 : ancoras.length);
+        for (int palavra = 0; palavra < palavras; palavra++) {
+            long antes = antigas == null ? 0 : antigas[palavra];
+            long depois = ancoras == null ? 0 : ancoras[palavra];
+            for (long bits = antes ^ depois; bits != 0; bits &= bits - 1) {
+                int i = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+                if (desenhado[i] == AGUA || desenhado[i] == ANCORA) {
+                    pinta(g, i, (depois & Long.lowestOneBit(bits)) != 0 ? ANCORA : AGUA);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forces the whole board to be repainted in the next frame.
+     */
+    public void invalidate() {
+        desenhado = null;
+    }
+
+    /**
+     * Returns the row under a vertical position of the canvas.
+     *
+     * @param y The vertical position, in pixels.
+     * @return The row, or -1 if the position is outside the board.
+     */
+    public int getRow(double y) {
+        int row = indice(y);
+        return row < linhas ? row : -1;
+    }
+
+    /**
+     * Returns the column under a horizontal position of the canvas.
+     *
+     * @param x The horizontal position, in pixels.
+     * @return The column, or -1 if the position is outside the board.
+     */
+    public int getCol(double x) {
+        int col = indice(x);
+        return col < colunas ? col : -1;
+    }
+
+    /**
+     * Returns the canvas this renderer draws on.
+     *
+     * @return The canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    private int indice(double posicao) {
+        int i = (int) Math.floor(posicao / tamanhoCelula);
+        return i >= 0 ? i : -1;
+    }
+
+    /**
+     * Resizes the canvas and paints every cell as water, which is the look of every cell the board
+     * has not created yet.
+     */
+    private void desenhaOceano(GraphicsContext g, int linhas, int colunas) {
+        this.linhas = linhas;
+        this.colunas = colunas;
+        this.desenhado = new byte[linhas * colunas];
+        Arrays.fill(desenhado, AGUA);
+        canvas.setWidth(colunas * tamanhoCelula);
+        canvas.setHeight(linhas * tamanhoCelula);
+        g.setFill(CORES[AGUA]);
+        g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int row = 0; row <= linhas; row++) {
+            g.strokeLine(0, row * tamanhoCelula + 0.5, canvas.getWidth(), row * tamanhoCelula + 0.5);
+        }
+        for (int col = 0; col <= colunas; col++) {
+            g.strokeLine(col * tamanhoCelula + 0.5, 0, col * tamanhoCelula + 0.5, canvas.getHeight());
+        }
+    }
+
+    private void pinta(GraphicsContext g, int i, byte aparencia) {
+        if (desenhado[i] == aparencia) {
+            return;
+        }
+        desenhado[i] = aparencia;
+        double x = (i % colunas) * tamanhoCelula;
+        double y = (i / colunas) * tamanhoCelula;
+        g.setFill(CORES[aparencia]);
+        g.fillRect(x, y, tamanhoCelula, tamanhoCelula);
+        g.strokeRect(x + 0.5, y + 0.5, tamanhoCelula - 1, tamanhoCelula - 1);
+    }
+
+    private boolean isAncora(int i) {
+        return ancoras != null && (ancoras[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private byte aparencia(CellButton cell) {
+        if (cell.isHit()) {
+            return cell.getState() == CellButton.State.SHIP ? TIRO_NAVIO : TIRO_AGUA;
+        }
+        if (cell.getAimed()) {
+            return MIRADA;
+        }
+        if (mostrarNavios && cell.getState() == CellButton.State.SHIP) {
+            return NAVIO;
+        }
+        return AGUA;
+    }
+}
@@ -0,0 +1,129 @@
+package br.ufrn.imd.visao;
+
+import br.ufrn.imd.controle.Controller;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.control.Button;
+import javafx.scene.control.Control;
+import javafx.scene.control.Label;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Builds the root of the game scene, either in code or from {@code /fxml/gameScene.fxml}.
+ * <p>
+ * Building it in code skips the reflection and XML parsing of the {@link FXMLLoader}, which is most
+ * of the cost of a cold start; the layout is the same as the one in the FXML file, which stays the
+ * reference to edit the screen with Scene Builder. The stylesheet URL is resolved once and shared.
+ * </p>
+ */
+public final class GameScene {
+    /**
+     * Width of the scene, in pixels.
+     */
+    public static final double LARGURA = 850;
+
+    /**
+     * Height of the scene, in pixels.
+     */
+    public static final double ALTURA = 800;
+
+    private static String estilo;
+
+    private GameScene() {
+    }
+
+    /**
+     * Builds the root pane in code and connects it to a new {@link Controller}.
+     *
+     * @return The root pane of the game.
+     */
+    public static AnchorPane cria() {
+        Controller controller = new Controller();
+        AnchorPane gamePane = new AnchorPane();
+        gamePane.setPrefSize(LARGURA, ALTURA);
+        gamePane.getStylesheets().add(estilo());
+
+        GridPane playerGrid = grade(50, 50);
+        GridPane computerGrid = grade(500, 50);
+        Button startGameButton = botao("Começar Jogo!!", 350, 632, 150, 60, null);
+        startGameButton.setMnemonicParsing(false);
+        Button atirar = botao("Atirar", 373, 474, 105, 29, event -> controller.handleAtirar());
+        atirar.setMnemonicParsing(false);
+
+        Label label = new Label("Bem vindo ao Batalha Naval\n Clique nos navios para posicioná-los, e em seguida clique em Começar Jogo");
+        posiciona(label, 175, 526, 554, 60);
+        label.setTextAlignment(TextAlignment.CENTER);
+        label.setTextOverrun(OverrunStyle.CENTER_ELLIPSIS);
+        label.setFont(Font.font("Arial", 15));
+        Label labelRadar = new Label();
+        posiciona(labelRadar, 175, 582, 533, 41);
+
+        gamePane.getChildren().addAll(playerGrid, computerGrid,
+                botao("Corveta", 183, 419, 69, 30, event -> controller.handleCorveta()),
+                botao("Submarino", 274, 419, 90, 30, event -> controller.handleSubmarino()),
+                botao("Fragata", 392, 419, 120, 30, event -> controller.handleFragata()),
+                botao("Destroyer", 540, 419, 150, 30, event -> controller.handleDestroyer()),
+                label, startGameButton, atirar, labelRadar);
+        controller.conecta(gamePane, playerGrid, computerGrid, startGameButton, label, labelRadar);
+        return gamePane;
+    }
+
+    /**
+     * Loads the root pane from {@code /fxml/gameScene.fxml}, whose controller is created by the loader.
+     *
+     * @return The root pane of the game.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalStateException If the file is not found.
+     */
+    public static AnchorPane carregaFxml() throws IOException {
+        URL fxml = GameScene.class.getResource("/fxml/gameScene.fxml");
+        if (fxml == null) {
+            throw new IllegalStateException("FXML file not found: /fxml/gameScene.fxml");
+        }
+        return new FXMLLoader(fxml).load();
+    }
+
+    /**
+     * Returns the URL of the game's stylesheet, resolved on first use.
+     *
+     * @return The URL of {@code /css/style.css}.
+     */
+    public static synchronized String estilo() {
+        if (estilo == null) {
+            estilo = GameScene.class.getResource("/css/style.css").toExternalForm();
+        }
+        return estilo;
+    }
+
+    private static GridPane grade(double x, double y) {
+        GridPane grid = new GridPane();
+        grid.setGridLinesVisible(true);
+        grid.setLayoutX(x);
+        grid.setLayoutY(y);
+        return grid;
+    }
+
+    private static Button botao(String texto, double x, double y, double largura, double altura,
+                                EventHandler<ActionEvent> acao) {
+        Button botao = new Button(texto);
+        posiciona(botao, x, y, largura, altura);
+        if (acao != null) {
+            botao.setOnAction(acao);
+        }
+        return botao;
+    }
+
+    private static void posiciona(Control controle, double x, double y, double largura, double altura) {
+        controle.setLayoutX(x);
+        controle.setLayoutY(y);
+        controle.setPrefSize(largura, altura);
+    }
+}
@@ -0,0 +1,83 @@
+package br.ufrn.imd.visao;
+
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.CellButton;
+import javafx.scene.Node;
+
+/**
+ * Renderer that styles the {@link javafx.scene.shape.Rectangle} of every cell of a
+ * {@link javafx.scene.layout.GridPane} with the CSS classes of {@code style.css}.
+ * The rectangles are found through a {@link NodeRegistry}.
+ */
+public class GridPaneRenderer implements BoardRenderer {
+    private NodeRegistry nodes;
+    private boolean mostrarNavios;
+    private long[] destacadas;
+
+    /**
+     * Constructs a renderer for a grid.
+     *
+     * @param nodes The nodes of the grid's cells.
+     * @param mostrarNavios True to show the ships that were not hit (the player's own board).
+     */
+    public GridPaneRenderer(NodeRegistry nodes, boolean mostrarNavios) {
+        this.nodes = nodes;
+        this.mostrarNavios = mostrarNavios;
+    }
+
+    @Override
+    public void render(Board b) {
+        b.forEachCell(cell -> {
+            Node cellNode = nodes.get(cell.getRow(), cell.getCol());
+
+            if (cellNode != null) {
+                cellNode.getStyleClass().removeAll("cell-ship", "cell-hit", "cell-aimed", "cell-ship-hit");
+
+                if (cell.getAimed()){
+                    cellNode.getStyleClass().add("cell-aimed");
+                } else {
+                    if (cell.getState() == CellButton.State.SHIP && mostrarNavios){
+                        cellNode.getStyleClass().add("cell-ship");
+                    }
+                }
+
+                if (cell.isHit()){
+                    if (cell.getState() == CellButton.State.SHIP){
+                        cellNode.getStyleClass().add("cell-ship-hit");
+                    } else if (cell.getState() == CellButton.State.WATER) {
+                        cellNode.getStyleClass().add("cell-hit");
+                    }
+                }
+
+            }
+        });
+    }
+
+    @Override
+    public void destacaAncoras(Board b, long[] ancoras) {
+        if (destacadas != null) {
+            estiliza(b, destacadas, false);
+        }
+        destacadas = ancoras == null ? null : ancoras.clone();
+        if (destacadas != null) {
+            estiliza(b, destacadas, true);
+        }
+    }
+
+    private void estiliza(Board b, long[] celulas, boolean destacar) {
+        for (int palavra = 0; palavra < celulas.length; palavra++) {
+            for (long bits = celulas[palavra]; bits != 0; bits &= bits - 1) {
+                int celula = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+                Node cellNode = nodes.get(celula / b.getColunas(), celula % b.getColunas());
+                if (cellNode == null) {
+                    continue;
+                }
+                if (destacar) {
+                    cellNode.getStyleClass().add("cell-anchor");
+                } else {
+                    cellNode.getStyleClass().remove("cell-anchor");
+                }
+            }
+        }
+    }
+}
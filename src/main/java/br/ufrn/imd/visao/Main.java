@@ -1,18 +1,31 @@
 package br.ufrn.imd.visao;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 
 /**
  * Classe principal que inicializa a aplicação Batalha Naval.
+ * <p>
+ * A cena é montada em código por {@link GameScene}; com {@code -Dbatalhanaval.cena=fxml} ela é
+ * carregada de {@code /fxml/gameScene.fxml}. Com {@code -Dbatalhanaval.medeInicio=true} a aplicação
+ * mostra quantos milissegundos se passaram desde o início da JVM até o primeiro quadro e até os
+ * tabuleiros ficarem prontos, e então se encerra.
+ * </p>
  */
 public class Main extends Application {
 
+    /**
+     * Construtor usado pelo JavaFX ao iniciar a aplicação.
+     */
+    public Main() {
+    }
+
     /**
      * Método principal que inicia a aplicação JavaFX.
      *
@@ -22,34 +35,44 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage stage) throws IOException {
-        // Use o caminho correto para o arquivo FXML que está no mesmo pacote
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/fxml/gameScene.fxml"));
-
-        // Verifique se o caminho é válido e não é nulo
-        if (fxmlLoader.getLocation() == null) {
-            throw new IllegalStateException("FXML file not found: " + "/br/ufrn/imd/visao/gameScene.fxml");
+        AnchorPane root = "fxml".equals(System.getProperty("batalhanaval.cena"))
+                ? GameScene.carregaFxml() : GameScene.cria();
+        Scene scene = new Scene(root, GameScene.LARGURA, GameScene.ALTURA);
+        if (Boolean.getBoolean("batalhanaval.medeInicio")) {
+            medeInicio(scene);
         }
-
-        // Carregue o layout a partir do FXML
-        AnchorPane root = fxmlLoader.load();
-
-        // Crie a cena com o layout carregado
-        Scene scene = new Scene(root, 850, 800);
-
-//        // Adiciona o CSS à cena
-//        String css = getClass().getResource("/css/styles.css").toExternalForm();
-//        scene.getStylesheets().add(css);
-
-        // Configure o título da janela
         stage.setTitle("Batalha Naval");
-
-        // Defina a cena na janela principal (stage)
         stage.setScene(scene);
-
-        // Mostre a janela
         stage.show();
     }
 
+    /**
+     * Mostra o tempo até o primeiro quadro e até os tabuleiros, criados logo depois dele, e encerra
+     * a aplicação.
+     *
+     * @param scene a cena do jogo.
+     */
+    private static void medeInicio(Scene scene) {
+        long inicioJvm = ManagementFactory.getRuntimeMXBean().getStartTime();
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean medido;
+
+            @Override
+            public void run() {
+                if (medido) {
+                    return;
+                }
+                medido = true;
+                System.out.println("Primeiro quadro: " + (System.currentTimeMillis() - inicioJvm) + " ms");
+                Platform.runLater(() -> Platform.runLater(() -> {
+                    scene.removePostLayoutPulseListener(this);
+                    System.out.println("Tabuleiros prontos: " + (System.currentTimeMillis() - inicioJvm) + " ms");
+                    Platform.exit();
+                }));
+            }
+        });
+    }
+
     /**
      * Método principal que inicia a aplicação.
      *
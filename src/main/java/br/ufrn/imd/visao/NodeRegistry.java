@@ -0,0 +1,48 @@
+package br.ufrn.imd.visao;
+
+import javafx.scene.Node;
+
+/**
+ * View-side table of the JavaFX {@link Node} drawing each cell of a board.
+ * <p>
+ * The model cells know nothing about JavaFX; the view keeps the link from coordinates to nodes
+ * here, in a flat array indexed by {@code row * colunas + col}.
+ * </p>
+ */
+public class NodeRegistry {
+    private int colunas;
+    private Node[] nodes;
+
+    /**
+     * Constructs an empty registry for a board of the given dimensions.
+     *
+     * @param linhas The number of rows of the board.
+     * @param colunas The number of columns of the board.
+     */
+    public NodeRegistry(int linhas, int colunas) {
+        this.colunas = colunas;
+        this.nodes = new Node[linhas * colunas];
+    }
+
+    /**
+     * Associates a node with a cell.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @param node The node drawing the cell.
+     */
+    public void register(int row, int col, Node node) {
+        nodes[row * colunas + col] = node;
+    }
+
+    /**
+     * Returns the node drawing a cell.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The node, or null if none was registered.
+     */
+    public Node get(int row, int col) {
+        return nodes[row * colunas + col];
+    }
+}
@@ -1,16 +1,16 @@
 module br.ufrn.imd.visao {
-    requires javafx.controls;
+    requires transitive javafx.controls;
     requires javafx.fxml;
-
-    requires com.almasb.fxgl.all;
-    requires java.desktop;
-    requires commons.math3;
+    requires java.management;
 
     opens br.ufrn.imd.visao to javafx.fxml;
     exports br.ufrn.imd.visao;
     exports br.ufrn.imd.controle;
     opens br.ufrn.imd.controle to javafx.fxml;
+    exports br.ufrn.imd.metricas;
+    exports br.ufrn.imd.modelo;
+    exports br.ufrn.imd.ia;
+    exports br.ufrn.imd.registro;
     //exports br.ufrn.imd.dao;
     //exports br.ufrn.imd.controle;
-    //exports br.ufrn.imd.modelo;
 }
\ No newline at end of file
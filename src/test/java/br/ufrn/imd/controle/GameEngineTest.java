@@ -0,0 +1,49 @@
+package br.ufrn.imd.controle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GameEngineTest {
+
+    @Test
+    void engineReiniciadoRepeteAPartidaDeUmEngineNovo() {
+        GameEngine novo = new GameEngine(new Game(10, 10, new GameRandom(7)));
+        List<Integer> esperado = joga(novo);
+
+        GameEngine reiniciado = new GameEngine(new Game(10, 10, new GameRandom(99)));
+        joga(reiniciado);
+        reiniciado.reset(new GameRandom(7));
+        assertEquals(esperado, joga(reiniciado));
+    }
+
+    /**
+     * Places both fleets, lets the computer fire a few volleys and returns the cells it hit.
+     */
+    private static List<Integer> joga(GameEngine engine) {
+        Player jogador = engine.getGame().getPlayer1();
+        Player pc = engine.getGame().getPlayer2();
+        engine.placeFleet(jogador);
+        engine.startBattle();
+        for (int i = 0; i < 4 && !engine.isFimDeJogo(); i++) {
+            engine.computerVolley(pc, jogador);
+        }
+        List<Integer> atingidas = new ArrayList<>();
+        jogador.getBoard().forEachCell(cell -> {
+            if (cell.isHit()) {
+                atingidas.add(cell.getRow() * 10 + cell.getCol());
+            }
+        });
+        Collections.sort(atingidas);
+        assertFalse(atingidas.isEmpty());
+        return atingidas;
+    }
+}
@@ -0,0 +1,86 @@
+package br.ufrn.imd.controle;
+
+import br.ufrn.imd.modelo.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlacementGeneratorTest {
+
+    @Test
+    void sorteiaFrotasLegais() {
+        int[][] dimensoes = {{10, 10}, {5, 5}, {1, 14}, {14, 1}, {6, 9}, {40, 25}};
+        int[] tamanhos = {2, 3, 4, 5};
+        for (int[] dimensao : dimensoes) {
+            PlacementGenerator gerador = new PlacementGenerator(dimensao[0], dimensao[1]);
+            for (long semente = 0; semente < 200; semente++) {
+                confere(gerador, tamanhos, gerador.sorteia(tamanhos, new GameRandom(semente)), new boolean[dimensao[0]][dimensao[1]]);
+            }
+        }
+    }
+
+    @Test
+    void evitaAsCelulasJaOcupadas() {
+        PlacementGenerator gerador = new PlacementGenerator(8, 8);
+        boolean[][] fixas = new boolean[8][8];
+        for (int i = 0; i < 8; i++) {
+            gerador.ocupa(i, i);
+            fixas[i][i] = true;
+        }
+        int[] tamanhos = {5, 4, 3, 3, 2, 2};
+        for (long semente = 0; semente < 200; semente++) {
+            confere(gerador, tamanhos, gerador.sorteia(tamanhos, new GameRandom(semente)), fixas);
+        }
+
+        gerador.limpa();
+        confere(gerador, tamanhos, gerador.sorteia(tamanhos, new GameRandom(1)), new boolean[8][8]);
+    }
+
+    @Test
+    void mesmaSementeDaMesmaFrota() {
+        PlacementGenerator gerador = new PlacementGenerator(10, 10);
+        int[] tamanhos = {2, 3, 4, 5};
+        for (long semente = 0; semente < 50; semente++) {
+            assertArrayEquals(gerador.sorteia(tamanhos, new GameRandom(semente)),
+                    new PlacementGenerator(10, 10).sorteia(tamanhos, new GameRandom(semente)));
+        }
+    }
+
+    @Test
+    void recusaFrotasQueNaoCabem() {
+        assertThrows(FrotaInviavelException.class, () -> new PlacementGenerator(3, 3).sorteia(new int[]{4}, new GameRandom(1)));
+        assertThrows(FrotaInviavelException.class, () -> new PlacementGenerator(3, 3).sorteia(new int[]{3, 3, 2, 2}, new GameRandom(1)));
+
+        PlacementGenerator gerador = new PlacementGenerator(3, 3);
+        gerador.ocupa(1, 1);
+        assertThrows(FrotaInviavelException.class, () -> gerador.sorteia(new int[]{3, 3, 2}, new GameRandom(1)));
+        int[] tamanhos = {3, 3};
+        boolean[][] fixas = new boolean[3][3];
+        fixas[1][1] = true;
+        confere(gerador, tamanhos, gerador.sorteia(tamanhos, new GameRandom(1)), fixas);
+    }
+
+    private static void confere(PlacementGenerator gerador, int[] tamanhos, int[] posicoes, boolean[][] fixas) {
+        assertEquals(tamanhos.length, posicoes.length);
+        boolean[][] ocupadas = new boolean[fixas.length][];
+        for (int i = 0; i < fixas.length; i++) {
+            ocupadas[i] = fixas[i].clone();
+        }
+        for (int navio = 0; navio < tamanhos.length; navio++) {
+            int row = gerador.getRow(posicoes[navio]);
+            int col = gerador.getCol(posicoes[navio]);
+            boolean deitado = gerador.isDeitado(posicoes[navio]);
+            for (int i = 0; i < tamanhos[navio]; i++) {
+                int r = deitado ? row : row + i;
+                int c = deitado ? col + i : col;
+                assertTrue(r >= 0 && c >= 0 && r < gerador.getLinhas() && c < gerador.getColunas(), "Fora do tabuleiro");
+                assertFalse(ocupadas[r][c], "Navios sobrepostos em " + r + "," + c);
+                ocupadas[r][c] = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.ufrn.imd.controle;
+
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Player;
+import br.ufrn.imd.modelo.Ship;
+import br.ufrn.imd.modelo.ShipType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TurnStateMachineTest {
+
+    @Test
+    void celulaRecusadaNaoGastaNavioReaproveitado() {
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(1)));
+        Player jogador = engine.getGame().getPlayer1();
+        TurnStateMachine maquina = new TurnStateMachine(engine, new TurnListener() { });
+        posiciona(maquina, ShipType.CORVETA, 0, 0);
+        Ship primeiro = jogador.getShips().get(0);
+
+        engine.reset(new GameRandom(2));
+        maquina = new TurnStateMachine(engine, new TurnListener() { });
+        posiciona(maquina, ShipType.DESTROYER, 0, 0);
+        maquina.escolheNavio(ShipType.CORVETA);
+        maquina.cliqueJogador(0, 0);
+        assertEquals(TurnState.POSICIONANDO, maquina.getEstado());
+        maquina.cliqueJogador(9, 0);
+        assertEquals(TurnState.POSICIONAMENTO, maquina.getEstado());
+
+        assertEquals(2, jogador.getShips().size());
+        assertSame(primeiro, jogador.getShips().get(1));
+    }
+
+    private static void posiciona(TurnStateMachine maquina, ShipType tipo, int row, int col) {
+        assertTrue(maquina.escolheNavio(tipo));
+        assertTrue(maquina.cliqueJogador(row, col));
+        assertEquals(TurnState.POSICIONAMENTO, maquina.getEstado());
+    }
+}
@@ -0,0 +1,92 @@
+package br.ufrn.imd.ia;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Ship;
+import br.ufrn.imd.modelo.ShipType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HuntTargetStrategyTest {
+    private static final int[] FROTA = {2, 3, 4, 5};
+    private static final int PARTIDAS = 300;
+
+    @Test
+    void afundaAFrotaComBemMenosTirosQueOAcaso() {
+        long cacador = 0;
+        long acaso = 0;
+        for (long semente = 0; semente < PARTIDAS; semente++) {
+            cacador += afunda(new HuntTargetStrategy(new GameRandom(semente)), semente, false);
+            acaso += afunda(new RandomStrategy(new GameRandom(semente)), semente, false);
+        }
+        assertTrue(3 * cacador < acaso, "caçador " + cacador / PARTIDAS + " tiros, acaso " + acaso / PARTIDAS);
+    }
+
+    @Test
+    void depoisDeUmAcertoAtiraAoLadoDele() {
+        for (long semente = 0; semente < PARTIDAS; semente++) {
+            afunda(new HuntTargetStrategy(new GameRandom(semente)), semente, true);
+        }
+    }
+
+    /**
+     * Lets a strategy shoot one cell at a time at a random fleet until it sinks.
+     *
+     * @param confere True to check every shot: no cell twice and, while a ship is wounded, a
+     *                cell next to one of its hits.
+     * @return The number of shots.
+     */
+    private static int afunda(ShotStrategy estrategia, long semente, boolean confere) {
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(semente)));
+        engine.placeFleet(engine.getGame().getPlayer2(), FROTA);
+        Board board = engine.getGame().getPlayer2().getBoard();
+        Ship atirador = ShipType.CORVETA.criar();
+        estrategia.reset(10, 10, FROTA);
+
+        int tiros = 0;
+        while (board.getNumShips() > 0 && tiros < 10_000) {
+            int celula = estrategia.nextShot(atirador);
+            int row = celula / 10;
+            int col = celula % 10;
+            if (confere) {
+                assertFalse(board.getCell(row, col).isHit(), "Célula repetida no tiro " + tiros);
+                if (feridoSemAfundar(board)) {
+                    assertTrue(vizinhaDeFerido(board, row, col), "Tiro " + tiros + " longe dos acertos");
+                }
+            }
+            tiros++;
+            Ship afundado = board.hitCells(row, col);
+            estrategia.onShot(row, col, board.getShipAt(row, col) != null);
+            if (afundado != null) {
+                estrategia.onSunk(afundado);
+            }
+        }
+        return tiros;
+    }
+
+    private static boolean feridoSemAfundar(Board board) {
+        for (int celula = 0; celula < 100; celula++) {
+            if (atingidaSemAfundar(board, celula / 10, celula % 10)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean vizinhaDeFerido(Board board, int row, int col) {
+        return atingidaSemAfundar(board, row - 1, col) || atingidaSemAfundar(board, row + 1, col)
+                || atingidaSemAfundar(board, row, col - 1) || atingidaSemAfundar(board, row, col + 1);
+    }
+
+    private static boolean atingidaSemAfundar(Board board, int row, int col) {
+        if (!board.contains(row, col) || !board.getCell(row, col).isHit()) {
+            return false;
+        }
+        Ship ship = board.getShipAt(row, col);
+        return ship != null && !ship.isSunk();
+    }
+}
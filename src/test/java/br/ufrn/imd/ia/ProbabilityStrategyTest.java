@@ -0,0 +1,129 @@
+package br.ufrn.imd.ia;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.CellButton;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import br.ufrn.imd.modelo.Ship;
+import br.ufrn.imd.modelo.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ProbabilityStrategyTest {
+
+    @Test
+    void densidadeConfereComARecontagem() {
+        Random random = new Random(17);
+        int[][] frotas = {{2, 3, 4, 5}, {2, 3, 3, 4, 5}, {5, 5, 2, 2}};
+        int[][] dimensoes = {{10, 10}, {7, 12}, {12, 7}};
+        for (long semente = 0; semente < 30; semente++) {
+            int[] frota = frotas[(int) (semente % frotas.length)];
+            int[] dimensao = dimensoes[(int) (semente / frotas.length % dimensoes.length)];
+            int linhas = dimensao[0];
+            int colunas = dimensao[1];
+            GameEngine engine = new GameEngine(new Game(linhas, colunas, new GameRandom(semente)));
+            engine.placeFleet(engine.getGame().getPlayer2(), frota);
+            Board board = engine.getGame().getPlayer2().getBoard();
+
+            ProbabilityStrategy estrategia = new ProbabilityStrategy(new GameRandom(semente));
+            estrategia.reset(linhas, colunas, frota);
+            List<Integer> afundados = new ArrayList<>();
+            confere(estrategia, board, frota, afundados);
+
+            List<Integer> ordem = new ArrayList<>();
+            for (int celula = 0; celula < linhas * colunas; celula++) {
+                ordem.add(celula);
+            }
+            Collections.shuffle(ordem, random);
+            for (int tiro = 0; tiro < ordem.size(); tiro++) {
+                int row = ordem.get(tiro) / colunas;
+                int col = ordem.get(tiro) % colunas;
+                Ship afundado = board.hitCells(row, col);
+                estrategia.onShot(row, col, board.getShipAt(row, col) != null);
+                if (afundado != null) {
+                    estrategia.onSunk(afundado);
+                    afundados.add(afundado.getSize());
+                }
+                if (tiro % 3 == 0) {
+                    estrategia.onShot(row, col, board.getShipAt(row, col) != null);
+                    estrategia.nextShot(ShipType.DESTROYER.criar());
+                }
+                confere(estrategia, board, frota, afundados);
+            }
+        }
+    }
+
+    @Test
+    void miraNosAcertosDeUmNavioFerido() {
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(3)));
+        engine.placeFleet(engine.getGame().getPlayer2(), 2, 3, 4, 5);
+        Board board = engine.getGame().getPlayer2().getBoard();
+        ProbabilityStrategy estrategia = new ProbabilityStrategy(new GameRandom(3));
+        estrategia.reset(10, 10, new int[]{2, 3, 4, 5});
+        Ship ferido = board.getShips().get(3);
+        CellButton acertada = ferido.getPosition().get(1);
+        board.hitCells(acertada.getRow(), acertada.getCol());
+        estrategia.onShot(acertada.getRow(), acertada.getCol(), true);
+
+        int celula = estrategia.nextShot(ShipType.CORVETA.criar());
+        int distancia = Math.abs(celula / 10 - acertada.getRow()) + Math.abs(celula % 10 - acertada.getCol());
+        assertEquals(1, distancia, "Tiro em " + celula);
+        assertFalse(board.getCell(celula / 10, celula % 10).isHit());
+    }
+
+    /**
+     * Recounts, for every cell, the placements of the ships afloat that cross no known water and
+     * no sunk ship, and compares them with the heatmap of the strategy.
+     */
+    private static void confere(ProbabilityStrategy estrategia, Board board, int[] frota, List<Integer> afundados) {
+        int linhas = board.getLinhas();
+        int colunas = board.getColunas();
+        boolean[] bloqueadas = new boolean[linhas * colunas];
+        for (int row = 0; row < linhas; row++) {
+            for (int col = 0; col < colunas; col++) {
+                CellButton cell = board.peekCell(row, col);
+                Ship ship = board.getShipAt(row, col);
+                bloqueadas[row * colunas + col] = cell != null && cell.isHit() && (ship == null || ship.isSunk());
+            }
+        }
+        List<Integer> vivos = new ArrayList<>();
+        for (int tamanho : frota) {
+            vivos.add(tamanho);
+        }
+        for (Integer tamanho : afundados) {
+            vivos.remove(tamanho);
+        }
+
+        int[] esperada = new int[linhas * colunas];
+        for (int tamanho : vivos) {
+            for (int row = 0; row < linhas; row++) {
+                for (int col = 0; col < colunas; col++) {
+                    for (boolean deitado : new boolean[]{true, false}) {
+                        if ((deitado ? col : row) + tamanho > (deitado ? colunas : linhas)) {
+                            continue;
+                        }
+                        boolean livre = true;
+                        for (int i = 0; i < tamanho && livre; i++) {
+                            livre = !bloqueadas[deitado ? row * colunas + col + i : (row + i) * colunas + col];
+                        }
+                        for (int i = 0; i < tamanho && livre; i++) {
+                            esperada[deitado ? row * colunas + col + i : (row + i) * colunas + col]++;
+                        }
+                    }
+                }
+            }
+        }
+        for (int celula = 0; celula < esperada.length; celula++) {
+            assertEquals(esperada[celula], estrategia.getDensidade(celula / colunas, celula % colunas),
+                    "Célula " + celula + " com navios " + vivos);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.ufrn.imd.modelo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AimSetTest {
+
+    @Test
+    void confereComUmConjuntoPorNavio() {
+        Random random = new Random(11);
+        Board board = new Board(23, 29);
+        int celulas = board.getLinhas() * board.getColunas();
+        AimSet mirados = new AimSet(board);
+        Map<Integer, Set<Integer>> esperado = new LinkedHashMap<>();
+        Map<Integer, Integer> centros = new LinkedHashMap<>();
+        int[] alvos = new int[25];
+
+        for (int passo = 0; passo < 5000; passo++) {
+            int navio = random.nextInt(12);
+            int operacao = random.nextInt(20);
+            if (operacao == 0) {
+                mirados.limpa();
+                esperado.clear();
+                centros.clear();
+            } else if (operacao < 5) {
+                mirados.remove(navio);
+                esperado.remove(navio);
+                centros.remove(navio);
+            } else {
+                int centro = random.nextInt(celulas);
+                int n = 1 + random.nextInt(alvos.length);
+                Set<Integer> conjunto = new TreeSet<>();
+                for (int i = 0; i < n; i++) {
+                    alvos[i] = Math.min(celulas - 1, centro + random.nextInt(3 * board.getColunas()));
+                    conjunto.add(alvos[i]);
+                }
+                mirados.mira(navio, centro, alvos, n);
+                esperado.remove(navio);
+                centros.remove(navio);
+                esperado.put(navio, conjunto);
+                centros.put(navio, centro);
+            }
+            confere(board, mirados, esperado, centros);
+        }
+    }
+
+    private static void confere(Board board, AimSet mirados, Map<Integer, Set<Integer>> esperado,
+                                Map<Integer, Integer> centros) {
+        TreeSet<Integer> uniao = new TreeSet<>();
+        esperado.values().forEach(uniao::addAll);
+        int colunas = board.getColunas();
+        for (int celula = 0; celula < board.getLinhas() * colunas; celula++) {
+            assertEquals(uniao.contains(celula), mirados.isMirada(celula));
+            CellButton cell = board.peekCell(celula / colunas, celula % colunas);
+            assertEquals(uniao.contains(celula), cell != null && cell.getAimed());
+        }
+
+        List<Integer> percorridas = new ArrayList<>();
+        for (int celula = mirados.proxima(0); celula >= 0; celula = mirados.proxima(celula + 1)) {
+            percorridas.add(celula);
+        }
+        assertEquals(new ArrayList<>(uniao), percorridas);
+
+        assertEquals(esperado.size(), mirados.getMirados());
+        List<Integer> ordem = new ArrayList<>(centros.values());
+        for (int i = 0; i < ordem.size(); i++) {
+            assertEquals(ordem.get(i), mirados.getCentro(i));
+        }
+        for (int navio = 0; navio < 12; navio++) {
+            assertEquals(esperado.containsKey(navio), mirados.hasMirado(navio));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.ufrn.imd.modelo;
+
+import br.ufrn.imd.controle.GameEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BitBoardTest {
+
+    @Test
+    void confereComOBoard() {
+        Random random = new Random(13);
+        int[] alvos = new int[8];
+        for (long semente = 0; semente < 100; semente++) {
+            GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(semente)));
+            Board board = engine.getGame().getPlayer1().getBoard();
+            engine.placeFleet(engine.getGame().getPlayer1(), 2, 3, 4, 5, 2, 3);
+            int colocados = board.getShips().size();
+            VolleyResult resultado = new VolleyResult();
+            for (int volley = 0; volley < 12; volley++) {
+                for (int i = 0; i < alvos.length; i++) {
+                    alvos[i] = random.nextInt(100);
+                }
+                board.resolveVolley(alvos, alvos.length, null, 0, resultado);
+                confere(board, BitBoard.from(board), colocados);
+            }
+        }
+    }
+
+    @Test
+    void guardaOsNaviosAfundados() {
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(1)));
+        Board board = engine.getGame().getPlayer1().getBoard();
+        engine.placeFleet(engine.getGame().getPlayer1(), 2, 3);
+        Ship afundado = board.getShips().get(0);
+        int[] alvos = new int[afundado.getSize()];
+        for (int i = 0; i < alvos.length; i++) {
+            CellButton cell = afundado.getPosition().get(i);
+            alvos[i] = cell.getRow() * 10 + cell.getCol();
+        }
+        board.resolveVolley(alvos, alvos.length, null, 0, new VolleyResult());
+        assertEquals(1, board.getShips().size());
+
+        BitBoard bits = BitBoard.from(board);
+        assertEquals(2, bits.getNumShips());
+        assertEquals(1, bits.livingShips());
+        for (CellButton cell : afundado.getPosition()) {
+            assertTrue(bits.isShip(cell.getRow(), cell.getCol()));
+            assertTrue(bits.isSunk(bits.shipAt(cell.getRow(), cell.getCol())));
+        }
+    }
+
+    private static void confere(Board board, BitBoard bits, int colocados) {
+        assertEquals(colocados, bits.getNumShips());
+        assertEquals(board.getNumShips(), bits.livingShips());
+        Map<Ship, Integer> indices = new IdentityHashMap<>();
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                Ship ship = board.getShipAt(row, col);
+                CellButton cell = board.peekCell(row, col);
+                assertEquals(ship != null, bits.isShip(row, col));
+                assertEquals(cell != null && cell.isHit(), bits.isHit(row, col));
+                assertEquals(cell != null && cell.getAimed(), bits.isAimed(row, col));
+                if (ship == null) {
+                    assertEquals(-1, bits.shipAt(row, col));
+                } else {
+                    int navio = bits.shipAt(row, col);
+                    assertEquals(indices.computeIfAbsent(ship, novo -> navio), navio);
+                    assertEquals(ship.isSunk(), bits.isSunk(navio));
+                }
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(board.shipInRow(i), bits.shipInRow(i));
+            assertEquals(board.shipInColumn(i), bits.shipInColumn(i));
+        }
+    }
+}
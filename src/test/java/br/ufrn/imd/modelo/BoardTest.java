@@ -0,0 +1,226 @@
+package br.ufrn.imd.modelo;
+
+import br.ufrn.imd.controle.CelulaInvalidaException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardTest {
+
+    @Test
+    void contadoresConferemComAContagemDasCelulas() throws CelulaInvalidaException {
+        Random random = new Random(7);
+        for (int rodada = 0; rodada < 20; rodada++) {
+            Board board = new Board(17 + random.nextInt(30), 17 + random.nextInt(30));
+            List<Ship> navios = posicionaFrota(board, random, 12);
+            Map<Ship, Integer> afundados = new IdentityHashMap<>();
+            confere(board, navios);
+
+            for (int tiro = 0; tiro < board.getLinhas() * board.getColunas(); tiro++) {
+                Ship afundado = board.hitCells(random.nextInt(board.getLinhas()), random.nextInt(board.getColunas()));
+                if (afundado != null) {
+                    assertTrue(afundado.isSunk());
+                    assertNull(afundados.put(afundado, tiro), "Navio afundado duas vezes");
+                }
+                if (tiro % 37 == 0) {
+                    confere(board, navios);
+                }
+            }
+            confere(board, navios);
+            for (Ship navio : navios) {
+                assertEquals(navio.isSunk(), afundados.containsKey(navio));
+            }
+        }
+    }
+
+    @Test
+    void resetZeraOsContadores() throws CelulaInvalidaException {
+        Random random = new Random(3);
+        Board board = new Board(40, 40);
+        List<Ship> navios = posicionaFrota(board, random, 10);
+        for (int tiro = 0; tiro < 500; tiro++) {
+            board.hitCells(random.nextInt(40), random.nextInt(40));
+        }
+        board.reset();
+        for (Ship navio : navios) {
+            navio.reset();
+        }
+        confere(board, List.of());
+
+        navios = posicionaFrota(board, random, 10);
+        confere(board, navios);
+    }
+
+    @Test
+    void celulasSoSaoCriadasQuandoUsadas() {
+        Board board = new Board(Board.MAX_TAMANHO, Board.MAX_TAMANHO);
+        assertNull(board.peekCell(999, 999));
+        CellButton celula = board.getCell(999, 999);
+        assertSame(celula, board.peekCell(999, 999));
+        assertSame(celula, board.getCell(999, 999));
+        assertNull(board.peekCell(999, 998));
+        assertNull(board.peekCell(0, 0));
+        assertNull(board.getShipAt(500, 500));
+
+        board.getCell(15, 15);
+        board.getCell(16, 16);
+        List<CellButton> criadas = new ArrayList<>();
+        board.forEachCell(criadas::add);
+        assertEquals(3, criadas.size());
+
+        celula.hit();
+        board.reset();
+        assertSame(celula, board.peekCell(999, 999));
+        assertFalse(celula.isHit());
+    }
+
+    @Test
+    void recusaCelulasForaDoTabuleiro() {
+        Board board = new Board(20, 30);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.getCell(20, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.peekCell(0, 30));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.getShipAt(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Board(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new Board(10, Board.MAX_TAMANHO + 1));
+    }
+
+    @Test
+    void alvoRepetidoNaSalvaContaUmAcertoNovo() throws CelulaInvalidaException {
+        Board board = new Board(10, 10);
+        Ship navio = coloca(board, ShipType.SUBMARINO, 5, 2, true);
+        VolleyResult resultado = new VolleyResult();
+
+        board.resolveVolley(new int[] {52, 52, 53, 0}, 4, null, 0, resultado);
+        assertEquals(4, resultado.getTiros());
+        assertEquals(3, resultado.getAcertos());
+        assertEquals(2, resultado.getAcertosNovos());
+        assertEquals(1, resultado.getErros());
+        assertTrue(resultado.isAcerto(0));
+        assertTrue(resultado.isAcerto(1));
+        assertFalse(resultado.isAcerto(3));
+        assertEquals(0, resultado.getNumAfundados());
+        assertEquals(1, board.getCelulasVivasNaLinha(5));
+
+        board.resolveVolley(new int[] {53, 54, 54}, 3, null, 0, resultado);
+        assertEquals(3, resultado.getAcertos());
+        assertEquals(1, resultado.getAcertosNovos());
+        assertEquals(1, resultado.getNumAfundados());
+        assertSame(navio, resultado.getAfundado(0));
+    }
+
+    @Test
+    void salvaAfundaDoisNavios() throws CelulaInvalidaException {
+        Board board = new Board(10, 10);
+        Ship primeiro = coloca(board, ShipType.CORVETA, 0, 0, true);
+        Ship segundo = coloca(board, ShipType.CORVETA, 3, 3, false);
+        Ship intacto = coloca(board, ShipType.FRAGATA, 8, 2, true);
+        VolleyResult resultado = new VolleyResult();
+
+        board.resolveVolley(new int[] {0, 33, 1, 43}, 4, null, 0, resultado);
+        assertEquals(2, resultado.getNumAfundados());
+        assertSame(primeiro, resultado.getAfundado(0));
+        assertSame(segundo, resultado.getAfundado(1));
+        assertEquals(1, board.getNumShips());
+        assertEquals(List.of(intacto), board.getShips());
+    }
+
+    @Test
+    void radarLeOTabuleiroDepoisDaSalvaInteira() throws CelulaInvalidaException {
+        Board board = new Board(10, 10);
+        coloca(board, ShipType.CORVETA, 4, 0, true);
+        coloca(board, ShipType.CORVETA, 7, 5, false);
+        VolleyResult resultado = new VolleyResult();
+
+        board.resolveVolley(new int[] {40, 79, 41}, 3, new int[] {40, 79}, 2, resultado);
+        assertEquals(2, resultado.getNumRadar());
+        assertFalse(resultado.isNaLinha(0), "A linha perdeu sua ultima celula viva na mesma salva");
+        assertFalse(resultado.isNaColuna(0));
+        assertTrue(resultado.isNaLinha(1));
+        assertFalse(resultado.isNaColuna(1));
+    }
+
+    /**
+     * Places a ship of the given type at a fixed anchor.
+     */
+    private static Ship coloca(Board board, ShipType tipo, int row, int col, boolean deitado) throws CelulaInvalidaException {
+        List<CellButton> posicoes = new ArrayList<>();
+        for (int i = 0; i < tipo.getTamanho(); i++) {
+            posicoes.add(deitado ? board.getCell(row, col + i) : board.getCell(row + i, col));
+        }
+        Ship navio = tipo.criar();
+        navio.setPosition(posicoes);
+        board.placeShip(navio, posicoes.get(0));
+        return navio;
+    }
+
+    /**
+     * Places ships at random free anchors, some of them across the 16x16 blocks.
+     */
+    private static List<Ship> posicionaFrota(Board board, Random random, int quantidade) throws CelulaInvalidaException {
+        List<Ship> navios = new ArrayList<>();
+        ShipType[] tipos = ShipType.values();
+        for (int tentativa = 0; navios.size() < quantidade && tentativa < 10_000; tentativa++) {
+            ShipType tipo = tipos[random.nextInt(tipos.length)];
+            boolean deitado = random.nextBoolean();
+            int row = random.nextInt(board.getLinhas());
+            int col = random.nextInt(board.getColunas());
+            if (!board.getTabela().isLivre(tipo.getTamanho(), deitado, row, col)) {
+                continue;
+            }
+            List<CellButton> posicoes = new ArrayList<>();
+            for (int i = 0; i < tipo.getTamanho(); i++) {
+                posicoes.add(deitado ? board.getCell(row, col + i) : board.getCell(row + i, col));
+            }
+            Ship navio = tipo.criar();
+            navio.setPosition(posicoes);
+            board.placeShip(navio, posicoes.get(0));
+            navios.add(navio);
+        }
+        return navios;
+    }
+
+    /**
+     * Compares the counters of the board with a count over every cell.
+     */
+    private static void confere(Board board, List<Ship> navios) {
+        int[] linhas = new int[board.getLinhas()];
+        int[] colunas = new int[board.getColunas()];
+        for (Ship navio : navios) {
+            for (CellButton celula : navio.getPosition()) {
+                assertSame(navio, board.getShipAt(celula.getRow(), celula.getCol()));
+                if (!celula.isHit()) {
+                    linhas[celula.getRow()]++;
+                    colunas[celula.getCol()]++;
+                }
+            }
+        }
+        for (int row = 0; row < linhas.length; row++) {
+            assertEquals(linhas[row], board.getCelulasVivasNaLinha(row));
+            assertEquals(linhas[row] > 0, board.shipInRow(row));
+        }
+        for (int col = 0; col < colunas.length; col++) {
+            assertEquals(colunas[col], board.getCelulasVivasNaColuna(col));
+            assertEquals(colunas[col] > 0, board.shipInColumn(col));
+        }
+        long vivos = navios.stream().filter(navio -> !navio.isSunk()).count();
+        assertEquals(vivos, board.getNumShips());
+        board.attListaNavios();
+        assertEquals(vivos, board.getShips().size());
+        for (Ship navio : board.getShips()) {
+            assertNotNull(navio);
+            assertFalse(navio.isSunk());
+        }
+    }
+}
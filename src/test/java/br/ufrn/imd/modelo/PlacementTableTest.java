@@ -0,0 +1,78 @@
+package br.ufrn.imd.modelo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PlacementTableTest {
+
+    @Test
+    void confereComAForcaBruta() {
+        Random random = new Random(5);
+        int[][] dimensoes = {{1, 1}, {1, 9}, {9, 1}, {8, 8}, {10, 10}, {7, 13}, {13, 7}, {30, 40}};
+        for (int[] dimensao : dimensoes) {
+            int linhas = dimensao[0];
+            int colunas = dimensao[1];
+            PlacementTable tabela = new PlacementTable(linhas, colunas);
+            boolean[][] ocupadas = new boolean[linhas][colunas];
+            for (int rodada = 0; rodada < 3; rodada++) {
+                for (int passo = 0; passo < linhas * colunas / 4 + 1; passo++) {
+                    int row = random.nextInt(linhas);
+                    int col = random.nextInt(colunas);
+                    tabela.ocupa(row, col);
+                    ocupadas[row][col] = true;
+                    if (passo % 5 == 0) {
+                        confere(tabela, ocupadas);
+                    }
+                }
+                confere(tabela, ocupadas);
+                tabela.limpa();
+                ocupadas = new boolean[linhas][colunas];
+                confere(tabela, ocupadas);
+            }
+        }
+    }
+
+    @Test
+    void recusaAncorasForaDoTabuleiro() {
+        PlacementTable tabela = new PlacementTable(10, 10);
+        assertFalse(tabela.cabe(2, true, -1, 0));
+        assertFalse(tabela.cabe(2, true, 0, 10));
+        assertFalse(tabela.cabe(2, false, 10, 0));
+        assertFalse(tabela.cabe(0, true, 0, 0));
+        assertFalse(tabela.cabe(11, true, 0, 0));
+        assertFalse(tabela.isLivre(11, false, 0, 0));
+        for (long palavra : tabela.getAncoras(11, true)) {
+            assertEquals(0, palavra);
+        }
+    }
+
+    private static void confere(PlacementTable tabela, boolean[][] ocupadas) {
+        int linhas = ocupadas.length;
+        int colunas = ocupadas[0].length;
+        for (int tamanho = 1; tamanho <= Math.max(linhas, colunas) + 1; tamanho++) {
+            for (boolean deitado : new boolean[]{true, false}) {
+                long[] ancoras = tabela.getAncoras(tamanho, deitado);
+                for (int row = 0; row < linhas; row++) {
+                    for (int col = 0; col < colunas; col++) {
+                        int fimLinha = deitado ? row : row + tamanho - 1;
+                        int fimColuna = deitado ? col + tamanho - 1 : col;
+                        boolean cabe = fimLinha < linhas && fimColuna < colunas;
+                        boolean livre = cabe;
+                        for (int i = 0; livre && i < tamanho; i++) {
+                            livre = !ocupadas[deitado ? row : row + i][deitado ? col + i : col];
+                        }
+                        int celula = row * colunas + col;
+                        String onde = tamanho + (deitado ? "H" : "V") + " em " + row + "," + col;
+                        assertEquals(cabe, tabela.cabe(tamanho, deitado, row, col), onde);
+                        assertEquals(livre, tabela.isLivre(tamanho, deitado, row, col), onde);
+                        assertEquals(livre, (ancoras[celula >>> 6] & (1L << celula)) != 0, onde);
+                    }
+                }
+            }
+        }
+    }
+}
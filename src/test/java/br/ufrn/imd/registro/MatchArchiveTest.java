@@ -0,0 +1,115 @@
+package br.ufrn.imd.registro;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.ia.HuntTargetStrategy;
+import br.ufrn.imd.ia.RandomStrategy;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MatchArchiveTest {
+    private static final int PARTIDAS = 200;
+
+    @TempDir
+    Path pasta;
+
+    @Test
+    void guardaAsPartidasDoRegistro() throws IOException {
+        List<int[]> esperadas = gravaRegistro(pasta.resolve("partidas.log"));
+        Path arquivo = pasta.resolve("partidas.arq");
+        try (MatchArchiveWriter escritor = new MatchArchiveWriter(arquivo)) {
+            assertEquals(PARTIDAS, escritor.importa(pasta.resolve("partidas.log")));
+        }
+        try (MatchArchive partidas = new MatchArchive(arquivo)) {
+            assertEquals(PARTIDAS, partidas.size());
+            for (int id = 0; id < PARTIDAS; id++) {
+                int[] esperada = esperadas.get(id);
+                assertEquals(esperada[0], partidas.getTurnos(id));
+                assertEquals(esperada[1], partidas.getVencedor(id));
+                assertEquals(id + 1, partidas.getSemente(id));
+                assertEquals(10, partidas.getLinhas(id));
+                assertEquals(10, partidas.getColunas(id));
+                EventCursor cursor = partidas.cursor(id);
+                int turnos = 0;
+                while (cursor.proximo()) {
+                    if (cursor.getTipo() == MatchLogWriter.TURNO) {
+                        turnos++;
+                    }
+                }
+                assertEquals(esperada[0], turnos);
+            }
+        }
+    }
+
+    @Test
+    void janelasPequenasDaoOMesmoResultado() throws IOException {
+        Path log = pasta.resolve("partidas.log");
+        gravaRegistro(log);
+        Path inteiro = pasta.resolve("inteiro.arq");
+        Path emJanelas = pasta.resolve("janelas.arq");
+        try (MatchArchiveWriter escritor = new MatchArchiveWriter(inteiro)) {
+            escritor.importa(log);
+        }
+        try (MatchArchiveWriter escritor = new MatchArchiveWriter(emJanelas)) {
+            assertEquals(PARTIDAS, escritor.importa(log, 1000, 4096));
+        }
+        assertArrayEquals(Files.readAllBytes(inteiro), Files.readAllBytes(emJanelas));
+
+        try (MatchArchive grande = new MatchArchive(inteiro);
+             MatchArchive pequeno = new MatchArchive(inteiro, 256, 64)) {
+            assertEquals(grande.size(), pequeno.size());
+            for (int id = 0; id < grande.size(); id++) {
+                assertEquals(grande.getTurnos(id), pequeno.getTurnos(id));
+                assertEquals(grande.getSemente(id), pequeno.getSemente(id));
+                assertEquals(grande.getVencedor(id), pequeno.getVencedor(id));
+                assertEquals(grande.getColunas(id), pequeno.getColunas(id));
+                assertEquals(grande.eventos(id), pequeno.eventos(id));
+            }
+        }
+    }
+
+    @Test
+    void recusaPartidaMaiorQueASobreposicao() throws IOException {
+        Path log = pasta.resolve("partidas.log");
+        gravaRegistro(log);
+        try (MatchArchiveWriter escritor = new MatchArchiveWriter(pasta.resolve("partidas.arq"))) {
+            assertThrows(IOException.class, () -> escritor.importa(log, 1000, 32));
+        }
+    }
+
+    /**
+     * Plays matches on one engine, reset between them, into a log.
+     *
+     * @return The number of turns and the winner of each match.
+     */
+    private static List<int[]> gravaRegistro(Path log) throws IOException {
+        List<int[]> partidas = new ArrayList<>();
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(1)));
+        try (MatchLogWriter registro = new MatchLogWriter(log)) {
+            engine.setRegistro(registro);
+            for (long semente = 1; semente <= PARTIDAS; semente++) {
+                if (semente > 1) {
+                    engine.reset(new GameRandom(semente));
+                }
+                GameRandom random = new GameRandom(-semente);
+                int turnos = engine.playMatch(new RandomStrategy(random.split()), new HuntTargetStrategy(random.split()), 1000);
+                Game game = engine.getGame();
+                int vencedor = engine.getVencedor() == null ? -1 : engine.getVencedor() == game.getPlayer1() ? 0 : 1;
+                partidas.add(new int[]{turnos, vencedor});
+            }
+        }
+        return partidas;
+    }
+
+}
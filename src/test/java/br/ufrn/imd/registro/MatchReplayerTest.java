@@ -0,0 +1,123 @@
+package br.ufrn.imd.registro;
+
+import br.ufrn.imd.controle.GameEngine;
+import br.ufrn.imd.ia.HuntTargetStrategy;
+import br.ufrn.imd.ia.ProbabilityStrategy;
+import br.ufrn.imd.modelo.Board;
+import br.ufrn.imd.modelo.CellButton;
+import br.ufrn.imd.modelo.Game;
+import br.ufrn.imd.modelo.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchReplayerTest {
+    private static final int MAX_TURNOS = 1000;
+
+    @Test
+    void reproduzUmaPartida() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(7)));
+        List<String[]> esperadas = new ArrayList<>();
+        try (MatchLogWriter registro = new MatchLogWriter(Channels.newChannel(bytes))) {
+            engine.setRegistro(registro);
+            esperadas.add(joga(engine, 7));
+        }
+        confere(esperadas, reproduz(bytes.toByteArray()));
+    }
+
+    @Test
+    void reproduzPartidasDeUmaEngineReiniciada() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(1)));
+        List<String[]> esperadas = new ArrayList<>();
+        try (MatchLogWriter registro = new MatchLogWriter(Channels.newChannel(bytes))) {
+            engine.setRegistro(registro);
+            esperadas.add(joga(engine, 1));
+            for (long semente = 2; semente <= 5; semente++) {
+                engine.reset(new GameRandom(semente));
+                esperadas.add(joga(engine, semente));
+            }
+        }
+        confere(esperadas, reproduz(bytes.toByteArray()));
+    }
+
+    @Test
+    void paraNoTurnoPedido() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameEngine engine = new GameEngine(new Game(10, 10, new GameRandom(3)));
+        try (MatchLogWriter registro = new MatchLogWriter(Channels.newChannel(bytes))) {
+            engine.setRegistro(registro);
+            joga(engine, 3);
+        }
+        try (MatchReplayer replayer = new MatchReplayer(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())))) {
+            assertTrue(replayer.proximaPartida());
+            replayer.replay(2);
+            assertEquals(2, replayer.getTurno());
+            assertFalse(replayer.isFim());
+            assertEquals(-1, replayer.getVencedor());
+            replayer.replay(Integer.MAX_VALUE);
+            assertTrue(replayer.isFim());
+            assertFalse(replayer.proximaPartida());
+        }
+    }
+
+    /**
+     * Plays a match between two strategies and describes how it ended.
+     */
+    private static String[] joga(GameEngine engine, long semente) {
+        GameRandom random = new GameRandom(semente);
+        int turnos = engine.playMatch(new ProbabilityStrategy(random.split()), new HuntTargetStrategy(random.split()), MAX_TURNOS);
+        Game game = engine.getGame();
+        int vencedor = engine.getVencedor() == null ? -1 : engine.getVencedor() == game.getPlayer1() ? 0 : 1;
+        return new String[]{String.valueOf(turnos), String.valueOf(vencedor),
+                desenha(game.getPlayer1().getBoard()), desenha(game.getPlayer2().getBoard())};
+    }
+
+    private static List<String[]> reproduz(byte[] log) throws IOException {
+        List<String[]> partidas = new ArrayList<>();
+        try (MatchReplayer replayer = new MatchReplayer(Channels.newChannel(new ByteArrayInputStream(log)))) {
+            while (replayer.proximaPartida()) {
+                Game game = replayer.replay(Integer.MAX_VALUE);
+                assertTrue(replayer.isFim());
+                partidas.add(new String[]{String.valueOf(replayer.getTurno()), String.valueOf(replayer.getVencedor()),
+                        desenha(game.getPlayer1().getBoard()), desenha(game.getPlayer2().getBoard())});
+            }
+        }
+        return partidas;
+    }
+
+    /**
+     * Draws the ships and the hit cells of a board, one character per cell.
+     */
+    private static String desenha(Board board) {
+        StringBuilder desenho = new StringBuilder();
+        for (int row = 0; row < board.getLinhas(); row++) {
+            for (int col = 0; col < board.getColunas(); col++) {
+                CellButton cell = board.peekCell(row, col);
+                boolean navio = board.getShipAt(row, col) != null;
+                boolean atingida = cell != null && cell.isHit();
+                desenho.append(atingida ? (navio ? 'X' : 'o') : (navio ? 'N' : '.'));
+            }
+            desenho.append('\n');
+        }
+        return desenho.toString();
+    }
+
+    private static void confere(List<String[]> esperadas, List<String[]> reproduzidas) {
+        assertEquals(esperadas.size(), reproduzidas.size());
+        for (int i = 0; i < esperadas.size(); i++) {
+            assertArrayEquals(esperadas.get(i), reproduzidas.get(i), "partida " + (i + 1));
+        }
+    }
+}
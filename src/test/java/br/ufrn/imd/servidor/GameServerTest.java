@@ -0,0 +1,109 @@
+package br.ufrn.imd.servidor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServerTest {
+    private GameServer servidor;
+    private Thread aceitacao;
+
+    @BeforeEach
+    void inicia() throws IOException {
+        servidor = new GameServer(0);
+        aceitacao = Thread.ofVirtual().start(() -> {
+            try {
+                servidor.serve();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @AfterEach
+    void encerra() throws IOException, InterruptedException {
+        servidor.close();
+        aceitacao.join();
+    }
+
+    @Test
+    void recusaPartidaDeOutraSessao() throws IOException {
+        try (Cliente dono = new Cliente(); Cliente intruso = new Cliente()) {
+            String id = dono.pede("NOVO 1").split(" ")[1];
+            assertTrue(intruso.pede("MIRA " + id + " 2 0 0").startsWith("ERRO"));
+            assertTrue(intruso.pede("TURNO " + id).startsWith("ERRO"));
+            assertTrue(intruso.pede("FIM " + id).startsWith("ERRO"));
+            assertEquals(1, servidor.getNumPartidas());
+            assertEquals("OK", dono.pede("MIRA " + id + " 2 0 0"));
+            assertEquals("OK", dono.pede("FIM " + id));
+            assertEquals(0, servidor.getNumPartidas());
+        }
+    }
+
+    @Test
+    void limitaPartidasPorSessao() throws IOException {
+        try (Cliente cliente = new Cliente()) {
+            String ultima = null;
+            for (int i = 0; i < GameServer.MAX_PARTIDAS_POR_SESSAO; i++) {
+                ultima = cliente.pede("NOVO").split(" ")[1];
+            }
+            assertTrue(cliente.pede("NOVO").startsWith("ERRO"));
+            assertEquals("OK", cliente.pede("FIM " + ultima));
+            assertTrue(cliente.pede("NOVO").startsWith("OK"));
+        }
+    }
+
+    @Test
+    void exigeQueTodosOsNaviosMirem() throws IOException {
+        try (Cliente cliente = new Cliente()) {
+            String id = cliente.pede("NOVO 3").split(" ")[1];
+            assertTrue(cliente.pede("TURNO " + id).startsWith("ERRO"));
+            assertEquals("OK", cliente.pede("MIRA " + id + " 2 0 0"));
+            assertTrue(cliente.pede("TURNO " + id).startsWith("ERRO"));
+            assertEquals("OK", cliente.pede("MIRA " + id + " 3 2 0"));
+            assertEquals("OK", cliente.pede("MIRA " + id + " 4 5 5"));
+            assertEquals("OK", cliente.pede("MIRA " + id + " 5 8 5"));
+            assertTrue(cliente.pede("TURNO " + id).startsWith("OK"));
+        }
+    }
+
+    /**
+     * A connection to the server under test.
+     */
+    private class Cliente implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader entrada;
+        private final Writer saida;
+
+        Cliente() throws IOException {
+            socket = new Socket("localhost", servidor.getPorta());
+            entrada = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            saida = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        String pede(String pedido) throws IOException {
+            saida.write(pedido);
+            saida.write('\n');
+            saida.flush();
+            return entrada.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
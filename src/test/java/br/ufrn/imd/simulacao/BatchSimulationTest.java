@@ -0,0 +1,71 @@
+package br.ufrn.imd.simulacao;
+
+import br.ufrn.imd.controle.FrotaInviavelException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSimulationTest {
+    private static final int[] FROTA = {2, 3, 4, 5};
+    private static final int CELULAS_DA_FROTA = 14;
+
+    @TempDir
+    Path pasta;
+
+    @Test
+    void escreveOMesmoArquivoComQualquerNumeroDeThreads() throws IOException {
+        BatchSimulation simulacao = new BatchSimulation("aleatoria", "cacador", FROTA, 10);
+        Path umaThread = pasta.resolve("uma.csv");
+        Path quatroThreads = pasta.resolve("quatro.csv");
+        simulacao.run(umaThread, 20000, 5, 1);
+        simulacao.run(quatroThreads, 20000, 5, 4);
+        List<String> linhas = Files.readAllLines(umaThread);
+        assertEquals(linhas, Files.readAllLines(quatroThreads));
+        for (int i = 1; i < linhas.size(); i++) {
+            assertTrue(linhas.get(i).startsWith((i - 1) + ","), linhas.get(i));
+        }
+    }
+
+    @Test
+    void acertosNaoPassamDasCelulasDaFrota() throws IOException {
+        Path arquivo = pasta.resolve("partidas.csv");
+        new BatchSimulation("probabilidade", "cacador", FROTA, 10).run(arquivo, 2000, 11, 2);
+        List<String> linhas = Files.readAllLines(arquivo);
+        String[] colunas = BatchSimulation.colunas();
+        assertEquals(String.join(",", colunas), linhas.get(0));
+        assertEquals(2001, linhas.size());
+
+        int tipos = (colunas.length - 5) / 2;
+        for (String linha : linhas.subList(1, linhas.size())) {
+            String[] valores = linha.split(",");
+            int vencedor = Integer.parseInt(valores[2]);
+            for (int lado = 1; lado <= 2; lado++) {
+                int acertos = 0;
+                for (int t = 0; t < tipos; t++) {
+                    acertos += Integer.parseInt(valores[5 + (lado - 1) * tipos + t]);
+                }
+                assertTrue(acertos <= CELULAS_DA_FROTA, linha);
+                if (vencedor == lado) {
+                    assertEquals(CELULAS_DA_FROTA, acertos, linha);
+                }
+            }
+        }
+    }
+
+    @Test
+    void falhaDeUmaPartidaChegaAQuemChamou() {
+        BatchSimulation simulacao = new BatchSimulation("aleatoria", "aleatoria", new int[]{5, 5, 5, 5, 5, 2}, 5);
+        for (int threads = 1; threads <= 3; threads++) {
+            int n = threads;
+            assertThrows(FrotaInviavelException.class, () -> simulacao.run(pasta.resolve(n + ".csv"), 5000, 1, n));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.ufrn.imd.simulacao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarTest {
+    private static final String[] NOMES = {"turnos", "vencedor", "tiros_navegação", "grande"};
+
+    @TempDir
+    Path pasta;
+
+    @Test
+    void leOQueFoiEscrito() throws IOException {
+        Random random = new Random(9);
+        List<int[][]> blocos = new ArrayList<>();
+        for (int b = 0; b < 60; b++) {
+            int linhas = b % 10 == 0 ? 0 : 1 + random.nextInt(20_000);
+            int[][] bloco = new int[NOMES.length][linhas];
+            for (int i = 0; i < linhas; i++) {
+                bloco[0][i] = random.nextInt(256);
+                bloco[1][i] = random.nextInt(3) - 1;
+                bloco[2][i] = random.nextInt(1 << 16);
+                bloco[3][i] = b % 2 == 0 ? random.nextInt() : random.nextInt(200);
+            }
+            blocos.add(bloco);
+        }
+
+        Path arquivo = pasta.resolve("partidas.col");
+        long total = 0;
+        try (ColumnarWriter escritor = new ColumnarWriter(arquivo, NOMES)) {
+            for (int[][] bloco : blocos) {
+                escritor.escreve(bloco, bloco[0].length);
+                total += bloco[0].length;
+            }
+            assertEquals(total, escritor.getLinhas());
+        }
+
+        try (ColumnarReader leitor = new ColumnarReader(arquivo)) {
+            assertArrayEquals(NOMES, leitor.getNomes());
+            assertEquals(2, leitor.indice("tiros_navegação"));
+            assertEquals(-1, leitor.indice("acertos"));
+            for (int[][] bloco : blocos) {
+                int linhas = leitor.proximoBloco();
+                assertEquals(bloco[0].length, linhas);
+                for (int c = 0; c < NOMES.length; c++) {
+                    assertArrayEquals(bloco[c], Arrays.copyOf(leitor.getColuna(c), linhas), NOMES[c]);
+                }
+            }
+            assertEquals(-1, leitor.proximoBloco());
+        }
+    }
+
+    @Test
+    void recusaColunasQueNaoBatemComOCabecalho() throws IOException {
+        try (ColumnarWriter escritor = new ColumnarWriter(pasta.resolve("partidas.col"), NOMES)) {
+            assertThrows(IllegalArgumentException.class, () -> escritor.escreve(new int[2][1], 1));
+        }
+    }
+
+    @Test
+    void recusaArquivoDeOutroFormato() throws IOException {
+        Path arquivo = pasta.resolve("partidas.csv");
+        Files.writeString(arquivo, "turnos,vencedor\n12,1\n");
+        assertThrows(IOException.class, () -> new ColumnarReader(arquivo).close());
+    }
+
+    @Test
+    void recusaArquivoTruncado() throws IOException {
+        Path arquivo = pasta.resolve("partidas.col");
+        try (ColumnarWriter escritor = new ColumnarWriter(arquivo, NOMES)) {
+            escritor.escreve(new int[][]{{1, 2}, {0, 1}, {3, 4}, {5, 6}}, 2);
+        }
+        byte[] bytes = Files.readAllBytes(arquivo);
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length - 1));
+        try (ColumnarReader leitor = new ColumnarReader(arquivo)) {
+            assertThrows(IOException.class, leitor::proximoBloco);
+        }
+    }
+}
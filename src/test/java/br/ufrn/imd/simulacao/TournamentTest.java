@@ -0,0 +1,40 @@
+package br.ufrn.imd.simulacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TournamentTest {
+    private static final int PARTIDAS = 2000;
+
+    @Test
+    void mesmaSementeDaOMesmoResultado() {
+        Tournament torneio = new Tournament("probabilidade", "cacador");
+        ForkJoinPool umaThread = new ForkJoinPool(1);
+        ForkJoinPool quatroThreads = new ForkJoinPool(4);
+        try {
+            TournamentResult primeiro = torneio.run(PARTIDAS, 42, umaThread);
+            confere(primeiro, torneio.run(PARTIDAS, 42, umaThread));
+            confere(primeiro, torneio.run(PARTIDAS, 42, quatroThreads));
+            confere(primeiro, new Tournament("probabilidade", "cacador").run(PARTIDAS, 42, quatroThreads));
+
+            assertEquals(PARTIDAS, primeiro.getPartidas());
+            assertEquals(PARTIDAS, primeiro.getVitorias1() + primeiro.getVitorias2() + primeiro.getEmpates());
+            assertNotEquals(primeiro.getMediaTurnos(), torneio.run(PARTIDAS, 43, umaThread).getMediaTurnos());
+        } finally {
+            umaThread.shutdown();
+            quatroThreads.shutdown();
+        }
+    }
+
+    private static void confere(TournamentResult esperado, TournamentResult obtido) {
+        assertEquals(esperado.getPartidas(), obtido.getPartidas());
+        assertEquals(esperado.getVitorias1(), obtido.getVitorias1());
+        assertEquals(esperado.getVitorias2(), obtido.getVitorias2());
+        assertEquals(esperado.getEmpates(), obtido.getEmpates());
+        assertEquals(esperado.getMediaTurnos(), obtido.getMediaTurnos());
+    }
+}